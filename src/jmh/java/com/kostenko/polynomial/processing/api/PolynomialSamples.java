@@ -0,0 +1,110 @@
+package com.kostenko.polynomial.processing.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.StringJoiner;
+
+public final class PolynomialSamples {
+    private static final int SPARSE_DEGREE_STEP = 997;
+    private static final int MAX_COEFFICIENT = 99;
+
+    public enum DegreeLayout {
+        DENSE,
+        SPARSE
+    }
+
+    public enum Syntax {
+        SIMPLE,
+        COMPLEX
+    }
+
+    private PolynomialSamples() {
+    }
+
+    public static int[] degrees(int termCount, DegreeLayout layout, Random random) {
+        int[] degrees = new int[termCount];
+        for (int i = 0; i < termCount; i++) {
+            int index = termCount - 1 - i;
+            degrees[i] = layout == DegreeLayout.DENSE
+                    ? index
+                    : index * SPARSE_DEGREE_STEP + random.nextInt(SPARSE_DEGREE_STEP);
+        }
+        return degrees;
+    }
+
+    public static int[] coefficients(int termCount, Random random) {
+        int[] coefficients = new int[termCount];
+        for (int i = 0; i < termCount; i++) {
+            int coefficient = random.nextInt(MAX_COEFFICIENT) + 1;
+            coefficients[i] = random.nextBoolean() ? coefficient : -coefficient;
+        }
+        return coefficients;
+    }
+
+    public static String polynomialString(int termCount, DegreeLayout layout, Syntax syntax, Random random) {
+        int[] degrees = degrees(termCount, layout, random);
+        int[] coefficients = coefficients(termCount, random);
+        return syntax == Syntax.SIMPLE
+                ? simpleString(degrees, coefficients)
+                : complexString(degrees, coefficients, random);
+    }
+
+    public static String productString(int factorCount, int factorTermCount, DegreeLayout layout, Random random) {
+        StringJoiner product = new StringJoiner("*");
+        for (int i = 0; i < factorCount; i++) {
+            product.add("(" + polynomialString(factorTermCount, layout, Syntax.SIMPLE, random) + ")");
+        }
+        return product.toString();
+    }
+
+    private static String simpleString(int[] degrees, int[] coefficients) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < degrees.length; i++) {
+            appendTerm(builder, coefficients[i], degrees[i], i == 0, " ");
+        }
+        return builder.toString();
+    }
+
+    private static String complexString(int[] degrees, int[] coefficients, Random random) {
+        List<int[]> terms = new ArrayList<>(degrees.length * 2);
+        for (int i = 0; i < degrees.length; i++) {
+            int part = random.nextInt(MAX_COEFFICIENT) + 1;
+            if (part == coefficients[i]) {
+                part++;
+            }
+            terms.add(new int[]{degrees[i], coefficients[i] - part});
+            terms.add(new int[]{degrees[i], part});
+        }
+        Collections.shuffle(terms, random);
+
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < terms.size(); i++) {
+            int[] term = terms.get(i);
+            appendTerm(builder, term[1], term[0], i == 0, random.nextBoolean() ? "" : "  ");
+        }
+        return builder.toString();
+    }
+
+    private static void appendTerm(StringBuilder builder, int coefficient, int degree, boolean first, String space) {
+        if (first) {
+            builder.append(coefficient < 0 ? "-" : "");
+        } else {
+            builder.append(space).append(coefficient < 0 ? '-' : '+').append(space);
+        }
+
+        int absoluteCoefficient = Math.abs(coefficient);
+        if (degree == 0) {
+            builder.append(absoluteCoefficient);
+            return;
+        }
+        if (absoluteCoefficient != 1) {
+            builder.append(absoluteCoefficient).append('*');
+        }
+        builder.append('x');
+        if (degree != 1) {
+            builder.append('^').append(degree);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.kostenko.polynomial.processing.api.model.impl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DenseConvolutionBenchmark {
+    @Param({"16", "32", "48", "64", "128", "256", "512", "1024", "4096", "16384"})
+    private int length;
+
+    private int[] first;
+    private int[] second;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(length);
+        first = random.ints(length).toArray();
+        second = random.ints(length).toArray();
+    }
+
+    @Benchmark
+    public int[] schoolbook() {
+        return DenseConvolution.schoolbook(first, second);
+    }
+
+    @Benchmark
+    public int[] karatsuba() {
+        return DenseConvolution.karatsuba(first, second);
+    }
+
+    @Benchmark
+    public int[] numberTheoreticTransform() {
+        return DenseConvolution.numberTheoreticTransform(first, second);
+    }
+}
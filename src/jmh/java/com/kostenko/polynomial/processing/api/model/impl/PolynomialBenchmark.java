@@ -0,0 +1,193 @@
+package com.kostenko.polynomial.processing.api.model.impl;
+
+import com.kostenko.polynomial.processing.api.PolynomialSamples;
+import com.kostenko.polynomial.processing.api.PolynomialSamples.DegreeLayout;
+import com.kostenko.polynomial.processing.api.model.EvaluationOverflowMode;
+import com.kostenko.polynomial.processing.api.model.Polynomial;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolynomialBenchmark {
+    private static final int X = 3;
+
+    @State(Scope.Benchmark)
+    public static class TermsState {
+        @Param({"10", "1000", "100000"})
+        int termCount;
+        @Param({"DENSE", "SPARSE"})
+        DegreeLayout layout;
+
+        Polynomial polynomial;
+        Polynomial simplifiedPolynomial;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Random random = new Random(termCount);
+            int[] degrees = PolynomialSamples.degrees(termCount, layout, random);
+            int[] coefficients = PolynomialSamples.coefficients(termCount, random);
+
+            int[] repeatedDegrees = new int[termCount * 2];
+            int[] repeatedCoefficients = new int[termCount * 2];
+            for (int i = 0; i < termCount; i++) {
+                repeatedDegrees[i] = degrees[i];
+                repeatedCoefficients[i] = coefficients[i];
+                repeatedDegrees[termCount * 2 - 1 - i] = degrees[i];
+                repeatedCoefficients[termCount * 2 - 1 - i] = -coefficients[i] / 2 + 1;
+            }
+
+            polynomial = PolynomialImpl.fromTerms(repeatedDegrees, repeatedCoefficients, termCount * 2);
+            simplifiedPolynomial = polynomial.simplify();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class FactorsState {
+        @Param({"1", "10", "100"})
+        int factorCount;
+        @Param({"2", "10"})
+        int factorTermCount;
+        @Param({"DENSE", "SPARSE"})
+        DegreeLayout layout;
+
+        Polynomial[] factors;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Random random = new Random(factorCount);
+            factors = new Polynomial[factorCount];
+            for (int i = 0; i < factorCount; i++) {
+                int[] degrees = PolynomialSamples.degrees(factorTermCount, layout, random);
+                int[] coefficients = PolynomialSamples.coefficients(factorTermCount, random);
+                factors[i] = PolynomialImpl.fromTerms(degrees, coefficients, factorTermCount).simplify();
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class PointsState {
+        @Param({"10", "1000"})
+        int termCount;
+        @Param({"16", "1024"})
+        int pointCount;
+        @Param({"DENSE", "SPARSE"})
+        DegreeLayout layout;
+        @Param({"WRAP", "EXACT"})
+        EvaluationOverflowMode overflowMode;
+
+        Polynomial polynomial;
+        int[] xs;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Random random = new Random(termCount);
+            int[] degrees = PolynomialSamples.degrees(termCount, layout, random);
+            int[] coefficients = PolynomialSamples.coefficients(termCount, random);
+            polynomial = PolynomialImpl.fromTerms(degrees, coefficients, termCount).simplify();
+            xs = random.ints(pointCount, -1, 2).toArray();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class CompiledState {
+        @Param({"4", "16", "64"})
+        int termCount;
+        @Param({"DENSE", "SPARSE"})
+        DegreeLayout layout;
+        @Param({"WRAP", "EXACT"})
+        EvaluationOverflowMode overflowMode;
+
+        boolean dense;
+        int polynomialTermCount;
+        int[] coefficientsByDegree;
+        int[] degrees;
+        int[] coefficients;
+        CompiledEvaluator compiledEvaluator;
+        int[] xs;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Random random = new Random(termCount);
+            int[] degrees = PolynomialSamples.degrees(termCount, layout, random);
+            int[] coefficients = PolynomialSamples.coefficients(termCount, random);
+            AbstractPolynomial polynomial = (AbstractPolynomial) PolynomialImpl.fromTerms(degrees, coefficients, termCount).simplify();
+            dense = polynomial instanceof DensePolynomialImpl;
+            polynomialTermCount = polynomial.termCount();
+            coefficientsByDegree = polynomial.coefficientsByDegree();
+            this.degrees = polynomial.degrees();
+            this.coefficients = polynomial.coefficients();
+            compiledEvaluator = CompiledEvaluator.compile(polynomial);
+            xs = random.ints(16, -1, 2).toArray();
+        }
+    }
+
+    @Benchmark
+    public Polynomial simplify(TermsState state) {
+        return state.polynomial.simplify();
+    }
+
+    @Benchmark
+    public int evaluate(TermsState state) {
+        return state.simplifiedPolynomial.evaluate(X, EvaluationOverflowMode.WRAP);
+    }
+
+    @Benchmark
+    public int[] evaluatePointsScalar(PointsState state) {
+        int[] results = new int[state.xs.length];
+        for (int i = 0; i < state.xs.length; i++) {
+            results[i] = state.polynomial.evaluate(state.xs[i], state.overflowMode);
+        }
+        return results;
+    }
+
+    @Benchmark
+    public int[] evaluatePoints(PointsState state) {
+        return state.polynomial.evaluate(state.xs, state.overflowMode);
+    }
+
+    @Benchmark
+    public int evaluateCompiled(CompiledState state) {
+        int sum = 0;
+        for (int x : state.xs) {
+            sum += state.compiledEvaluator.evaluate(x, state.overflowMode);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int evaluateEngine(CompiledState state) {
+        int sum = 0;
+        for (int x : state.xs) {
+            sum += state.dense
+                    ? EvaluationEngine.evaluateDense(state.coefficientsByDegree, state.polynomialTermCount, x, state.overflowMode)
+                    : EvaluationEngine.evaluateSparse(state.degrees, state.coefficients, x, state.overflowMode);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Polynomial multiplyFactors(FactorsState state) {
+        Polynomial product = state.factors[0];
+        for (int i = 1; i < state.factors.length; i++) {
+            product = product.multiply(state.factors[i]);
+        }
+        return product;
+    }
+}
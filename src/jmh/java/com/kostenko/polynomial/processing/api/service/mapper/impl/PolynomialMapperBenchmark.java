@@ -0,0 +1,53 @@
+package com.kostenko.polynomial.processing.api.service.mapper.impl;
+
+import com.kostenko.polynomial.processing.api.PolynomialSamples;
+import com.kostenko.polynomial.processing.api.PolynomialSamples.DegreeLayout;
+import com.kostenko.polynomial.processing.api.model.Polynomial;
+import com.kostenko.polynomial.processing.api.model.impl.PolynomialImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolynomialMapperBenchmark {
+    @Param({"10", "1000", "100000"})
+    private int termCount;
+    @Param({"DENSE", "SPARSE"})
+    private DegreeLayout layout;
+
+    private PolynomialMapperImpl polynomialMapper;
+    private Polynomial polynomial;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(termCount);
+        polynomialMapper = new PolynomialMapperImpl();
+        polynomial = PolynomialImpl.fromTerms(
+                PolynomialSamples.degrees(termCount, layout, random),
+                PolynomialSamples.coefficients(termCount, random),
+                termCount
+        ).simplify();
+    }
+
+    @Benchmark
+    public String mapPolynomialToString() {
+        return polynomialMapper.mapPolynomialToString(polynomial);
+    }
+}
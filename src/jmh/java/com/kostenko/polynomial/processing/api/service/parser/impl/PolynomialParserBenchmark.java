@@ -0,0 +1,97 @@
+package com.kostenko.polynomial.processing.api.service.parser.impl;
+
+import com.kostenko.polynomial.processing.api.PolynomialSamples;
+import com.kostenko.polynomial.processing.api.PolynomialSamples.DegreeLayout;
+import com.kostenko.polynomial.processing.api.PolynomialSamples.Syntax;
+import com.kostenko.polynomial.processing.api.config.PolynomialComputationProperties;
+import com.kostenko.polynomial.processing.api.model.Polynomial;
+import com.kostenko.polynomial.processing.api.service.executor.impl.PolynomialComputationExecutorImpl;
+import com.kostenko.polynomial.processing.api.service.metrics.impl.PolynomialMetricsImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolynomialParserBenchmark {
+    @State(Scope.Benchmark)
+    public static class ParserState {
+        PolynomialComputationExecutorImpl polynomialComputationExecutor;
+        PolynomialParserImpl polynomialParser;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            polynomialComputationExecutor = new PolynomialComputationExecutorImpl(new PolynomialComputationProperties(0));
+            polynomialParser = new PolynomialParserImpl(
+                    polynomialComputationExecutor,
+                    new PolynomialMetricsImpl(new SimpleMeterRegistry())
+            );
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            polynomialComputationExecutor.shutdown();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class TermsState {
+        @Param({"10", "1000", "100000"})
+        int termCount;
+        @Param({"DENSE", "SPARSE"})
+        DegreeLayout layout;
+        @Param({"SIMPLE", "COMPLEX"})
+        Syntax syntax;
+
+        String polynomial;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            polynomial = PolynomialSamples.polynomialString(termCount, layout, syntax, new Random(termCount));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class FactorsState {
+        @Param({"1", "10", "100"})
+        int factorCount;
+        @Param({"2", "10"})
+        int factorTermCount;
+        @Param({"DENSE", "SPARSE"})
+        DegreeLayout layout;
+
+        String polynomial;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            polynomial = PolynomialSamples.productString(factorCount, factorTermCount, layout, new Random(factorCount));
+        }
+    }
+
+    @Benchmark
+    public Polynomial parse(ParserState parserState, TermsState termsState) {
+        return parserState.polynomialParser.parsePolynomial(termsState.polynomial);
+    }
+
+    @Benchmark
+    public Polynomial parseProduct(ParserState parserState, FactorsState factorsState) {
+        return parserState.polynomialParser.parsePolynomial(factorsState.polynomial);
+    }
+}
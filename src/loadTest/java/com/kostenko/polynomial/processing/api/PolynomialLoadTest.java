@@ -0,0 +1,138 @@
+package com.kostenko.polynomial.processing.api;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class PolynomialLoadTest {
+    private static final int TERM_COUNT = 5;
+    private static final int MAX_ABS_X = 100;
+
+    private PolynomialLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = argument(args, 0, "http://localhost:8089");
+        int concurrency = Integer.parseInt(argument(args, 1, "400"));
+        Duration duration = Duration.parse(argument(args, 2, "PT30S"));
+        Duration warmup = Duration.parse(argument(args, 3, "PT10S"));
+        int polynomialCount = Integer.parseInt(argument(args, 4, "5000"));
+
+        List<String> polynomials = polynomials(polynomialCount, new Random(polynomialCount));
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        URI uri = URI.create(baseUrl + "/api/polynomials/evaluate");
+
+        System.out.printf("Warming up %s for %s with %d clients%n", uri, warmup, concurrency);
+        run(client, uri, polynomials, concurrency, warmup);
+        System.out.printf("Measuring %s for %s with %d clients%n", uri, duration, concurrency);
+        Result result = run(client, uri, polynomials, concurrency, duration);
+
+        long[] latencies = result.latencies();
+        Arrays.sort(latencies);
+        System.out.printf("requests=%d errors=%d throughput=%.1f req/s p50=%.2f ms p99=%.2f ms max=%.2f ms%n",
+                latencies.length,
+                result.errors(),
+                latencies.length / (duration.toNanos() / 1e9),
+                percentile(latencies, 0.50) / 1e6,
+                percentile(latencies, 0.99) / 1e6,
+                latencies.length == 0 ? 0 : latencies[latencies.length - 1] / 1e6);
+    }
+
+    private static Result run(HttpClient client, URI uri, List<String> polynomials, int concurrency, Duration duration)
+            throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicLong errors = new AtomicLong();
+        List<Future<long[]>> clients = new ArrayList<>(concurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                clients.add(executor.submit(() -> runClient(client, uri, polynomials, deadline, errors)));
+            }
+        }
+
+        List<long[]> clientLatencies = new ArrayList<>(concurrency);
+        for (Future<long[]> future : clients) {
+            clientLatencies.add(future.get());
+        }
+        long[] latencies = clientLatencies.stream()
+                .flatMapToLong(Arrays::stream)
+                .toArray();
+        return new Result(latencies, errors.get());
+    }
+
+    private static long[] runClient(HttpClient client, URI uri, List<String> polynomials, long deadline, AtomicLong errors) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long[] latencies = new long[1024];
+        int count = 0;
+        while (System.nanoTime() < deadline) {
+            String body = "{\"polynomial\": \"%s\", \"x\": \"%d\"}".formatted(
+                    polynomials.get(random.nextInt(polynomials.size())),
+                    random.nextInt(-MAX_ABS_X, MAX_ABS_X + 1)
+            );
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() >= 500) {
+                    errors.incrementAndGet();
+                    continue;
+                }
+            } catch (Exception e) {
+                errors.incrementAndGet();
+                continue;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, 2 * count);
+            }
+            latencies[count++] = System.nanoTime() - start;
+        }
+        return Arrays.copyOf(latencies, count);
+    }
+
+    private static List<String> polynomials(int polynomialCount, Random random) {
+        List<String> polynomials = new ArrayList<>(polynomialCount);
+        for (int i = 0; i < polynomialCount; i++) {
+            StringBuilder polynomial = new StringBuilder();
+            for (int degree = TERM_COUNT - 1; degree >= 0; degree--) {
+                int coefficient = random.nextInt(1, 10);
+                polynomial.append(random.nextBoolean() ? " + " : " - ")
+                        .append(coefficient);
+                if (degree > 0) {
+                    polynomial.append("*x^").append(degree);
+                }
+            }
+            polynomials.add(polynomial.substring(3));
+        }
+        return polynomials;
+    }
+
+    private static long percentile(long[] sortedValues, double percentile) {
+        if (sortedValues.length == 0) {
+            return 0;
+        }
+        return sortedValues[(int) Math.ceil(percentile * sortedValues.length) - 1];
+    }
+
+    private static String argument(String[] args, int index, String defaultValue) {
+        return args.length > index ? args[index] : defaultValue;
+    }
+
+    private record Result(long[] latencies, long errors) { }
+}
@@ -2,10 +2,10 @@ package com.kostenko.polynomial.processing.api;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.retry.annotation.EnableRetry;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
-@EnableRetry
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class PolynomialProcessingApiApplication {
     public static void main(String[] args) {
         SpringApplication.run(PolynomialProcessingApiApplication.class, args);
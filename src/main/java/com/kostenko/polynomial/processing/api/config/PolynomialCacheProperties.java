@@ -0,0 +1,9 @@
+package com.kostenko.polynomial.processing.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "polynomial.cache")
+public record PolynomialCacheProperties(long keyMaximumSize,
+                                        long polynomialMaximumSize,
+                                        long evaluationMaximumSize,
+                                        long errorMaximumSize) { }
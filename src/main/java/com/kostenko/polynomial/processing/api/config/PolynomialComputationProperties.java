@@ -0,0 +1,6 @@
+package com.kostenko.polynomial.processing.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "polynomial.computation")
+public record PolynomialComputationProperties(int parallelism) { }
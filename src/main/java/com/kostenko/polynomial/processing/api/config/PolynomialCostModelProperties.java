@@ -0,0 +1,12 @@
+package com.kostenko.polynomial.processing.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "polynomial.cost-model")
+public record PolynomialCostModelProperties(boolean enabled,
+                                            double nanosPerCharacter,
+                                            double nanosPerFactor,
+                                            double nanosPerTermProduct,
+                                            Duration threshold) { }
@@ -0,0 +1,7 @@
+package com.kostenko.polynomial.processing.api.config;
+
+import com.kostenko.polynomial.processing.api.model.EvaluationOverflowMode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "polynomial.evaluation")
+public record PolynomialEvaluationProperties(EvaluationOverflowMode overflowMode) { }
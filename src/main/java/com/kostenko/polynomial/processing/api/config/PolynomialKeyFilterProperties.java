@@ -0,0 +1,11 @@
+package com.kostenko.polynomial.processing.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "polynomial.key-filter")
+public record PolynomialKeyFilterProperties(boolean enabled,
+                                            long expectedInsertions,
+                                            double falsePositiveProbability,
+                                            Duration rebuildInterval) { }
@@ -0,0 +1,12 @@
+package com.kostenko.polynomial.processing.api.config;
+
+import com.kostenko.polynomial.processing.api.service.writer.WriteBehindOverflowStrategy;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "polynomial.write-behind")
+public record PolynomialWriteBehindProperties(int queueCapacity,
+                                              int batchSize,
+                                              Duration flushInterval,
+                                              WriteBehindOverflowStrategy overflowStrategy) { }
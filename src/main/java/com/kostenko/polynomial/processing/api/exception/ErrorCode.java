@@ -17,6 +17,10 @@ public enum ErrorCode {
     IMPOSSIBLE_TO_PARSE_DEGREE(5, "Impossible to parse degree from term (%s). The example of a correct terms: '2 * x^2', 'x ^ 5'"),
     INCORRECT_DEGREE_SIGN_POSITION(6, "Impossible to parse term (%s): incorrect sign '^' position: it should be after 'x' in each term. The example of a correct terms: '2 * x^2', 'x ^ 5'"),
 
+    DEGREE_OVERFLOW(7, "Impossible to multiply polynomials: the resulting degree exceeds the maximum supported degree (%s)"),
+    EVALUATION_OVERFLOW(8, "Impossible to evaluate polynomial for x = %s: the result exceeds the supported integer range"),
+    INVALID_RANGE(9, "Invalid range of x: start = %s, end = %s, step = %s. The start should not exceed the end and the step should be positive"),
+
     UNKNOWN_EXCEPTION(999, "Unknown exception");
 
     private final int code;
@@ -2,6 +2,9 @@ package com.kostenko.polynomial.processing.api.exception;
 
 import lombok.Getter;
 
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
 @Getter
 public class PolynomialBaseException extends RuntimeException {
     private final int errorCode;
@@ -17,4 +20,26 @@ public class PolynomialBaseException extends RuntimeException {
         this.errorCode = errorCode.getCode();
         this.parameters = parameters;
     }
+
+    public String toErrorCodeString() {
+        String errorCodeString = "" + errorCode;
+        if (parameters != null) {
+            errorCodeString += " " + Arrays.stream(parameters)
+                    .map(Object::toString)
+                    .collect(Collectors.joining(" "));
+        }
+        return errorCodeString;
+    }
+
+    public static PolynomialBaseException fromErrorCodeString(String errorCodeString) {
+        String[] errorCodeArray = errorCodeString.split(" ");
+        ErrorCode errorCode = ErrorCode.getErrorCodeByCode(Integer.parseInt(errorCodeArray[0]));
+
+        Object[] parameters = null;
+        if (errorCodeArray.length > 1) {
+            parameters = Arrays.stream(errorCodeArray).skip(1).toArray();
+        }
+
+        return new PolynomialBaseException(errorCode, parameters);
+    }
 }
@@ -3,34 +3,36 @@ package com.kostenko.polynomial.processing.api.exception.handler;
 import com.kostenko.polynomial.processing.api.exception.ErrorCode;
 import com.kostenko.polynomial.processing.api.exception.PolynomialBaseException;
 import com.kostenko.polynomial.processing.api.exception.parser.impl.PolynomialParserPolynomialRelatedException;
-import com.kostenko.polynomial.processing.api.repository.PolynomialRepository;
 import com.kostenko.polynomial.processing.api.repository.entity.PolynomialEntity;
+import com.kostenko.polynomial.processing.api.service.cache.PolynomialCache;
+import com.kostenko.polynomial.processing.api.service.canonicalizer.PolynomialCanonicalizer;
+import com.kostenko.polynomial.processing.api.service.writer.PolynomialWriter;
 import com.kostenko.polynomial.processing.api.web.PolynomialProcessingApiController;
 import com.kostenko.polynomial.processing.api.web.dto.ErrorResponseDto;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.DataAccessException;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
-import java.util.Arrays;
-import java.util.stream.Collectors;
-
 @Slf4j
 @AllArgsConstructor
 @ControllerAdvice(assignableTypes = PolynomialProcessingApiController.class)
+@Profile("!reactive")
 public class PolynomialWebExceptionHandler {
-    private final PolynomialRepository polynomialRepository;
+    private final PolynomialWriter polynomialWriter;
+    private final PolynomialCache polynomialCache;
+    private final PolynomialCanonicalizer polynomialCanonicalizer;
 
     @ExceptionHandler(PolynomialBaseException.class)
     public ResponseEntity<ErrorResponseDto> handlePolynomialBaseException(PolynomialBaseException webException) {
         log.error("Retrieved exception PolynomialBaseException", webException);
-        return new ResponseEntity<>(
-                new ErrorResponseDto(webException.getErrorCode(), webException.getMessage()),
-                HttpStatusCode.valueOf(400)
-        );
+        return ResponseEntity.status(HttpStatusCode.valueOf(400))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ErrorResponseDto(webException.getErrorCode(), webException.getMessage()));
     }
 
     @ExceptionHandler(PolynomialParserPolynomialRelatedException.class)
@@ -38,36 +40,26 @@ public class PolynomialWebExceptionHandler {
         log.error("Retrieved polynomial related exception", polynomialRelatedException);
 
         String polynomialSting = polynomialRelatedException.getPolynomialString();
-        int errorCode = polynomialRelatedException.getErrorCode();
-        Object[] parameters = polynomialRelatedException.getParameters();
 
         if (polynomialSting != null) {
-            savePolynomialExceptionToCache(polynomialSting, errorCode, parameters);
+            savePolynomialExceptionToCache(polynomialSting, polynomialRelatedException.toErrorCodeString());
         }
 
-        return new ResponseEntity<>(
-                new ErrorResponseDto(polynomialRelatedException.getErrorCode(), polynomialRelatedException.getMessage()),
-                HttpStatusCode.valueOf(400)
-        );
+        return ResponseEntity.status(HttpStatusCode.valueOf(400))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ErrorResponseDto(polynomialRelatedException.getErrorCode(), polynomialRelatedException.getMessage()));
     }
 
-    private void savePolynomialExceptionToCache(String polynomialString, int code, Object[] parameters) {
-        log.info("Saving polynomial exception to cache for ({}), code={}", polynomialString, code);
-        String errorCodeString = "" + code;
-        if (parameters != null) {
-            errorCodeString += " " + Arrays.stream(parameters)
-                    .map(Object::toString)
-                    .collect(Collectors.joining(" "));
-        }
+    private void savePolynomialExceptionToCache(String polynomialString, String errorCodeString) {
+        log.info("Saving polynomial exception to cache for ({}), code={}", polynomialString, errorCodeString);
+        String polynomialKey = polynomialCanonicalizer.canonicalize(polynomialString);
+        polynomialCache.putErrorCode(polynomialKey, errorCodeString);
 
         PolynomialEntity polynomialEntity = new PolynomialEntity();
+        polynomialEntity.setPolynomialKey(polynomialKey);
         polynomialEntity.setPolynomialRequest(polynomialString);
         polynomialEntity.setErrorCode(errorCodeString);
 
-        try {
-            polynomialRepository.save(polynomialEntity);
-        } catch (DataAccessException e) {
-            log.error("Impossible to save {}", polynomialEntity);
-        }
+        polynomialWriter.writePolynomial(polynomialEntity);
     }
 }
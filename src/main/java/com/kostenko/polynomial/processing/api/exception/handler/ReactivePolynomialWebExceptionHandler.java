@@ -0,0 +1,25 @@
+package com.kostenko.polynomial.processing.api.exception.handler;
+
+import com.kostenko.polynomial.processing.api.exception.PolynomialBaseException;
+import com.kostenko.polynomial.processing.api.web.ReactivePolynomialProcessingApiController;
+import com.kostenko.polynomial.processing.api.web.dto.ErrorResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+@Slf4j
+@ControllerAdvice(assignableTypes = ReactivePolynomialProcessingApiController.class)
+@Profile("reactive")
+public class ReactivePolynomialWebExceptionHandler {
+    @ExceptionHandler(PolynomialBaseException.class)
+    public ResponseEntity<ErrorResponseDto> handlePolynomialBaseException(PolynomialBaseException webException) {
+        log.error("Retrieved exception PolynomialBaseException", webException);
+        return ResponseEntity.status(HttpStatusCode.valueOf(400))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ErrorResponseDto(webException.getErrorCode(), webException.getMessage()));
+    }
+}
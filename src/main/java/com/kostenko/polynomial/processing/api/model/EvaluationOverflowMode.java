@@ -0,0 +1,6 @@
+package com.kostenko.polynomial.processing.api.model;
+
+public enum EvaluationOverflowMode {
+    WRAP,
+    EXACT
+}
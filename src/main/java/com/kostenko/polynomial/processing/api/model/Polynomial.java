@@ -1,9 +1,17 @@
 package com.kostenko.polynomial.processing.api.model;
 
+import java.util.PrimitiveIterator;
+
 public interface Polynomial extends Iterable<Term> {
     Polynomial simplify();
 
     int evaluate(int x);
 
+    int evaluate(int x, EvaluationOverflowMode overflowMode);
+
+    int[] evaluate(int[] xs, EvaluationOverflowMode overflowMode);
+
+    PrimitiveIterator.OfInt evaluateRange(int start, int end, int step, EvaluationOverflowMode overflowMode);
+
     Polynomial multiply(Polynomial polynomial);
 }
@@ -0,0 +1,110 @@
+package com.kostenko.polynomial.processing.api.model.impl;
+
+import com.kostenko.polynomial.processing.api.model.EvaluationOverflowMode;
+import com.kostenko.polynomial.processing.api.model.Polynomial;
+import com.kostenko.polynomial.processing.api.model.Term;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.StringJoiner;
+
+abstract class AbstractPolynomial implements Polynomial {
+    private int evaluationCount;
+    private CompiledEvaluator compiledEvaluator;
+
+    abstract int termCount();
+
+    abstract int maxDegree();
+
+    abstract int[] degrees();
+
+    abstract int[] coefficients();
+
+    abstract int[] coefficientsByDegree();
+
+    abstract int evaluateVectorized(int[] xs, int[] results, EvaluationOverflowMode overflowMode);
+
+    CompiledEvaluator compiledEvaluator() {
+        CompiledEvaluator compiledEvaluator = this.compiledEvaluator;
+        if (compiledEvaluator == null && evaluationCount < CompiledEvaluator.COMPILATION_THRESHOLD
+                && ++evaluationCount == CompiledEvaluator.COMPILATION_THRESHOLD) {
+            compiledEvaluator = CompiledEvaluator.compile(this);
+            this.compiledEvaluator = compiledEvaluator;
+        }
+        return compiledEvaluator;
+    }
+
+    @Override
+    public int evaluate(int x) {
+        return evaluate(x, EvaluationOverflowMode.EXACT);
+    }
+
+    @Override
+    public int[] evaluate(int[] xs, EvaluationOverflowMode overflowMode) {
+        int[] results = new int[xs.length];
+        for (int i = evaluateVectorized(xs, results, overflowMode); i < xs.length; i++) {
+            results[i] = evaluate(xs[i], overflowMode);
+        }
+        return results;
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt evaluateRange(int start, int end, int step, EvaluationOverflowMode overflowMode) {
+        return new RangeEvaluationIterator(this, start, end, step, overflowMode);
+    }
+
+    @Override
+    public Polynomial multiply(Polynomial polynomial) {
+        return PolynomialArithmetic.multiply(this, from(polynomial));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof AbstractPolynomial that) || termCount() != that.termCount()) {
+            return false;
+        }
+
+        Iterator<Term> thisIterator = iterator();
+        Iterator<Term> thatIterator = that.iterator();
+        while (thisIterator.hasNext()) {
+            Term thisTerm = thisIterator.next();
+            Term thatTerm = thatIterator.next();
+            if (thisTerm.degree() != thatTerm.degree() || thisTerm.coefficient() != thatTerm.coefficient()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (Term term : this) {
+            result = 31 * result + term.degree();
+            result = 31 * result + term.coefficient();
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner terms = new StringJoiner(", ", getClass().getSimpleName() + "[terms=[", "]]");
+        forEach(term -> terms.add(term.toString()));
+        return terms.toString();
+    }
+
+    static AbstractPolynomial from(Polynomial polynomial) {
+        if (polynomial instanceof AbstractPolynomial abstractPolynomial) {
+            return abstractPolynomial;
+        }
+
+        List<Term> terms = new ArrayList<>();
+        polynomial.forEach(terms::add);
+        return new PolynomialImpl(terms);
+    }
+}
@@ -0,0 +1,180 @@
+package com.kostenko.polynomial.processing.api.model.impl;
+
+import com.kostenko.polynomial.processing.api.exception.PolynomialBaseException;
+import com.kostenko.polynomial.processing.api.model.EvaluationOverflowMode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.kostenko.polynomial.processing.api.exception.ErrorCode.EVALUATION_OVERFLOW;
+
+abstract class CompiledEvaluator {
+    static final int COMPILATION_THRESHOLD = 1000;
+    static final int MAX_TERM_COUNT = 64;
+    static final int CACHE_SIZE = 1024;
+
+    private static final MethodHandle STEP_WRAPPING;
+    private static final MethodHandle STEP_WRAPPING_LINEAR;
+    private static final MethodHandle FINISH_WRAPPING;
+    private static final MethodHandle STEP_EXACT;
+    private static final MethodHandle STEP_EXACT_LINEAR;
+    private static final MethodHandle FINISH_EXACT;
+    private static final byte[] TEMPLATE;
+
+    private static final Map<AbstractPolynomial, CompiledEvaluator> CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<AbstractPolynomial, CompiledEvaluator> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            STEP_WRAPPING = lookup.findStatic(CompiledEvaluator.class, "stepWrapping",
+                    MethodType.methodType(int.class, int.class, int.class, int.class, int.class));
+            STEP_WRAPPING_LINEAR = lookup.findStatic(CompiledEvaluator.class, "stepWrappingLinear",
+                    MethodType.methodType(int.class, int.class, int.class, int.class));
+            FINISH_WRAPPING = lookup.findStatic(CompiledEvaluator.class, "finishWrapping",
+                    MethodType.methodType(int.class, int.class, int.class, int.class));
+            STEP_EXACT = lookup.findStatic(CompiledEvaluator.class, "stepExact",
+                    MethodType.methodType(long.class, int.class, int.class, long.class, long.class, int.class));
+            STEP_EXACT_LINEAR = lookup.findStatic(CompiledEvaluator.class, "stepExactLinear",
+                    MethodType.methodType(long.class, int.class, long.class, long.class, int.class));
+            FINISH_EXACT = lookup.findStatic(CompiledEvaluator.class, "finishExact",
+                    MethodType.methodType(int.class, int.class, long.class, int.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+        try (InputStream template = CompiledEvaluator.class.getResourceAsStream(CompiledEvaluatorTemplate.class.getSimpleName() + ".class")) {
+            if (template == null) {
+                throw new ExceptionInInitializerError("Class file of " + CompiledEvaluatorTemplate.class.getName() + " wasn't found");
+            }
+            TEMPLATE = template.readAllBytes();
+        } catch (IOException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    abstract int evaluateWrapping(int x) throws Throwable;
+
+    abstract int evaluateExact(int x) throws Throwable;
+
+    static CompiledEvaluator compile(AbstractPolynomial polynomial) {
+        if (polynomial.termCount() > MAX_TERM_COUNT) {
+            return null;
+        }
+
+        synchronized (CACHE) {
+            return CACHE.computeIfAbsent(polynomial, key -> {
+                int[] degrees = key.degrees();
+                int[] coefficients = key.coefficients();
+                return define(compileWrapping(degrees, coefficients), compileExact(degrees, coefficients));
+            });
+        }
+    }
+
+    final int evaluate(int x, EvaluationOverflowMode overflowMode) {
+        try {
+            return overflowMode == EvaluationOverflowMode.WRAP ? evaluateWrapping(x) : evaluateExact(x);
+        } catch (ArithmeticException e) {
+            throw new PolynomialBaseException(EVALUATION_OVERFLOW, x);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static CompiledEvaluator define(MethodHandle wrapping, MethodHandle exact) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClassWithClassData(TEMPLATE, List.of(wrapping, exact), true);
+            return (CompiledEvaluator) lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class)).invoke();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Impossible to define compiled evaluator", e);
+        }
+    }
+
+    private static MethodHandle compileWrapping(int[] degrees, int[] coefficients) {
+        if (degrees.length == 0) {
+            return constant(int.class, 0);
+        }
+
+        MethodHandle result = constant(int.class, coefficients[0]);
+        for (int i = 1; i < degrees.length; i++) {
+            int gap = degrees[i - 1] - degrees[i];
+            MethodHandle step = gap == 1
+                    ? MethodHandles.insertArguments(STEP_WRAPPING_LINEAR, 0, coefficients[i])
+                    : MethodHandles.insertArguments(STEP_WRAPPING, 0, gap, coefficients[i]);
+            result = chain(result, step);
+        }
+        int lastDegree = degrees[degrees.length - 1];
+        return lastDegree == 0 ? result : chain(result, MethodHandles.insertArguments(FINISH_WRAPPING, 0, lastDegree));
+    }
+
+    private static MethodHandle compileExact(int[] degrees, int[] coefficients) {
+        if (degrees.length == 0) {
+            return constant(int.class, 0);
+        }
+
+        long bound = EvaluationEngine.overflowBound(degrees.length);
+        MethodHandle result = constant(long.class, (long) coefficients[0]);
+        for (int i = 1; i < degrees.length; i++) {
+            int gap = degrees[i - 1] - degrees[i];
+            MethodHandle step = gap == 1
+                    ? MethodHandles.insertArguments(STEP_EXACT_LINEAR, 0, coefficients[i], bound)
+                    : MethodHandles.insertArguments(STEP_EXACT, 0, gap, coefficients[i], bound);
+            result = chain(result, step);
+        }
+        return chain(result, MethodHandles.insertArguments(FINISH_EXACT, 0, degrees[degrees.length - 1]));
+    }
+
+    private static MethodHandle constant(Class<?> type, Object value) {
+        return MethodHandles.dropArguments(MethodHandles.constant(type, value), 0, int.class);
+    }
+
+    private static MethodHandle chain(MethodHandle result, MethodHandle step) {
+        MethodHandle combined = MethodHandles.filterArguments(step, 0, result);
+        return MethodHandles.permuteArguments(combined, MethodType.methodType(step.type().returnType(), int.class), 0, 0);
+    }
+
+    private static int stepWrapping(int gap, int coefficient, int result, int x) {
+        return result * EvaluationEngine.powWrapping(x, gap) + coefficient;
+    }
+
+    private static int stepWrappingLinear(int coefficient, int result, int x) {
+        return result * x + coefficient;
+    }
+
+    private static int finishWrapping(int degree, int result, int x) {
+        return result * EvaluationEngine.powWrapping(x, degree);
+    }
+
+    private static long stepExact(int gap, int coefficient, long bound, long result, int x) {
+        if (result != 0) {
+            result = Math.multiplyExact(result, EvaluationEngine.powExact(x, gap));
+        }
+        result = Math.addExact(result, coefficient);
+        EvaluationEngine.checkBound(result, bound);
+        return result;
+    }
+
+    private static long stepExactLinear(int coefficient, long bound, long result, int x) {
+        result = Math.addExact(Math.multiplyExact(result, x), coefficient);
+        EvaluationEngine.checkBound(result, bound);
+        return result;
+    }
+
+    private static int finishExact(int degree, long result, int x) {
+        if (result != 0 && degree != 0) {
+            result = Math.multiplyExact(result, EvaluationEngine.powExact(x, degree));
+        }
+        return Math.toIntExact(result);
+    }
+}
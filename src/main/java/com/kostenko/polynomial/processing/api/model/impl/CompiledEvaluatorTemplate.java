@@ -0,0 +1,30 @@
+package com.kostenko.polynomial.processing.api.model.impl;
+
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+
+final class CompiledEvaluatorTemplate extends CompiledEvaluator {
+    private static final MethodHandle WRAPPING;
+    private static final MethodHandle EXACT;
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            WRAPPING = MethodHandles.classDataAt(lookup, ConstantDescs.DEFAULT_NAME, MethodHandle.class, 0);
+            EXACT = MethodHandles.classDataAt(lookup, ConstantDescs.DEFAULT_NAME, MethodHandle.class, 1);
+        } catch (IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Override
+    int evaluateWrapping(int x) throws Throwable {
+        return (int) WRAPPING.invokeExact(x);
+    }
+
+    @Override
+    int evaluateExact(int x) throws Throwable {
+        return (int) EXACT.invokeExact(x);
+    }
+}
@@ -0,0 +1,72 @@
+package com.kostenko.polynomial.processing.api.model.impl;
+
+import com.kostenko.polynomial.processing.api.model.Polynomial;
+
+import java.util.Arrays;
+
+final class DegreeAccumulator {
+    private static final int EMPTY = -1;
+    private static final int MAX_INITIAL_CAPACITY = 1 << 20;
+
+    private int[] degrees;
+    private int[] coefficients;
+    private int size;
+
+    DegreeAccumulator(long expectedTermCount) {
+        int capacity = Integer.highestOneBit((int) Math.min(expectedTermCount, MAX_INITIAL_CAPACITY)) << 2;
+        this.degrees = new int[Math.max(capacity, 16)];
+        this.coefficients = new int[degrees.length];
+        Arrays.fill(degrees, EMPTY);
+    }
+
+    void add(int degree, int coefficient) {
+        int mask = degrees.length - 1;
+        int index = mix(degree) & mask;
+        while (degrees[index] != EMPTY) {
+            if (degrees[index] == degree) {
+                coefficients[index] += coefficient;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+
+        degrees[index] = degree;
+        coefficients[index] = coefficient;
+        if (++size * 2 > degrees.length) {
+            resize();
+        }
+    }
+
+    Polynomial toPolynomial() {
+        long[] packedTerms = new long[size];
+        int termCount = 0;
+        for (int i = 0; i < degrees.length; i++) {
+            if (degrees[i] != EMPTY && coefficients[i] != 0) {
+                packedTerms[termCount++] = PolynomialLayouts.packTerm(degrees[i], coefficients[i]);
+            }
+        }
+        Arrays.sort(packedTerms, 0, termCount);
+        return PolynomialLayouts.fromSortedPackedTerms(packedTerms, termCount);
+    }
+
+    private void resize() {
+        int[] oldDegrees = degrees;
+        int[] oldCoefficients = coefficients;
+
+        degrees = new int[oldDegrees.length << 1];
+        coefficients = new int[degrees.length];
+        Arrays.fill(degrees, EMPTY);
+        size = 0;
+
+        for (int i = 0; i < oldDegrees.length; i++) {
+            if (oldDegrees[i] != EMPTY) {
+                add(oldDegrees[i], oldCoefficients[i]);
+            }
+        }
+    }
+
+    private static int mix(int degree) {
+        int hash = degree * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
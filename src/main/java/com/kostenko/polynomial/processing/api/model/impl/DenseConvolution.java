@@ -0,0 +1,260 @@
+package com.kostenko.polynomial.processing.api.model.impl;
+
+import java.util.Arrays;
+
+final class DenseConvolution {
+    static final int KARATSUBA_MIN_LENGTH = 64;
+    static final int NTT_MIN_LENGTH = 4096;
+    static final int NTT_MAX_LENGTH = 1 << 23;
+
+    private static final int FIRST_MODULUS = 998_244_353;
+    private static final int SECOND_MODULUS = 167_772_161;
+    private static final int THIRD_MODULUS = 469_762_049;
+    private static final int PRIMITIVE_ROOT = 3;
+
+    private static final long FIRST_MODULUS_INVERSE = modInverse(FIRST_MODULUS % SECOND_MODULUS, SECOND_MODULUS);
+    private static final long FIRST_SECOND_MODULI_INVERSE =
+            modInverse((long) FIRST_MODULUS * SECOND_MODULUS % THIRD_MODULUS, THIRD_MODULUS);
+
+    private DenseConvolution() { }
+
+    static int[] convolve(int[] first, int[] second) {
+        int shorterLength = Math.min(first.length, second.length);
+        int resultLength = first.length + second.length - 1;
+
+        if (shorterLength < KARATSUBA_MIN_LENGTH) {
+            return schoolbook(first, second);
+        }
+        if (shorterLength >= NTT_MIN_LENGTH && resultLength <= NTT_MAX_LENGTH) {
+            return numberTheoreticTransform(first, second);
+        }
+        return karatsuba(first, second);
+    }
+
+    static int[] schoolbook(int[] first, int[] second) {
+        int[] result = new int[first.length + second.length - 1];
+        for (int i = 0; i < first.length; i++) {
+            int coefficient = first[i];
+            if (coefficient == 0) {
+                continue;
+            }
+            for (int j = 0; j < second.length; j++) {
+                result[i + j] += coefficient * second[j];
+            }
+        }
+        return result;
+    }
+
+    static int[] karatsuba(int[] first, int[] second) {
+        int[] longer = first.length >= second.length ? first : second;
+        int[] shorter = longer == first ? second : first;
+        int blockLength = shorter.length;
+
+        int[] result = new int[first.length + second.length - 1];
+        for (int offset = 0; offset < longer.length; offset += blockLength) {
+            int[] block = Arrays.copyOfRange(longer, offset, offset + blockLength);
+            int[] product = karatsubaEqualLength(block, shorter);
+            int end = Math.min(product.length, result.length - offset);
+            for (int i = 0; i < end; i++) {
+                result[offset + i] += product[i];
+            }
+        }
+        return result;
+    }
+
+    static int[] numberTheoreticTransform(int[] first, int[] second) {
+        int resultLength = first.length + second.length - 1;
+        int transformLength = Integer.highestOneBit(resultLength);
+        if (transformLength < resultLength) {
+            transformLength <<= 1;
+        }
+
+        int[] firstResidues = convolveModulo(first, second, transformLength, resultLength, FIRST_MODULUS);
+        int[] secondResidues = convolveModulo(first, second, transformLength, resultLength, SECOND_MODULUS);
+        int[] thirdResidues = convolveModulo(first, second, transformLength, resultLength, THIRD_MODULUS);
+
+        int[] result = new int[resultLength];
+        for (int i = 0; i < resultLength; i++) {
+            result[i] = reconstruct(firstResidues[i], secondResidues[i], thirdResidues[i]);
+        }
+        return result;
+    }
+
+    private static int[] karatsubaEqualLength(int[] first, int[] second) {
+        int length = first.length;
+        if (length < KARATSUBA_MIN_LENGTH) {
+            return schoolbook(first, second);
+        }
+
+        int half = length / 2;
+        int highLength = length - half;
+
+        int[] firstLow = Arrays.copyOfRange(first, 0, half);
+        int[] firstHigh = Arrays.copyOfRange(first, half, length);
+        int[] secondLow = Arrays.copyOfRange(second, 0, half);
+        int[] secondHigh = Arrays.copyOfRange(second, half, length);
+
+        int[] low = karatsubaEqualLength(firstLow, secondLow);
+        int[] high = karatsubaEqualLength(firstHigh, secondHigh);
+
+        int[] firstSum = firstHigh.clone();
+        int[] secondSum = secondHigh.clone();
+        for (int i = 0; i < half; i++) {
+            firstSum[i] += firstLow[i];
+            secondSum[i] += secondLow[i];
+        }
+        int[] middle = karatsubaEqualLength(firstSum, secondSum);
+        for (int i = 0; i < low.length; i++) {
+            middle[i] -= low[i];
+        }
+        for (int i = 0; i < high.length; i++) {
+            middle[i] -= high[i];
+        }
+
+        int[] result = new int[2 * length - 1];
+        System.arraycopy(low, 0, result, 0, low.length);
+        System.arraycopy(high, 0, result, 2 * half, high.length);
+        for (int i = 0; i < 2 * highLength - 1; i++) {
+            result[half + i] += middle[i];
+        }
+        return result;
+    }
+
+    private static int[] convolveModulo(int[] first, int[] second, int transformLength, int resultLength, int modulus) {
+        MontgomeryModulus montgomery = new MontgomeryModulus(modulus);
+        int[] roots = montgomery.roots(transformLength);
+
+        int[] firstTransform = montgomery.toResidues(first, transformLength);
+        int[] secondTransform = montgomery.toResidues(second, transformLength);
+
+        transform(firstTransform, roots, montgomery);
+        transform(secondTransform, roots, montgomery);
+        for (int i = 0; i < transformLength; i++) {
+            firstTransform[i] = montgomery.multiply(firstTransform[i], secondTransform[i]);
+        }
+        transform(firstTransform, roots, montgomery);
+
+        int[] result = new int[resultLength];
+        int lengthInverse = montgomery.toMontgomery(modInverse(transformLength, modulus));
+        result[0] = montgomery.fromMontgomery(montgomery.multiply(firstTransform[0], lengthInverse));
+        for (int i = 1; i < resultLength; i++) {
+            result[i] = montgomery.fromMontgomery(montgomery.multiply(firstTransform[transformLength - i], lengthInverse));
+        }
+        return result;
+    }
+
+    private static void transform(int[] values, int[] roots, MontgomeryModulus montgomery) {
+        int length = values.length;
+        int modulus = montgomery.modulus;
+
+        for (int i = 1, j = 0; i < length; i++) {
+            int bit = length >> 1;
+            for (; (j & bit) != 0; bit >>= 1) {
+                j ^= bit;
+            }
+            j ^= bit;
+            if (i < j) {
+                int value = values[i];
+                values[i] = values[j];
+                values[j] = value;
+            }
+        }
+
+        for (int blockLength = 2; blockLength <= length; blockLength <<= 1) {
+            int halfBlockLength = blockLength >> 1;
+            int rootStep = length / blockLength;
+            for (int start = 0; start < length; start += blockLength) {
+                for (int k = 0, rootIndex = 0; k < halfBlockLength; k++, rootIndex += rootStep) {
+                    int u = values[start + k];
+                    int v = montgomery.multiply(values[start + k + halfBlockLength], roots[rootIndex]);
+                    int sum = u + v;
+                    int difference = u - v;
+                    values[start + k] = sum >= modulus ? sum - modulus : sum;
+                    values[start + k + halfBlockLength] = difference < 0 ? difference + modulus : difference;
+                }
+            }
+        }
+    }
+
+    private static int reconstruct(int firstResidue, int secondResidue, int thirdResidue) {
+        long second = (secondResidue - firstResidue % SECOND_MODULUS + SECOND_MODULUS) % SECOND_MODULUS
+                * FIRST_MODULUS_INVERSE % SECOND_MODULUS;
+        long partial = (firstResidue + FIRST_MODULUS % THIRD_MODULUS * second) % THIRD_MODULUS;
+        long third = (thirdResidue - partial + THIRD_MODULUS) % THIRD_MODULUS
+                * FIRST_SECOND_MODULI_INVERSE % THIRD_MODULUS;
+        return (int) (firstResidue + (long) FIRST_MODULUS * second + (long) FIRST_MODULUS * SECOND_MODULUS * third);
+    }
+
+    private static long modPow(long base, long exponent, long modulus) {
+        long result = 1;
+        base %= modulus;
+        while (exponent > 0) {
+            if ((exponent & 1) == 1) {
+                result = result * base % modulus;
+            }
+            base = base * base % modulus;
+            exponent >>= 1;
+        }
+        return result;
+    }
+
+    private static long modInverse(long value, long modulus) {
+        return modPow(value, modulus - 2, modulus);
+    }
+
+    private static final class MontgomeryModulus {
+        private final int modulus;
+        private final int negativeInverse;
+        private final int rSquared;
+
+        private MontgomeryModulus(int modulus) {
+            this.modulus = modulus;
+
+            int inverse = modulus;
+            for (int i = 0; i < 4; i++) {
+                inverse *= 2 - modulus * inverse;
+            }
+            this.negativeInverse = -inverse;
+
+            long r = (1L << 32) % modulus;
+            this.rSquared = (int) (r * r % modulus);
+        }
+
+        private int multiply(int first, int second) {
+            return reduce((long) first * second);
+        }
+
+        private int reduce(long value) {
+            long m = Integer.toUnsignedLong((int) value * negativeInverse);
+            int result = (int) ((value + m * modulus) >>> 32);
+            return result >= modulus ? result - modulus : result;
+        }
+
+        private int toMontgomery(long value) {
+            return multiply((int) value, rSquared);
+        }
+
+        private int fromMontgomery(int value) {
+            return reduce(value);
+        }
+
+        private int[] toResidues(int[] coefficients, int transformLength) {
+            int[] residues = new int[transformLength];
+            for (int i = 0; i < coefficients.length; i++) {
+                residues[i] = toMontgomery(Integer.toUnsignedLong(coefficients[i]) % modulus);
+            }
+            return residues;
+        }
+
+        private int[] roots(int transformLength) {
+            int root = toMontgomery(modPow(PRIMITIVE_ROOT, (modulus - 1) / transformLength, modulus));
+            int[] roots = new int[transformLength / 2];
+            int power = toMontgomery(1);
+            for (int i = 0; i < roots.length; i++) {
+                roots[i] = power;
+                power = multiply(power, root);
+            }
+            return roots;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.kostenko.polynomial.processing.api.model.impl;
+
+import com.kostenko.polynomial.processing.api.model.EvaluationOverflowMode;
+import com.kostenko.polynomial.processing.api.model.Polynomial;
+import com.kostenko.polynomial.processing.api.model.Term;
+import lombok.NonNull;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public final class DensePolynomialImpl extends AbstractPolynomial {
+    private final int[] coefficientsByDegree;
+    private final int termCount;
+
+    DensePolynomialImpl(int[] coefficientsByDegree, int termCount) {
+        this.coefficientsByDegree = coefficientsByDegree;
+        this.termCount = termCount;
+    }
+
+    @Override
+    public Polynomial simplify() {
+        return this;
+    }
+
+    @Override
+    public int evaluate(int x, EvaluationOverflowMode overflowMode) {
+        CompiledEvaluator compiledEvaluator = compiledEvaluator();
+        if (compiledEvaluator != null) {
+            return compiledEvaluator.evaluate(x, overflowMode);
+        }
+        return EvaluationEngine.evaluateDense(coefficientsByDegree, termCount, x, overflowMode);
+    }
+
+    @Override
+    int evaluateVectorized(int[] xs, int[] results, EvaluationOverflowMode overflowMode) {
+        return EvaluationEngine.evaluateDense(coefficientsByDegree, termCount, xs, results, overflowMode);
+    }
+
+    @NonNull
+    @Override
+    public Iterator<Term> iterator() {
+        return new Iterator<>() {
+            private int degree = nextDegree(coefficientsByDegree.length - 1);
+
+            @Override
+            public boolean hasNext() {
+                return degree >= 0;
+            }
+
+            @Override
+            public Term next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Term term = new TermImpl(degree, coefficientsByDegree[degree]);
+                degree = nextDegree(degree - 1);
+                return term;
+            }
+        };
+    }
+
+    @Override
+    int termCount() {
+        return termCount;
+    }
+
+    @Override
+    int maxDegree() {
+        return coefficientsByDegree.length - 1;
+    }
+
+    @Override
+    int[] degrees() {
+        int[] degrees = new int[termCount];
+        int index = 0;
+        for (int degree = coefficientsByDegree.length - 1; degree >= 0; degree--) {
+            if (coefficientsByDegree[degree] != 0) {
+                degrees[index++] = degree;
+            }
+        }
+        return degrees;
+    }
+
+    @Override
+    int[] coefficients() {
+        int[] coefficients = new int[termCount];
+        int index = 0;
+        for (int degree = coefficientsByDegree.length - 1; degree >= 0; degree--) {
+            if (coefficientsByDegree[degree] != 0) {
+                coefficients[index++] = coefficientsByDegree[degree];
+            }
+        }
+        return coefficients;
+    }
+
+    @Override
+    int[] coefficientsByDegree() {
+        return coefficientsByDegree;
+    }
+
+    private int nextDegree(int degree) {
+        while (degree >= 0 && coefficientsByDegree[degree] == 0) {
+            degree--;
+        }
+        return degree;
+    }
+}
@@ -0,0 +1,141 @@
+package com.kostenko.polynomial.processing.api.model.impl;
+
+import com.kostenko.polynomial.processing.api.exception.PolynomialBaseException;
+import com.kostenko.polynomial.processing.api.model.EvaluationOverflowMode;
+
+import static com.kostenko.polynomial.processing.api.exception.ErrorCode.EVALUATION_OVERFLOW;
+
+final class EvaluationEngine {
+    static final boolean VECTORIZED = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    private EvaluationEngine() { }
+
+    static int evaluateDense(int[] coefficientsByDegree, int termCount, int x, EvaluationOverflowMode overflowMode) {
+        if (overflowMode == EvaluationOverflowMode.WRAP) {
+            return evaluateDenseWrapping(coefficientsByDegree, x);
+        }
+
+        try {
+            return evaluateDenseExact(coefficientsByDegree, termCount, x);
+        } catch (ArithmeticException e) {
+            throw new PolynomialBaseException(EVALUATION_OVERFLOW, x);
+        }
+    }
+
+    static int evaluateSparse(int[] degrees, int[] coefficients, int x, EvaluationOverflowMode overflowMode) {
+        if (overflowMode == EvaluationOverflowMode.WRAP) {
+            return evaluateSparseWrapping(degrees, coefficients, x);
+        }
+
+        try {
+            return evaluateSparseExact(degrees, coefficients, x);
+        } catch (ArithmeticException e) {
+            throw new PolynomialBaseException(EVALUATION_OVERFLOW, x);
+        }
+    }
+
+    static int evaluateDense(int[] coefficientsByDegree, int termCount, int[] xs, int[] results,
+                             EvaluationOverflowMode overflowMode) {
+        return VECTORIZED ? VectorEvaluationEngine.evaluateDense(coefficientsByDegree, termCount, xs, results, overflowMode) : 0;
+    }
+
+    static int evaluateSparse(int[] degrees, int[] coefficients, int[] xs, int[] results, EvaluationOverflowMode overflowMode) {
+        return VECTORIZED ? VectorEvaluationEngine.evaluateSparse(degrees, coefficients, xs, results, overflowMode) : 0;
+    }
+
+    private static int evaluateDenseWrapping(int[] coefficientsByDegree, int x) {
+        int result = 0;
+        for (int degree = coefficientsByDegree.length - 1; degree >= 0; degree--) {
+            result = result * x + coefficientsByDegree[degree];
+        }
+        return result;
+    }
+
+    private static int evaluateDenseExact(int[] coefficientsByDegree, int termCount, int x) {
+        long bound = overflowBound(termCount);
+        long result = 0;
+        for (int degree = coefficientsByDegree.length - 1; degree >= 0; degree--) {
+            result = Math.addExact(Math.multiplyExact(result, x), coefficientsByDegree[degree]);
+            checkBound(result, bound);
+        }
+        return Math.toIntExact(result);
+    }
+
+    private static int evaluateSparseWrapping(int[] degrees, int[] coefficients, int x) {
+        int result = 0;
+        for (int i = 0; i < degrees.length; i++) {
+            if (i > 0) {
+                result *= powWrapping(x, degrees[i - 1] - degrees[i]);
+            }
+            result += coefficients[i];
+        }
+        if (degrees.length > 0) {
+            result *= powWrapping(x, degrees[degrees.length - 1]);
+        }
+        return result;
+    }
+
+    private static int evaluateSparseExact(int[] degrees, int[] coefficients, int x) {
+        long bound = overflowBound(degrees.length);
+        long result = 0;
+        for (int i = 0; i < degrees.length; i++) {
+            if (result != 0) {
+                result = Math.multiplyExact(result, powExact(x, degrees[i - 1] - degrees[i]));
+            }
+            result = Math.addExact(result, coefficients[i]);
+            checkBound(result, bound);
+        }
+        if (result != 0) {
+            result = Math.multiplyExact(result, powExact(x, degrees[degrees.length - 1]));
+        }
+        return Math.toIntExact(result);
+    }
+
+    static int powWrapping(int base, int exponent) {
+        int result = 1;
+        while (exponent != 0) {
+            if ((exponent & 1) != 0) {
+                result *= base;
+            }
+            exponent >>>= 1;
+            base *= base;
+        }
+        return result;
+    }
+
+    static long powExact(long base, int exponent) {
+        if (exponent == 0) {
+            return 1;
+        }
+        if (base == 0 || base == 1) {
+            return base;
+        }
+        if (base == -1) {
+            return (exponent & 1) == 0 ? 1 : -1;
+        }
+
+        long result = 1;
+        while (true) {
+            if ((exponent & 1) != 0) {
+                result = Math.multiplyExact(result, base);
+            }
+            exponent >>>= 1;
+            if (exponent == 0) {
+                return result;
+            }
+            base = Math.multiplyExact(base, base);
+        }
+    }
+
+    // Once the Horner accumulator exceeds (termCount + 1) * 2^31 the remaining lower terms, each bounded by
+    // 2^31 * |x|^degree, can no longer bring the result back into the int range, so evaluation may stop early.
+    static long overflowBound(int termCount) {
+        return ((long) termCount + 1) << 31;
+    }
+
+    static void checkBound(long value, long bound) {
+        if (value > bound || value < -bound) {
+            throw new ArithmeticException("integer overflow");
+        }
+    }
+}
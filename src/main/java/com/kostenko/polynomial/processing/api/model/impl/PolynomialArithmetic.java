@@ -0,0 +1,60 @@
+package com.kostenko.polynomial.processing.api.model.impl;
+
+import com.kostenko.polynomial.processing.api.exception.PolynomialBaseException;
+import com.kostenko.polynomial.processing.api.model.Polynomial;
+
+import static com.kostenko.polynomial.processing.api.exception.ErrorCode.DEGREE_OVERFLOW;
+
+final class PolynomialArithmetic {
+    private PolynomialArithmetic() { }
+
+    static Polynomial multiply(AbstractPolynomial first, AbstractPolynomial second) {
+        if (first.termCount() == 0 || second.termCount() == 0) {
+            return PolynomialLayouts.zero();
+        }
+
+        int maxDegree = addDegrees(first.maxDegree(), second.maxDegree());
+        long termPairCount = (long) first.termCount() * second.termCount();
+
+        if (Math.min(first.termCount(), second.termCount()) >= DenseConvolution.KARATSUBA_MIN_LENGTH
+                && isDenseOperand(first) && isDenseOperand(second)) {
+            int[] coefficientsByDegree = DenseConvolution.convolve(first.coefficientsByDegree(), second.coefficientsByDegree());
+            return PolynomialLayouts.fromCoefficientsByDegree(coefficientsByDegree);
+        }
+
+        int[] firstDegrees = first.degrees();
+        int[] firstCoefficients = first.coefficients();
+        int[] secondDegrees = second.degrees();
+        int[] secondCoefficients = second.coefficients();
+
+        if (PolynomialLayouts.isDenseLayoutPreferred(maxDegree, termPairCount)) {
+            int[] coefficientsByDegree = new int[maxDegree + 1];
+            for (int i = 0; i < firstDegrees.length; i++) {
+                for (int j = 0; j < secondDegrees.length; j++) {
+                    coefficientsByDegree[firstDegrees[i] + secondDegrees[j]] += firstCoefficients[i] * secondCoefficients[j];
+                }
+            }
+            return PolynomialLayouts.fromCoefficientsByDegree(coefficientsByDegree);
+        }
+
+        DegreeAccumulator accumulator = new DegreeAccumulator(termPairCount);
+        for (int i = 0; i < firstDegrees.length; i++) {
+            for (int j = 0; j < secondDegrees.length; j++) {
+                accumulator.add(firstDegrees[i] + secondDegrees[j], firstCoefficients[i] * secondCoefficients[j]);
+            }
+        }
+        return accumulator.toPolynomial();
+    }
+
+    private static boolean isDenseOperand(AbstractPolynomial polynomial) {
+        return PolynomialLayouts.isDenseLayoutPreferred(polynomial.maxDegree(), polynomial.termCount());
+    }
+
+    private static int addDegrees(int firstDegree, int secondDegree) {
+        try {
+            return Math.addExact(firstDegree, secondDegree);
+        } catch (ArithmeticException e) {
+            throw new PolynomialBaseException(DEGREE_OVERFLOW, Integer.MAX_VALUE);
+        }
+    }
+}
@@ -1,62 +1,181 @@
 package com.kostenko.polynomial.processing.api.model.impl;
 
+import com.kostenko.polynomial.processing.api.model.EvaluationOverflowMode;
 import com.kostenko.polynomial.processing.api.model.Polynomial;
 import com.kostenko.polynomial.processing.api.model.Term;
 import lombok.NonNull;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+public final class PolynomialImpl extends AbstractPolynomial {
+    private final int[] degrees;
+    private final int[] coefficients;
+    private final boolean simplified;
 
-public record PolynomialImpl(List<Term> terms) implements Polynomial {
     public PolynomialImpl(List<Term> terms) {
-        this.terms = terms.stream()
+        int size = (int) terms.stream()
                 .filter(term -> term.coefficient() != 0)
-                .toList();
+                .count();
+
+        this.degrees = new int[size];
+        this.coefficients = new int[size];
+        this.simplified = false;
+
+        int index = 0;
+        for (Term term : terms) {
+            if (term.coefficient() != 0) {
+                degrees[index] = term.degree();
+                coefficients[index] = term.coefficient();
+                index++;
+            }
+        }
+    }
+
+    public static PolynomialImpl fromTerms(int[] degrees, int[] coefficients, int termCount) {
+        int size = 0;
+        for (int i = 0; i < termCount; i++) {
+            if (coefficients[i] != 0) {
+                size++;
+            }
+        }
+
+        int[] nonZeroDegrees = new int[size];
+        int[] nonZeroCoefficients = new int[size];
+        int index = 0;
+        for (int i = 0; i < termCount; i++) {
+            if (coefficients[i] != 0) {
+                nonZeroDegrees[index] = degrees[i];
+                nonZeroCoefficients[index] = coefficients[i];
+                index++;
+            }
+        }
+        return new PolynomialImpl(nonZeroDegrees, nonZeroCoefficients, false);
+    }
+
+    public static Polynomial fromDescendingTerms(int[] degrees, int[] coefficients, int termCount) {
+        return PolynomialLayouts.fromDescendingTerms(degrees, coefficients, termCount);
+    }
+
+    PolynomialImpl(int[] degrees, int[] coefficients, boolean simplified) {
+        this.degrees = degrees;
+        this.coefficients = coefficients;
+        this.simplified = simplified;
     }
 
     @Override
     public Polynomial simplify() {
-        Map<Integer, Integer> termsMap = new TreeMap<>(Comparator.reverseOrder());
+        if (simplified) {
+            return this;
+        }
 
-        for (Term term : terms) {
-            termsMap.merge(term.degree(), term.coefficient(), Integer::sum);
+        int maxDegree = maxDegree();
+        if (PolynomialLayouts.isDenseLayoutPreferred(maxDegree, degrees.length)) {
+            return PolynomialLayouts.fromCoefficientsByDegree(coefficientsByDegree());
         }
 
-        return mapToPolynomial(termsMap);
+        long[] packedTerms = new long[degrees.length];
+        for (int i = 0; i < degrees.length; i++) {
+            packedTerms[i] = PolynomialLayouts.packTerm(degrees[i], coefficients[i]);
+        }
+        Arrays.sort(packedTerms);
+        return PolynomialLayouts.fromSortedPackedTerms(packedTerms, packedTerms.length);
     }
 
     @Override
-    public int evaluate(int x) {
-        return terms.stream()
-                .mapToInt(term -> term.coefficient() * (int) Math.pow(x, term.degree()))
-                .sum();
+    public int evaluate(int x, EvaluationOverflowMode overflowMode) {
+        if (!simplified) {
+            return simplify().evaluate(x, overflowMode);
+        }
+
+        CompiledEvaluator compiledEvaluator = compiledEvaluator();
+        if (compiledEvaluator != null) {
+            return compiledEvaluator.evaluate(x, overflowMode);
+        }
+        return EvaluationEngine.evaluateSparse(degrees, coefficients, x, overflowMode);
     }
 
     @Override
-    public Polynomial multiply(Polynomial polynomial) {
-        Map<Integer, Integer> termsMap = new TreeMap<>(Comparator.reverseOrder());
+    public int[] evaluate(int[] xs, EvaluationOverflowMode overflowMode) {
+        if (!simplified) {
+            return simplify().evaluate(xs, overflowMode);
+        }
+        return super.evaluate(xs, overflowMode);
+    }
 
-        for (Term term1 : terms) {
-            for (Term term2 : polynomial) {
-                Term multipliedTerms = term1.multiply(term2);
-                termsMap.merge(multipliedTerms.degree(), multipliedTerms.coefficient(), Integer::sum);
-            }
+    @Override
+    public PrimitiveIterator.OfInt evaluateRange(int start, int end, int step, EvaluationOverflowMode overflowMode) {
+        if (!simplified) {
+            return simplify().evaluateRange(start, end, step, overflowMode);
         }
+        return super.evaluateRange(start, end, step, overflowMode);
+    }
 
-        return mapToPolynomial(termsMap);
+    @Override
+    int evaluateVectorized(int[] xs, int[] results, EvaluationOverflowMode overflowMode) {
+        return EvaluationEngine.evaluateSparse(degrees, coefficients, xs, results, overflowMode);
     }
 
     @NonNull
     @Override
     public Iterator<Term> iterator() {
-        return terms.iterator();
+        return new Iterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < degrees.length;
+            }
+
+            @Override
+            public Term next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Term term = new TermImpl(degrees[index], coefficients[index]);
+                index++;
+                return term;
+            }
+        };
+    }
+
+    @Override
+    int termCount() {
+        return degrees.length;
     }
 
-    private Polynomial mapToPolynomial(Map<Integer, Integer> termsMap) {
-        List<Term> resultTerms = termsMap.entrySet()
-                .stream()
-                .map(entry -> new TermImpl(entry.getKey(), entry.getValue()))
-                .collect(Collectors.toCollection(ArrayList::new));
-        return new PolynomialImpl(resultTerms);
+    @Override
+    int maxDegree() {
+        if (simplified) {
+            return degrees.length == 0 ? -1 : degrees[0];
+        }
+
+        int maxDegree = -1;
+        for (int degree : degrees) {
+            maxDegree = Math.max(maxDegree, degree);
+        }
+        return maxDegree;
+    }
+
+    @Override
+    int[] degrees() {
+        return degrees;
+    }
+
+    @Override
+    int[] coefficients() {
+        return coefficients;
+    }
+
+    @Override
+    int[] coefficientsByDegree() {
+        int[] coefficientsByDegree = new int[maxDegree() + 1];
+        for (int i = 0; i < degrees.length; i++) {
+            coefficientsByDegree[degrees[i]] += coefficients[i];
+        }
+        return coefficientsByDegree;
     }
 }
@@ -0,0 +1,109 @@
+package com.kostenko.polynomial.processing.api.model.impl;
+
+import com.kostenko.polynomial.processing.api.model.Polynomial;
+
+import java.util.Arrays;
+
+final class PolynomialLayouts {
+    static final int DENSE_MAX_DEGREE = 1 << 20;
+    static final int DENSE_FILL_FACTOR = 4;
+
+    private PolynomialLayouts() { }
+
+    static boolean isDenseLayoutPreferred(int maxDegree, long termCount) {
+        return maxDegree < DENSE_MAX_DEGREE && maxDegree + 1L <= DENSE_FILL_FACTOR * termCount;
+    }
+
+    static Polynomial zero() {
+        return new PolynomialImpl(new int[0], new int[0], true);
+    }
+
+    static Polynomial fromCoefficientsByDegree(int[] coefficientsByDegree) {
+        int maxDegree = coefficientsByDegree.length - 1;
+        while (maxDegree >= 0 && coefficientsByDegree[maxDegree] == 0) {
+            maxDegree--;
+        }
+
+        int termCount = 0;
+        for (int degree = 0; degree <= maxDegree; degree++) {
+            if (coefficientsByDegree[degree] != 0) {
+                termCount++;
+            }
+        }
+
+        if (termCount == 0) {
+            return zero();
+        }
+
+        if (isDenseLayoutPreferred(maxDegree, termCount)) {
+            int[] trimmedCoefficients = maxDegree + 1 == coefficientsByDegree.length
+                    ? coefficientsByDegree
+                    : Arrays.copyOf(coefficientsByDegree, maxDegree + 1);
+            return new DensePolynomialImpl(trimmedCoefficients, termCount);
+        }
+
+        int[] degrees = new int[termCount];
+        int[] coefficients = new int[termCount];
+        int index = 0;
+        for (int degree = maxDegree; degree >= 0; degree--) {
+            if (coefficientsByDegree[degree] != 0) {
+                degrees[index] = degree;
+                coefficients[index] = coefficientsByDegree[degree];
+                index++;
+            }
+        }
+        return new PolynomialImpl(degrees, coefficients, true);
+    }
+
+    static Polynomial fromSortedPackedTerms(long[] packedTerms, int size) {
+        int[] degrees = new int[size];
+        int[] coefficients = new int[size];
+        int termCount = 0;
+
+        int index = size - 1;
+        while (index >= 0) {
+            int degree = unpackDegree(packedTerms[index]);
+            int coefficient = 0;
+            while (index >= 0 && unpackDegree(packedTerms[index]) == degree) {
+                coefficient += unpackCoefficient(packedTerms[index]);
+                index--;
+            }
+
+            if (coefficient != 0) {
+                degrees[termCount] = degree;
+                coefficients[termCount] = coefficient;
+                termCount++;
+            }
+        }
+
+        return fromDescendingTerms(degrees, coefficients, termCount);
+    }
+
+    static Polynomial fromDescendingTerms(int[] degrees, int[] coefficients, int termCount) {
+        if (termCount > 0 && isDenseLayoutPreferred(degrees[0], termCount)) {
+            int[] coefficientsByDegree = new int[degrees[0] + 1];
+            for (int i = 0; i < termCount; i++) {
+                coefficientsByDegree[degrees[i]] = coefficients[i];
+            }
+            return new DensePolynomialImpl(coefficientsByDegree, termCount);
+        }
+
+        return new PolynomialImpl(
+                Arrays.copyOf(degrees, termCount),
+                Arrays.copyOf(coefficients, termCount),
+                true
+        );
+    }
+
+    static long packTerm(int degree, int coefficient) {
+        return ((long) degree << 32) | (coefficient & 0xFFFFFFFFL);
+    }
+
+    static int unpackDegree(long packedTerm) {
+        return (int) (packedTerm >>> 32);
+    }
+
+    static int unpackCoefficient(long packedTerm) {
+        return (int) packedTerm;
+    }
+}
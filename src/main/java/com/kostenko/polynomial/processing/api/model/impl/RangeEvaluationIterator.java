@@ -0,0 +1,104 @@
+package com.kostenko.polynomial.processing.api.model.impl;
+
+import com.kostenko.polynomial.processing.api.exception.PolynomialBaseException;
+import com.kostenko.polynomial.processing.api.model.EvaluationOverflowMode;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static com.kostenko.polynomial.processing.api.exception.ErrorCode.EVALUATION_OVERFLOW;
+
+final class RangeEvaluationIterator implements PrimitiveIterator.OfInt {
+    // A forward-difference table holds the exact values only while every |f(x)| stays below 2^63.
+    private static final double EXACT_DIFFERENCES_BOUND = 0x1p62;
+
+    private final AbstractPolynomial polynomial;
+    private final int step;
+    private final long end;
+    private final EvaluationOverflowMode overflowMode;
+    private final long[] differences;
+
+    private long x;
+
+    RangeEvaluationIterator(AbstractPolynomial polynomial, int start, int end, int step, EvaluationOverflowMode overflowMode) {
+        this.polynomial = polynomial;
+        this.step = step;
+        this.end = end;
+        this.overflowMode = overflowMode;
+        this.x = start;
+        this.differences = isForwardDifferencePreferred(polynomial, start, end, step, overflowMode)
+                ? seedDifferences(polynomial.coefficientsByDegree(), start, step)
+                : null;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return x <= end;
+    }
+
+    @Override
+    public int nextInt() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        int currentX = (int) x;
+        x += step;
+        if (differences == null) {
+            return polynomial.evaluate(currentX, overflowMode);
+        }
+
+        long result = differences[0];
+        for (int degree = 0; degree < differences.length - 1; degree++) {
+            differences[degree] += differences[degree + 1];
+        }
+        if (overflowMode == EvaluationOverflowMode.EXACT && (int) result != result) {
+            throw new PolynomialBaseException(EVALUATION_OVERFLOW, currentX);
+        }
+        return (int) result;
+    }
+
+    private static boolean isForwardDifferencePreferred(AbstractPolynomial polynomial, int start, int end, int step,
+                                                        EvaluationOverflowMode overflowMode) {
+        int maxDegree = polynomial.maxDegree();
+        long pointCount = ((long) end - start) / step + 1;
+        if (maxDegree < 0 || !PolynomialLayouts.isDenseLayoutPreferred(maxDegree, polynomial.termCount())
+                || pointCount <= 2L * (maxDegree + 1)) {
+            return false;
+        }
+        return overflowMode == EvaluationOverflowMode.WRAP
+                || maxAbsoluteValue(polynomial.coefficientsByDegree(), Math.max(Math.abs((long) start), Math.abs((long) end)))
+                < EXACT_DIFFERENCES_BOUND;
+    }
+
+    private static double maxAbsoluteValue(int[] coefficientsByDegree, long maxAbsX) {
+        double result = 0;
+        for (int degree = coefficientsByDegree.length - 1; degree >= 0; degree--) {
+            result = result * maxAbsX + Math.abs((double) coefficientsByDegree[degree]);
+        }
+        return result;
+    }
+
+    // Values are computed modulo 2^64: the table is exact in WRAP mode after narrowing to an int, and in EXACT mode
+    // the bound checked above guarantees that no value wraps at all.
+    private static long[] seedDifferences(int[] coefficientsByDegree, long start, long step) {
+        long[] differences = new long[coefficientsByDegree.length];
+        for (int i = 0; i < differences.length; i++) {
+            differences[i] = evaluateWrapping(coefficientsByDegree, start + i * step);
+        }
+        for (int order = 1; order < differences.length; order++) {
+            for (int i = differences.length - 1; i >= order; i--) {
+                differences[i] -= differences[i - 1];
+            }
+        }
+        return differences;
+    }
+
+    private static long evaluateWrapping(int[] coefficientsByDegree, long x) {
+        long result = 0;
+        for (int degree = coefficientsByDegree.length - 1; degree >= 0; degree--) {
+            result = result * x + coefficientsByDegree[degree];
+        }
+        return result;
+    }
+}
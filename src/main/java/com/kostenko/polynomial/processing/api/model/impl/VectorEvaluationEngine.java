@@ -0,0 +1,115 @@
+package com.kostenko.polynomial.processing.api.model.impl;
+
+import com.kostenko.polynomial.processing.api.model.EvaluationOverflowMode;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+final class VectorEvaluationEngine {
+    private static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONG_SPECIES = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INT_SPECIES_FOR_LONG =
+            VectorSpecies.of(int.class, VectorShape.forBitSize(LONG_SPECIES.vectorBitSize() / 2));
+
+    private VectorEvaluationEngine() { }
+
+    static int evaluateDense(int[] coefficientsByDegree, int termCount, int[] xs, int[] results,
+                             EvaluationOverflowMode overflowMode) {
+        if (overflowMode == EvaluationOverflowMode.WRAP) {
+            return evaluateDenseWrapping(coefficientsByDegree, xs, results);
+        }
+        return evaluateDenseExact(coefficientsByDegree, termCount, xs, results);
+    }
+
+    static int evaluateSparse(int[] degrees, int[] coefficients, int[] xs, int[] results,
+                              EvaluationOverflowMode overflowMode) {
+        if (overflowMode == EvaluationOverflowMode.WRAP) {
+            return evaluateSparseWrapping(degrees, coefficients, xs, results);
+        }
+        return 0;
+    }
+
+    private static int evaluateDenseWrapping(int[] coefficientsByDegree, int[] xs, int[] results) {
+        int upperBound = INT_SPECIES.loopBound(xs.length);
+        for (int i = 0; i < upperBound; i += INT_SPECIES.length()) {
+            IntVector x = IntVector.fromArray(INT_SPECIES, xs, i);
+            IntVector result = IntVector.zero(INT_SPECIES);
+            for (int degree = coefficientsByDegree.length - 1; degree >= 0; degree--) {
+                result = result.mul(x).add(coefficientsByDegree[degree]);
+            }
+            result.intoArray(results, i);
+        }
+        return upperBound;
+    }
+
+    private static int evaluateSparseWrapping(int[] degrees, int[] coefficients, int[] xs, int[] results) {
+        int upperBound = INT_SPECIES.loopBound(xs.length);
+        for (int i = 0; i < upperBound; i += INT_SPECIES.length()) {
+            IntVector x = IntVector.fromArray(INT_SPECIES, xs, i);
+            IntVector result = IntVector.zero(INT_SPECIES);
+            for (int term = 0; term < degrees.length; term++) {
+                if (term > 0) {
+                    result = result.mul(pow(x, degrees[term - 1] - degrees[term]));
+                }
+                result = result.add(coefficients[term]);
+            }
+            if (degrees.length > 0) {
+                result = result.mul(pow(x, degrees[degrees.length - 1]));
+            }
+            result.intoArray(results, i);
+        }
+        return upperBound;
+    }
+
+    // Lanes are evaluated in longs. A chunk whose x values could overflow a long before the accumulator is
+    // checked against the overflow bound, or whose result does not fit an int, is evaluated by the scalar
+    // engine, which reports the first overflowing x exactly like a sequential evaluation does.
+    private static int evaluateDenseExact(int[] coefficientsByDegree, int termCount, int[] xs, int[] results) {
+        long bound = EvaluationEngine.overflowBound(termCount);
+        long maxAbsX = (Long.MAX_VALUE - Integer.MAX_VALUE) / bound;
+        int upperBound = LONG_SPECIES.loopBound(xs.length);
+        for (int i = 0; i < upperBound; i += LONG_SPECIES.length()) {
+            LongVector x = (LongVector) IntVector.fromArray(INT_SPECIES_FOR_LONG, xs, i)
+                    .convertShape(VectorOperators.I2L, LONG_SPECIES, 0);
+            if (!x.abs().compare(VectorOperators.GT, maxAbsX).anyTrue()
+                    && evaluateDenseExact(coefficientsByDegree, bound, x, results, i)) {
+                continue;
+            }
+            for (int lane = i; lane < i + LONG_SPECIES.length(); lane++) {
+                results[lane] = EvaluationEngine.evaluateDense(coefficientsByDegree, termCount, xs[lane], EvaluationOverflowMode.EXACT);
+            }
+        }
+        return upperBound;
+    }
+
+    private static boolean evaluateDenseExact(int[] coefficientsByDegree, long bound, LongVector x, int[] results, int offset) {
+        LongVector result = LongVector.zero(LONG_SPECIES);
+        for (int degree = coefficientsByDegree.length - 1; degree >= 0; degree--) {
+            result = result.mul(x).add(coefficientsByDegree[degree]);
+            if (result.abs().compare(VectorOperators.GT, bound).anyTrue()) {
+                return false;
+            }
+        }
+        if (result.compare(VectorOperators.GT, Integer.MAX_VALUE)
+                .or(result.compare(VectorOperators.LT, Integer.MIN_VALUE))
+                .anyTrue()) {
+            return false;
+        }
+        ((IntVector) result.convertShape(VectorOperators.L2I, INT_SPECIES_FOR_LONG, 0)).intoArray(results, offset);
+        return true;
+    }
+
+    private static IntVector pow(IntVector base, int exponent) {
+        IntVector result = IntVector.broadcast(INT_SPECIES, 1);
+        while (exponent != 0) {
+            if ((exponent & 1) != 0) {
+                result = result.mul(base);
+            }
+            exponent >>>= 1;
+            base = base.mul(base);
+        }
+        return result;
+    }
+}
@@ -1,18 +1,25 @@
 package com.kostenko.polynomial.processing.api.repository;
 
 import com.kostenko.polynomial.processing.api.repository.entity.EvaluationEntity;
+import com.kostenko.polynomial.processing.api.repository.entity.PolynomialEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface EvaluationRepository extends JpaRepository<EvaluationEntity, Long> {
+    default List<EvaluationEntity> findAllByPolynomialKeyAndXIn(String polynomialKey, Collection<String> xs) {
+        return findAllByPolynomialKeyHashAndXIn(PolynomialEntity.hashPolynomialKey(polynomialKey), polynomialKey, xs);
+    }
+
     @Query("SELECT e FROM EvaluationEntity e " +
-            "JOIN e.polynomialEntity p " +
-            "WHERE p.polynomialRequest = :polynomial AND e.evaluationRequest = :x")
-    Optional<EvaluationEntity> findByRequestPolynomialAndX(@Param("polynomial") String polynomial,
-                                                           @Param("x") String x);
+            "JOIN FETCH e.polynomialEntity p " +
+            "WHERE p.polynomialKeyHash = :polynomialKeyHash AND p.polynomialKey = :polynomialKey AND e.evaluationRequest IN :xs")
+    List<EvaluationEntity> findAllByPolynomialKeyHashAndXIn(@Param("polynomialKeyHash") byte[] polynomialKeyHash,
+                                                            @Param("polynomialKey") String polynomialKey,
+                                                            @Param("xs") Collection<String> xs);
 }
@@ -0,0 +1,12 @@
+package com.kostenko.polynomial.processing.api.repository;
+
+import com.kostenko.polynomial.processing.api.repository.entity.EvaluationEntity;
+import com.kostenko.polynomial.processing.api.repository.entity.PolynomialEntity;
+
+import java.util.Collection;
+
+public interface PolynomialBatchRepository {
+    int insertPolynomialsIfAbsent(Collection<PolynomialEntity> polynomialEntities);
+
+    int insertEvaluationsIfAbsent(Collection<EvaluationEntity> evaluationEntities);
+}
@@ -1,12 +1,55 @@
 package com.kostenko.polynomial.processing.api.repository;
 
 import com.kostenko.polynomial.processing.api.repository.entity.PolynomialEntity;
+import com.kostenko.polynomial.processing.api.repository.projection.PolynomialEvaluationProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PolynomialRepository extends JpaRepository<PolynomialEntity, Long> {
-    Optional<PolynomialEntity> findByPolynomialRequest(String polynomialRequest);
+    default Optional<PolynomialEntity> findByPolynomialKey(String polynomialKey) {
+        return findByPolynomialKeyHashAndPolynomialKey(PolynomialEntity.hashPolynomialKey(polynomialKey), polynomialKey);
+    }
+
+    Optional<PolynomialEntity> findByPolynomialKeyHashAndPolynomialKey(byte[] polynomialKeyHash, String polynomialKey);
+
+    default List<PolynomialEntity> findAllByPolynomialKeyIn(Collection<String> polynomialKeys) {
+        List<byte[]> polynomialKeyHashes = polynomialKeys.stream()
+                .map(PolynomialEntity::hashPolynomialKey)
+                .toList();
+        return findAllByPolynomialKeyHashIn(polynomialKeyHashes).stream()
+                .filter(polynomialEntity -> polynomialKeys.contains(polynomialEntity.getPolynomialKey()))
+                .toList();
+    }
+
+    List<PolynomialEntity> findAllByPolynomialKeyHashIn(Collection<byte[]> polynomialKeyHashes);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT p.polynomialKeyHash FROM PolynomialEntity p")
+    Stream<byte[]> streamAllPolynomialKeyHashes();
+
+    default Optional<PolynomialEvaluationProjection> findEvaluationByPolynomialKeyAndX(String polynomialKey, String x) {
+        return findEvaluationByPolynomialKeyHashAndX(PolynomialEntity.hashPolynomialKey(polynomialKey), polynomialKey, x);
+    }
+
+    @Query("SELECT p.simplifiedPolynomial AS simplifiedPolynomial, " +
+            "p.simplifiedPolynomialBinary AS simplifiedPolynomialBinary, " +
+            "p.errorCode AS errorCode, " +
+            "e.evaluationResult AS evaluationResult " +
+            "FROM PolynomialEntity p " +
+            "LEFT JOIN EvaluationEntity e ON e.polynomialEntity = p AND e.evaluationRequest = :x " +
+            "WHERE p.polynomialKeyHash = :polynomialKeyHash AND p.polynomialKey = :polynomialKey")
+    Optional<PolynomialEvaluationProjection> findEvaluationByPolynomialKeyHashAndX(@Param("polynomialKeyHash") byte[] polynomialKeyHash,
+                                                                                   @Param("polynomialKey") String polynomialKey,
+                                                                                   @Param("x") String x);
 }
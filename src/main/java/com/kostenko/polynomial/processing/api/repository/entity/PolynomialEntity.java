@@ -4,6 +4,10 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
 @Data
 @Entity
 @NoArgsConstructor
@@ -15,17 +19,43 @@ public class PolynomialEntity {
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "polynomial_seq")
     private Long id;
 
+    @Column(name = "polynomial_key")
+    private String polynomialKey;
+
+    @Column(name = "polynomial_key_hash")
+    private byte[] polynomialKeyHash;
+
     @Column(name = "polynomial_request")
     private String polynomialRequest;
 
     @Column(name = "simplified_polynomial")
     private String simplifiedPolynomial;
 
+    @Column(name = "simplified_polynomial_binary")
+    private byte[] simplifiedPolynomialBinary;
+
     @Column(name = "error_code")
     private String errorCode;
 
-    public PolynomialEntity(String polynomialRequest, String simplifiedPolynomial) {
+    public PolynomialEntity(String polynomialKey, String polynomialRequest, String simplifiedPolynomial,
+                            byte[] simplifiedPolynomialBinary) {
+        this.polynomialKey = polynomialKey;
         this.polynomialRequest = polynomialRequest;
         this.simplifiedPolynomial = simplifiedPolynomial;
+        this.simplifiedPolynomialBinary = simplifiedPolynomialBinary;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void hashPolynomialKey() {
+        polynomialKeyHash = hashPolynomialKey(polynomialKey);
+    }
+
+    public static byte[] hashPolynomialKey(String polynomialKey) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(polynomialKey.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
     }
 }
@@ -0,0 +1,102 @@
+package com.kostenko.polynomial.processing.api.repository.impl;
+
+import com.kostenko.polynomial.processing.api.repository.PolynomialBatchRepository;
+import com.kostenko.polynomial.processing.api.repository.entity.EvaluationEntity;
+import com.kostenko.polynomial.processing.api.repository.entity.PolynomialEntity;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Connection;
+import java.util.Collection;
+
+@Repository
+@Transactional
+@Profile("!reactive")
+@AllArgsConstructor
+public class PolynomialBatchRepositoryImpl implements PolynomialBatchRepository {
+    private static final String INSERT_POLYNOMIALS_SQL = """
+            INSERT INTO polynomials (polynomial_id, polynomial_key_hash, polynomial_key, polynomial_request,
+                                     simplified_polynomial, simplified_polynomial_binary, error_code)
+            SELECT nextval('polynomial_seq'), p.*
+            FROM unnest(?::bytea[], ?::varchar[], ?::varchar[], ?::varchar[], ?::bytea[], ?::varchar[])
+                AS p (polynomial_key_hash, polynomial_key, polynomial_request, simplified_polynomial,
+                      simplified_polynomial_binary, error_code)
+            ON CONFLICT (polynomial_key_hash) DO NOTHING
+            """;
+    private static final String INSERT_EVALUATIONS_SQL = """
+            INSERT INTO evaluations (evaluation_id, polynomial_id, evaluation_request, evaluation_result)
+            SELECT nextval('evaluation_seq'), p.polynomial_id, e.evaluation_request, e.evaluation_result
+            FROM unnest(?::bytea[], ?::varchar[], ?::varchar[], ?::int[])
+                AS e (polynomial_key_hash, polynomial_key, evaluation_request, evaluation_result)
+            JOIN polynomials p ON p.polynomial_key_hash = e.polynomial_key_hash AND p.polynomial_key = e.polynomial_key
+            ON CONFLICT (polynomial_id, evaluation_request) DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int insertPolynomialsIfAbsent(Collection<PolynomialEntity> polynomialEntities) {
+        if (polynomialEntities.isEmpty()) {
+            return 0;
+        }
+        byte[][] polynomialKeyHashes = new byte[polynomialEntities.size()][];
+        String[] polynomialKeys = new String[polynomialEntities.size()];
+        String[] polynomialRequests = new String[polynomialEntities.size()];
+        String[] simplifiedPolynomials = new String[polynomialEntities.size()];
+        byte[][] simplifiedPolynomialBinaries = new byte[polynomialEntities.size()][];
+        String[] errorCodes = new String[polynomialEntities.size()];
+
+        int i = 0;
+        for (PolynomialEntity polynomialEntity : polynomialEntities) {
+            polynomialKeyHashes[i] = PolynomialEntity.hashPolynomialKey(polynomialEntity.getPolynomialKey());
+            polynomialKeys[i] = polynomialEntity.getPolynomialKey();
+            polynomialRequests[i] = polynomialEntity.getPolynomialRequest();
+            simplifiedPolynomials[i] = polynomialEntity.getSimplifiedPolynomial();
+            simplifiedPolynomialBinaries[i] = polynomialEntity.getSimplifiedPolynomialBinary();
+            errorCodes[i] = polynomialEntity.getErrorCode();
+            i++;
+        }
+
+        return jdbcTemplate.update(INSERT_POLYNOMIALS_SQL, preparedStatement -> {
+            Connection connection = preparedStatement.getConnection();
+            preparedStatement.setArray(1, connection.createArrayOf("bytea", polynomialKeyHashes));
+            preparedStatement.setArray(2, connection.createArrayOf("varchar", polynomialKeys));
+            preparedStatement.setArray(3, connection.createArrayOf("varchar", polynomialRequests));
+            preparedStatement.setArray(4, connection.createArrayOf("varchar", simplifiedPolynomials));
+            preparedStatement.setArray(5, connection.createArrayOf("bytea", simplifiedPolynomialBinaries));
+            preparedStatement.setArray(6, connection.createArrayOf("varchar", errorCodes));
+        });
+    }
+
+    @Override
+    public int insertEvaluationsIfAbsent(Collection<EvaluationEntity> evaluationEntities) {
+        if (evaluationEntities.isEmpty()) {
+            return 0;
+        }
+        byte[][] polynomialKeyHashes = new byte[evaluationEntities.size()][];
+        String[] polynomialKeys = new String[evaluationEntities.size()];
+        String[] evaluationRequests = new String[evaluationEntities.size()];
+        Integer[] evaluationResults = new Integer[evaluationEntities.size()];
+
+        int i = 0;
+        for (EvaluationEntity evaluationEntity : evaluationEntities) {
+            String polynomialKey = evaluationEntity.getPolynomialEntity().getPolynomialKey();
+            polynomialKeyHashes[i] = PolynomialEntity.hashPolynomialKey(polynomialKey);
+            polynomialKeys[i] = polynomialKey;
+            evaluationRequests[i] = evaluationEntity.getEvaluationRequest();
+            evaluationResults[i] = evaluationEntity.getEvaluationResult();
+            i++;
+        }
+
+        return jdbcTemplate.update(INSERT_EVALUATIONS_SQL, preparedStatement -> {
+            Connection connection = preparedStatement.getConnection();
+            preparedStatement.setArray(1, connection.createArrayOf("bytea", polynomialKeyHashes));
+            preparedStatement.setArray(2, connection.createArrayOf("varchar", polynomialKeys));
+            preparedStatement.setArray(3, connection.createArrayOf("varchar", evaluationRequests));
+            preparedStatement.setArray(4, connection.createArrayOf("int4", evaluationResults));
+        });
+    }
+}
@@ -0,0 +1,67 @@
+package com.kostenko.polynomial.processing.api.repository.migration;
+
+import com.kostenko.polynomial.processing.api.exception.PolynomialBaseException;
+import com.kostenko.polynomial.processing.api.service.codec.PolynomialCodec;
+import com.kostenko.polynomial.processing.api.service.parser.PolynomialParser;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+@Slf4j
+@Component
+@AllArgsConstructor
+public class V4__Backfill_simplified_polynomial_binary extends BaseJavaMigration {
+    private static final int BATCH_SIZE = 500;
+
+    private static final String SELECT_POLYNOMIALS_SQL = """
+            SELECT polynomial_id, simplified_polynomial
+            FROM polynomials
+            WHERE simplified_polynomial IS NOT NULL AND simplified_polynomial_binary IS NULL
+            """;
+    private static final String UPDATE_POLYNOMIAL_SQL =
+            "UPDATE polynomials SET simplified_polynomial_binary = ? WHERE polynomial_id = ?";
+
+    private final PolynomialParser polynomialParser;
+    private final PolynomialCodec polynomialCodec;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        int updatedRows = 0;
+
+        try (Statement select = connection.createStatement();
+             PreparedStatement update = connection.prepareStatement(UPDATE_POLYNOMIAL_SQL)) {
+            select.setFetchSize(BATCH_SIZE);
+
+            try (ResultSet polynomials = select.executeQuery(SELECT_POLYNOMIALS_SQL)) {
+                while (polynomials.next()) {
+                    long polynomialId = polynomials.getLong("polynomial_id");
+                    String simplifiedPolynomial = polynomials.getString("simplified_polynomial");
+                    byte[] simplifiedPolynomialBinary;
+                    try {
+                        simplifiedPolynomialBinary = polynomialCodec.encode(polynomialParser.parsePolynomial(simplifiedPolynomial));
+                    } catch (PolynomialBaseException e) {
+                        log.error("Impossible to backfill binary form for polynomial {} ({})", polynomialId, simplifiedPolynomial, e);
+                        continue;
+                    }
+                    update.setBytes(1, simplifiedPolynomialBinary);
+                    update.setLong(2, polynomialId);
+                    update.addBatch();
+
+                    if (++updatedRows % BATCH_SIZE == 0) {
+                        update.executeBatch();
+                    }
+                }
+            }
+            update.executeBatch();
+        }
+        log.info("Backfilled binary form for {} polynomials", updatedRows);
+    }
+}
@@ -0,0 +1,61 @@
+package com.kostenko.polynomial.processing.api.repository.migration;
+
+import com.kostenko.polynomial.processing.api.repository.entity.PolynomialEntity;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+@Slf4j
+@Component
+public class V6__Backfill_polynomial_key_hash extends BaseJavaMigration {
+    private static final int BATCH_SIZE = 500;
+
+    private static final String SELECT_POLYNOMIALS_SQL = """
+            SELECT polynomial_id, polynomial_key
+            FROM polynomials
+            WHERE polynomial_key_hash IS NULL AND polynomial_id > ?
+            ORDER BY polynomial_id
+            LIMIT ?
+            """;
+    private static final String UPDATE_POLYNOMIAL_SQL =
+            "UPDATE polynomials SET polynomial_key_hash = ? WHERE polynomial_id = ?";
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        long lastPolynomialId = 0;
+        int updatedRows = 0;
+        int selectedRows;
+
+        try (PreparedStatement select = connection.prepareStatement(SELECT_POLYNOMIALS_SQL);
+             PreparedStatement update = connection.prepareStatement(UPDATE_POLYNOMIAL_SQL)) {
+            do {
+                select.setLong(1, lastPolynomialId);
+                select.setInt(2, BATCH_SIZE);
+                selectedRows = 0;
+                try (ResultSet polynomials = select.executeQuery()) {
+                    while (polynomials.next()) {
+                        lastPolynomialId = polynomials.getLong("polynomial_id");
+                        update.setBytes(1, PolynomialEntity.hashPolynomialKey(polynomials.getString("polynomial_key")));
+                        update.setLong(2, lastPolynomialId);
+                        update.addBatch();
+                        selectedRows++;
+                    }
+                }
+                update.executeBatch();
+                updatedRows += selectedRows;
+                log.info("Backfilled key hash for {} polynomials", updatedRows);
+            } while (selectedRows == BATCH_SIZE);
+        }
+    }
+}
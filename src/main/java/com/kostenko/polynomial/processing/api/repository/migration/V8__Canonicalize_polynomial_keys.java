@@ -0,0 +1,122 @@
+package com.kostenko.polynomial.processing.api.repository.migration;
+
+import com.kostenko.polynomial.processing.api.exception.PolynomialBaseException;
+import com.kostenko.polynomial.processing.api.repository.entity.PolynomialEntity;
+import com.kostenko.polynomial.processing.api.service.canonicalizer.PolynomialCanonicalizer;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+@Slf4j
+@Component
+@AllArgsConstructor
+public class V8__Canonicalize_polynomial_keys extends BaseJavaMigration {
+    private static final int BATCH_SIZE = 500;
+
+    private static final String SELECT_POLYNOMIALS_SQL = """
+            SELECT polynomial_id, polynomial_key, polynomial_request
+            FROM polynomials
+            WHERE polynomial_request IS NOT NULL AND polynomial_id > ?
+            ORDER BY polynomial_id
+            LIMIT ?
+            """;
+    private static final String SELECT_POLYNOMIAL_ID_SQL =
+            "SELECT polynomial_id FROM polynomials WHERE polynomial_key_hash = ? AND polynomial_key = ?";
+    private static final String UPDATE_POLYNOMIAL_KEY_SQL =
+            "UPDATE polynomials SET polynomial_key = ?, polynomial_key_hash = ? WHERE polynomial_id = ?";
+    private static final String MOVE_EVALUATIONS_SQL = """
+            UPDATE evaluations e SET polynomial_id = ?
+            WHERE e.polynomial_id = ? AND NOT EXISTS (
+                SELECT 1 FROM evaluations t WHERE t.polynomial_id = ? AND t.evaluation_request = e.evaluation_request
+            )
+            """;
+    private static final String DELETE_EVALUATIONS_SQL = "DELETE FROM evaluations WHERE polynomial_id = ?";
+    private static final String DELETE_POLYNOMIAL_SQL = "DELETE FROM polynomials WHERE polynomial_id = ?";
+
+    private final PolynomialCanonicalizer polynomialCanonicalizer;
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        long lastPolynomialId = 0;
+        int canonicalizedRows = 0;
+        int mergedRows = 0;
+        int selectedRows;
+
+        try (PreparedStatement select = connection.prepareStatement(SELECT_POLYNOMIALS_SQL);
+             PreparedStatement selectId = connection.prepareStatement(SELECT_POLYNOMIAL_ID_SQL);
+             PreparedStatement updateKey = connection.prepareStatement(UPDATE_POLYNOMIAL_KEY_SQL);
+             PreparedStatement moveEvaluations = connection.prepareStatement(MOVE_EVALUATIONS_SQL);
+             PreparedStatement deleteEvaluations = connection.prepareStatement(DELETE_EVALUATIONS_SQL);
+             PreparedStatement deletePolynomial = connection.prepareStatement(DELETE_POLYNOMIAL_SQL)) {
+            do {
+                select.setLong(1, lastPolynomialId);
+                select.setInt(2, BATCH_SIZE);
+                selectedRows = 0;
+                try (ResultSet polynomials = select.executeQuery()) {
+                    while (polynomials.next()) {
+                        lastPolynomialId = polynomials.getLong("polynomial_id");
+                        selectedRows++;
+
+                        String polynomialKey = polynomials.getString("polynomial_key");
+                        String polynomialRequest = polynomials.getString("polynomial_request");
+                        String canonicalPolynomialKey;
+                        try {
+                            canonicalPolynomialKey = polynomialCanonicalizer.canonicalize(polynomialRequest);
+                        } catch (PolynomialBaseException e) {
+                            log.error("Impossible to canonicalize key of polynomial {} ({})", lastPolynomialId, polynomialRequest, e);
+                            continue;
+                        }
+                        if (canonicalPolynomialKey.equals(polynomialKey)) {
+                            continue;
+                        }
+
+                        byte[] canonicalPolynomialKeyHash = PolynomialEntity.hashPolynomialKey(canonicalPolynomialKey);
+                        Optional<Long> canonicalPolynomialId = findPolynomialId(selectId, canonicalPolynomialKeyHash, canonicalPolynomialKey);
+                        if (canonicalPolynomialId.isPresent()) {
+                            log.info("Merging polynomial {} ({}) into polynomial {} ({})",
+                                    lastPolynomialId, polynomialKey, canonicalPolynomialId.get(), canonicalPolynomialKey);
+                            moveEvaluations.setLong(1, canonicalPolynomialId.get());
+                            moveEvaluations.setLong(2, lastPolynomialId);
+                            moveEvaluations.setLong(3, canonicalPolynomialId.get());
+                            moveEvaluations.executeUpdate();
+                            deleteEvaluations.setLong(1, lastPolynomialId);
+                            deleteEvaluations.executeUpdate();
+                            deletePolynomial.setLong(1, lastPolynomialId);
+                            deletePolynomial.executeUpdate();
+                            mergedRows++;
+                        } else {
+                            updateKey.setString(1, canonicalPolynomialKey);
+                            updateKey.setBytes(2, canonicalPolynomialKeyHash);
+                            updateKey.setLong(3, lastPolynomialId);
+                            updateKey.executeUpdate();
+                            canonicalizedRows++;
+                        }
+                    }
+                }
+                log.info("Canonicalized keys of {} polynomials, merged {} duplicated polynomials", canonicalizedRows, mergedRows);
+            } while (selectedRows == BATCH_SIZE);
+        }
+    }
+
+    private Optional<Long> findPolynomialId(PreparedStatement selectId, byte[] polynomialKeyHash, String polynomialKey) throws SQLException {
+        selectId.setBytes(1, polynomialKeyHash);
+        selectId.setString(2, polynomialKey);
+        try (ResultSet polynomialIds = selectId.executeQuery()) {
+            return polynomialIds.next() ? Optional.of(polynomialIds.getLong("polynomial_id")) : Optional.empty();
+        }
+    }
+}
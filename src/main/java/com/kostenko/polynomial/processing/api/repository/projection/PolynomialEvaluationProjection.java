@@ -0,0 +1,11 @@
+package com.kostenko.polynomial.processing.api.repository.projection;
+
+public interface PolynomialEvaluationProjection {
+    String getSimplifiedPolynomial();
+
+    byte[] getSimplifiedPolynomialBinary();
+
+    String getErrorCode();
+
+    Integer getEvaluationResult();
+}
@@ -0,0 +1,56 @@
+package com.kostenko.polynomial.processing.api.repository.reactive;
+
+import com.kostenko.polynomial.processing.api.repository.entity.PolynomialEntity;
+import com.kostenko.polynomial.processing.api.repository.reactive.entity.EvaluationRecord;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactiveEvaluationRepository extends R2dbcRepository<EvaluationRecord, Long> {
+    default Mono<Integer> insertIfAbsent(String polynomialKey, String x, int result) {
+        return insertIfAbsent(PolynomialEntity.hashPolynomialKey(polynomialKey), polynomialKey, x, result);
+    }
+
+    @Modifying
+    @Query("INSERT INTO evaluations (evaluation_id, polynomial_id, evaluation_request, evaluation_result) " +
+            "SELECT nextval('evaluation_seq'), p.polynomial_id, :x, :result " +
+            "FROM polynomials p WHERE p.polynomial_key_hash = :polynomialKeyHash AND p.polynomial_key = :polynomialKey " +
+            "ON CONFLICT (polynomial_id, evaluation_request) DO NOTHING")
+    Mono<Integer> insertIfAbsent(@Param("polynomialKeyHash") byte[] polynomialKeyHash,
+                                 @Param("polynomialKey") String polynomialKey,
+                                 @Param("x") String x,
+                                 @Param("result") int result);
+
+    default Mono<Long> insertIfAbsentWithPolynomial(String polynomialKey, String polynomialRequest, String simplifiedPolynomial,
+                                                    byte[] simplifiedPolynomialBinary, String x, int result) {
+        return insertIfAbsentWithPolynomial(PolynomialEntity.hashPolynomialKey(polynomialKey), polynomialKey, polynomialRequest,
+                simplifiedPolynomial, simplifiedPolynomialBinary, x, result);
+    }
+
+    @Query("WITH polynomial AS (" +
+            "INSERT INTO polynomials (polynomial_id, polynomial_key_hash, polynomial_key, polynomial_request, " +
+            "simplified_polynomial, simplified_polynomial_binary) " +
+            "VALUES (nextval('polynomial_seq'), :polynomialKeyHash, :polynomialKey, :polynomialRequest, " +
+            ":simplifiedPolynomial, :simplifiedPolynomialBinary) " +
+            "ON CONFLICT (polynomial_key_hash) DO UPDATE SET polynomial_key_hash = EXCLUDED.polynomial_key_hash " +
+            "RETURNING polynomial_id, polynomial_key, xmax = 0 AS inserted" +
+            "), inserted_evaluation AS (" +
+            "INSERT INTO evaluations (evaluation_id, polynomial_id, evaluation_request, evaluation_result) " +
+            "SELECT nextval('evaluation_seq'), polynomial_id, :x, :result " +
+            "FROM polynomial WHERE polynomial_key = :polynomialKey " +
+            "ON CONFLICT (polynomial_id, evaluation_request) DO NOTHING " +
+            "RETURNING evaluation_id" +
+            ") " +
+            "SELECT (SELECT COUNT(*) FROM polynomial WHERE inserted) + (SELECT COUNT(*) FROM inserted_evaluation)")
+    Mono<Long> insertIfAbsentWithPolynomial(@Param("polynomialKeyHash") byte[] polynomialKeyHash,
+                                            @Param("polynomialKey") String polynomialKey,
+                                            @Param("polynomialRequest") String polynomialRequest,
+                                            @Param("simplifiedPolynomial") String simplifiedPolynomial,
+                                            @Param("simplifiedPolynomialBinary") byte[] simplifiedPolynomialBinary,
+                                            @Param("x") String x,
+                                            @Param("result") int result);
+}
@@ -0,0 +1,51 @@
+package com.kostenko.polynomial.processing.api.repository.reactive;
+
+import com.kostenko.polynomial.processing.api.repository.entity.PolynomialEntity;
+import com.kostenko.polynomial.processing.api.repository.reactive.entity.PolynomialRecord;
+import com.kostenko.polynomial.processing.api.repository.reactive.projection.PolynomialEvaluationRecord;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactivePolynomialRepository extends R2dbcRepository<PolynomialRecord, Long> {
+    default Mono<PolynomialRecord> findByPolynomialKey(String polynomialKey) {
+        return findByPolynomialKeyHashAndPolynomialKey(PolynomialEntity.hashPolynomialKey(polynomialKey), polynomialKey);
+    }
+
+    Mono<PolynomialRecord> findByPolynomialKeyHashAndPolynomialKey(byte[] polynomialKeyHash, String polynomialKey);
+
+    default Mono<PolynomialEvaluationRecord> findEvaluationByPolynomialKeyAndX(String polynomialKey, String x) {
+        return findEvaluationByPolynomialKeyHashAndX(PolynomialEntity.hashPolynomialKey(polynomialKey), polynomialKey, x);
+    }
+
+    @Query("SELECT p.simplified_polynomial, p.simplified_polynomial_binary, p.error_code, e.evaluation_result " +
+            "FROM polynomials p " +
+            "LEFT JOIN evaluations e ON e.polynomial_id = p.polynomial_id AND e.evaluation_request = :x " +
+            "WHERE p.polynomial_key_hash = :polynomialKeyHash AND p.polynomial_key = :polynomialKey")
+    Mono<PolynomialEvaluationRecord> findEvaluationByPolynomialKeyHashAndX(@Param("polynomialKeyHash") byte[] polynomialKeyHash,
+                                                                           @Param("polynomialKey") String polynomialKey,
+                                                                           @Param("x") String x);
+
+    default Mono<Integer> insertIfAbsent(String polynomialKey, String polynomialRequest, String simplifiedPolynomial,
+                                         byte[] simplifiedPolynomialBinary, String errorCode) {
+        return insertIfAbsent(PolynomialEntity.hashPolynomialKey(polynomialKey), polynomialKey, polynomialRequest,
+                simplifiedPolynomial, simplifiedPolynomialBinary, errorCode);
+    }
+
+    @Modifying
+    @Query("INSERT INTO polynomials (polynomial_id, polynomial_key_hash, polynomial_key, polynomial_request, " +
+            "simplified_polynomial, simplified_polynomial_binary, error_code) " +
+            "VALUES (nextval('polynomial_seq'), :polynomialKeyHash, :polynomialKey, :polynomialRequest, " +
+            ":simplifiedPolynomial, :simplifiedPolynomialBinary, :errorCode) " +
+            "ON CONFLICT (polynomial_key_hash) DO NOTHING")
+    Mono<Integer> insertIfAbsent(@Param("polynomialKeyHash") byte[] polynomialKeyHash,
+                                 @Param("polynomialKey") String polynomialKey,
+                                 @Param("polynomialRequest") String polynomialRequest,
+                                 @Param("simplifiedPolynomial") String simplifiedPolynomial,
+                                 @Param("simplifiedPolynomialBinary") byte[] simplifiedPolynomialBinary,
+                                 @Param("errorCode") String errorCode);
+}
@@ -0,0 +1,11 @@
+package com.kostenko.polynomial.processing.api.repository.reactive.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Table("evaluations")
+public record EvaluationRecord(@Id @Column("evaluation_id") Long id,
+                               @Column("polynomial_id") Long polynomialId,
+                               @Column("evaluation_request") String evaluationRequest,
+                               @Column("evaluation_result") Integer evaluationResult) { }
@@ -0,0 +1,14 @@
+package com.kostenko.polynomial.processing.api.repository.reactive.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Table("polynomials")
+public record PolynomialRecord(@Id @Column("polynomial_id") Long id,
+                               @Column("polynomial_key") String polynomialKey,
+                               @Column("polynomial_key_hash") byte[] polynomialKeyHash,
+                               @Column("polynomial_request") String polynomialRequest,
+                               @Column("simplified_polynomial") String simplifiedPolynomial,
+                               @Column("simplified_polynomial_binary") byte[] simplifiedPolynomialBinary,
+                               @Column("error_code") String errorCode) { }
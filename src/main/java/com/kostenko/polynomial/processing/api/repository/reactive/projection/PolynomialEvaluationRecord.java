@@ -0,0 +1,6 @@
+package com.kostenko.polynomial.processing.api.repository.reactive.projection;
+
+public record PolynomialEvaluationRecord(String simplifiedPolynomial,
+                                         byte[] simplifiedPolynomialBinary,
+                                         String errorCode,
+                                         Integer evaluationResult) { }
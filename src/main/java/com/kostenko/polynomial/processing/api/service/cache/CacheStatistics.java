@@ -0,0 +1,7 @@
+package com.kostenko.polynomial.processing.api.service.cache;
+
+public record CacheStatistics(String cacheName,
+                              long size,
+                              long hitCount,
+                              long missCount,
+                              long evictionCount) { }
@@ -0,0 +1,5 @@
+package com.kostenko.polynomial.processing.api.service.cache;
+
+import com.kostenko.polynomial.processing.api.model.Polynomial;
+
+public record CachedPolynomial(String simplifiedPolynomial, Polynomial polynomial) { }
@@ -0,0 +1,26 @@
+package com.kostenko.polynomial.processing.api.service.cache;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface PolynomialCache {
+    Optional<String> findPolynomialKey(String polynomial);
+
+    void putPolynomialKey(String polynomial, String polynomialKey);
+
+    Optional<CachedPolynomial> findPolynomial(String polynomial);
+
+    void putPolynomial(String polynomial, CachedPolynomial cachedPolynomial);
+
+    Optional<Integer> findEvaluation(String polynomial, String x);
+
+    void putEvaluation(String polynomial, String x, int result);
+
+    Optional<String> findErrorCode(String polynomial);
+
+    void putErrorCode(String polynomial, String errorCode);
+
+    List<CacheStatistics> getStatistics();
+
+    void clear();
+}
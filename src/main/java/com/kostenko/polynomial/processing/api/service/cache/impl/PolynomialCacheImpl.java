@@ -0,0 +1,129 @@
+package com.kostenko.polynomial.processing.api.service.cache.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.kostenko.polynomial.processing.api.config.PolynomialCacheProperties;
+import com.kostenko.polynomial.processing.api.service.cache.CacheStatistics;
+import com.kostenko.polynomial.processing.api.service.cache.CachedPolynomial;
+import com.kostenko.polynomial.processing.api.service.cache.PolynomialCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Service
+public class PolynomialCacheImpl implements PolynomialCache {
+    private static final String KEY_CACHE_NAME = "keys";
+    private static final String POLYNOMIAL_CACHE_NAME = "polynomials";
+    private static final String EVALUATION_CACHE_NAME = "evaluations";
+    private static final String ERROR_CACHE_NAME = "errors";
+
+    private final Cache<String, String> keyCache;
+    private final Cache<String, CachedPolynomial> polynomialCache;
+    private final Cache<EvaluationKey, Integer> evaluationCache;
+    private final Cache<String, String> errorCache;
+
+    public PolynomialCacheImpl(PolynomialCacheProperties properties, MeterRegistry meterRegistry) {
+        this.keyCache = buildCache(properties.keyMaximumSize());
+        this.polynomialCache = buildCache(properties.polynomialMaximumSize());
+        this.evaluationCache = buildCache(properties.evaluationMaximumSize());
+        this.errorCache = buildCache(properties.errorMaximumSize());
+
+        CaffeineCacheMetrics.monitor(meterRegistry, keyCache, KEY_CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, polynomialCache, POLYNOMIAL_CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, evaluationCache, EVALUATION_CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, errorCache, ERROR_CACHE_NAME);
+    }
+
+    @Override
+    public Optional<String> findPolynomialKey(String polynomial) {
+        log.debug("Looking for key of polynomial ({}) in memory cache", polynomial);
+        return Optional.ofNullable(keyCache.getIfPresent(polynomial));
+    }
+
+    @Override
+    public void putPolynomialKey(String polynomial, String polynomialKey) {
+        log.debug("Putting key of polynomial ({}) to memory cache: ({})", polynomial, polynomialKey);
+        keyCache.put(polynomial, polynomialKey);
+    }
+
+    @Override
+    public Optional<CachedPolynomial> findPolynomial(String polynomial) {
+        log.debug("Looking for polynomial ({}) in memory cache", polynomial);
+        return Optional.ofNullable(polynomialCache.getIfPresent(polynomial));
+    }
+
+    @Override
+    public void putPolynomial(String polynomial, CachedPolynomial cachedPolynomial) {
+        log.debug("Putting polynomial ({}) to memory cache: {}", polynomial, cachedPolynomial);
+        polynomialCache.put(polynomial, cachedPolynomial);
+    }
+
+    @Override
+    public Optional<Integer> findEvaluation(String polynomial, String x) {
+        log.debug("Looking for evaluation of polynomial ({}) and x={} in memory cache", polynomial, x);
+        return Optional.ofNullable(evaluationCache.getIfPresent(new EvaluationKey(polynomial, x)));
+    }
+
+    @Override
+    public void putEvaluation(String polynomial, String x, int result) {
+        log.debug("Putting evaluation of polynomial ({}) and x={} to memory cache: result={}", polynomial, x, result);
+        evaluationCache.put(new EvaluationKey(polynomial, x), result);
+    }
+
+    @Override
+    public Optional<String> findErrorCode(String polynomial) {
+        log.debug("Looking for error code of polynomial ({}) in memory cache", polynomial);
+        return Optional.ofNullable(errorCache.getIfPresent(polynomial));
+    }
+
+    @Override
+    public void putErrorCode(String polynomial, String errorCode) {
+        log.debug("Putting error code of polynomial ({}) to memory cache: {}", polynomial, errorCode);
+        errorCache.put(polynomial, errorCode);
+    }
+
+    @Override
+    public List<CacheStatistics> getStatistics() {
+        return List.of(
+                mapToStatistics(KEY_CACHE_NAME, keyCache),
+                mapToStatistics(POLYNOMIAL_CACHE_NAME, polynomialCache),
+                mapToStatistics(EVALUATION_CACHE_NAME, evaluationCache),
+                mapToStatistics(ERROR_CACHE_NAME, errorCache)
+        );
+    }
+
+    @Override
+    public void clear() {
+        log.info("Clearing memory cache");
+        keyCache.invalidateAll();
+        polynomialCache.invalidateAll();
+        evaluationCache.invalidateAll();
+        errorCache.invalidateAll();
+    }
+
+    private static <K, V> Cache<K, V> buildCache(long maximumSize) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    private static CacheStatistics mapToStatistics(String cacheName, Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        return new CacheStatistics(
+                cacheName,
+                cache.estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.evictionCount()
+        );
+    }
+
+    private record EvaluationKey(String polynomial, String x) { }
+}
@@ -0,0 +1,5 @@
+package com.kostenko.polynomial.processing.api.service.canonicalizer;
+
+public interface PolynomialCanonicalizer {
+    String canonicalize(String polynomialString);
+}
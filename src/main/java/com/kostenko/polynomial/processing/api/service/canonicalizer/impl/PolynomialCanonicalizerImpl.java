@@ -0,0 +1,83 @@
+package com.kostenko.polynomial.processing.api.service.canonicalizer.impl;
+
+import com.kostenko.polynomial.processing.api.exception.parser.impl.PolynomialParserPolynomialRelatedException;
+import com.kostenko.polynomial.processing.api.model.Polynomial;
+import com.kostenko.polynomial.processing.api.service.cache.PolynomialCache;
+import com.kostenko.polynomial.processing.api.service.canonicalizer.PolynomialCanonicalizer;
+import com.kostenko.polynomial.processing.api.service.mapper.PolynomialMapper;
+import com.kostenko.polynomial.processing.api.service.parser.PolynomialParser;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@AllArgsConstructor
+public class PolynomialCanonicalizerImpl implements PolynomialCanonicalizer {
+    private static final String IDENTITY_FACTOR = "1";
+    private static final String ZERO_FACTOR = "0";
+
+    private final PolynomialParser polynomialParser;
+    private final PolynomialMapper polynomialMapper;
+    private final PolynomialCache polynomialCache;
+
+    @Override
+    public String canonicalize(String polynomialString) {
+        Optional<String> memoryCachedPolynomialKey = polynomialCache.findPolynomialKey(polynomialString);
+        if (memoryCachedPolynomialKey.isPresent()) {
+            log.info("Found memory cached canonical form for polynomial ({}): ({})", polynomialString, memoryCachedPolynomialKey.get());
+            return memoryCachedPolynomialKey.get();
+        }
+
+        String polynomialKey = canonicalizeFactors(polynomialString);
+        polynomialCache.putPolynomialKey(polynomialString, polynomialKey);
+        return polynomialKey;
+    }
+
+    // Factors are simplified one by one and never multiplied out: expanding them would cost as much as the
+    // simplification the cache saves, so (x + 1)*(x - 1) and x^2 - 1 get different keys.
+    private String canonicalizeFactors(String polynomialString) {
+        log.info("Canonicalization process has been started for polynomial ({})", polynomialString);
+        try {
+            List<String> factors = polynomialParser.parseFactors(polynomialString)
+                    .stream()
+                    .map(Polynomial::simplify)
+                    .map(this::mapFactorToString)
+                    .filter(factor -> !factor.equals(IDENTITY_FACTOR))
+                    .sorted()
+                    .toList();
+
+            String result = joinFactors(factors);
+            log.info("Canonicalization process has been completed for polynomial ({}): ({})", polynomialString, result);
+            return result;
+        } catch (PolynomialParserPolynomialRelatedException e) {
+            log.info("Polynomial ({}) can't be parsed, using it without whitespaces as canonical form", polynomialString);
+            return polynomialString.replace(" ", "");
+        }
+    }
+
+    private String mapFactorToString(Polynomial factor) {
+        if (!factor.iterator().hasNext()) {
+            return ZERO_FACTOR;
+        }
+        return polynomialMapper.mapPolynomialToString(factor);
+    }
+
+    private String joinFactors(List<String> factors) {
+        if (factors.contains(ZERO_FACTOR)) {
+            return ZERO_FACTOR;
+        }
+        if (factors.isEmpty()) {
+            return IDENTITY_FACTOR;
+        }
+        if (factors.size() == 1) {
+            return factors.get(0);
+        }
+        return factors.stream()
+                .collect(Collectors.joining(")*(", "(", ")"));
+    }
+}
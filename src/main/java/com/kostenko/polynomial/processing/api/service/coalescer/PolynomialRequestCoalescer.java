@@ -0,0 +1,7 @@
+package com.kostenko.polynomial.processing.api.service.coalescer;
+
+import java.util.function.Supplier;
+
+public interface PolynomialRequestCoalescer {
+    <T> T coalesce(Object key, Supplier<T> computation);
+}
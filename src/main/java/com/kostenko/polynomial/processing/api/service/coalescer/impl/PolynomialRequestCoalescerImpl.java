@@ -0,0 +1,67 @@
+package com.kostenko.polynomial.processing.api.service.coalescer.impl;
+
+import com.kostenko.polynomial.processing.api.service.coalescer.PolynomialRequestCoalescer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Slf4j
+@Service
+@Profile("!reactive")
+public class PolynomialRequestCoalescerImpl implements PolynomialRequestCoalescer {
+    private final Map<Object, CompletableFuture<Object>> inFlightComputations = new ConcurrentHashMap<>();
+    private final Counter coalescedWaitersCounter;
+
+    public PolynomialRequestCoalescerImpl(MeterRegistry meterRegistry) {
+        this.coalescedWaitersCounter = Counter.builder("polynomial.requests.coalesced")
+                .description("Requests that waited for an identical in-flight computation instead of running their own")
+                .register(meterRegistry);
+        meterRegistry.gaugeMapSize("polynomial.requests.in.flight", List.of(), inFlightComputations);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T coalesce(Object key, Supplier<T> computation) {
+        CompletableFuture<Object> computationFuture = new CompletableFuture<>();
+        CompletableFuture<Object> inFlightComputation = inFlightComputations.putIfAbsent(key, computationFuture);
+        if (inFlightComputation != null) {
+            log.info("Waiting for in-flight computation of {}", key);
+            coalescedWaitersCounter.increment();
+            return (T) await(inFlightComputation);
+        }
+
+        try {
+            T result = computation.get();
+            computationFuture.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            computationFuture.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightComputations.remove(key, computationFuture);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> inFlightComputation) {
+        try {
+            return inFlightComputation.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.kostenko.polynomial.processing.api.service.codec;
+
+import com.kostenko.polynomial.processing.api.model.Polynomial;
+
+public interface PolynomialCodec {
+    byte[] encode(Polynomial polynomial);
+
+    Polynomial decode(byte[] binary);
+}
@@ -0,0 +1,87 @@
+package com.kostenko.polynomial.processing.api.service.codec.impl;
+
+import com.kostenko.polynomial.processing.api.model.Polynomial;
+import com.kostenko.polynomial.processing.api.model.Term;
+import com.kostenko.polynomial.processing.api.model.impl.PolynomialImpl;
+import com.kostenko.polynomial.processing.api.service.codec.PolynomialCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+
+@Slf4j
+@Service
+public class PolynomialCodecImpl implements PolynomialCodec {
+    private static final byte FORMAT_VERSION = 1;
+    private static final int MAX_VARINT_BYTES = 5;
+
+    @Override
+    public byte[] encode(Polynomial polynomial) {
+        log.debug("Encoding polynomial ({})", polynomial);
+        Polynomial simplifiedPolynomial = polynomial.simplify();
+
+        int termCount = 0;
+        for (Term ignored : simplifiedPolynomial) {
+            termCount++;
+        }
+
+        byte[] buffer = new byte[1 + MAX_VARINT_BYTES * (1 + 2 * termCount)];
+        buffer[0] = FORMAT_VERSION;
+        int position = writeVarint(buffer, 1, termCount);
+
+        int previousDegree = 0;
+        boolean first = true;
+        for (Term term : simplifiedPolynomial) {
+            position = writeVarint(buffer, position, first ? term.degree() : previousDegree - term.degree());
+            position = writeVarint(buffer, position, (term.coefficient() << 1) ^ (term.coefficient() >> 31));
+            previousDegree = term.degree();
+            first = false;
+        }
+        return Arrays.copyOf(buffer, position);
+    }
+
+    @Override
+    public Polynomial decode(byte[] binary) {
+        log.debug("Decoding polynomial from {} bytes", binary.length);
+        if (binary.length == 0 || binary[0] != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported polynomial binary format");
+        }
+
+        int[] position = {1};
+        int termCount = readVarint(binary, position);
+        int[] degrees = new int[termCount];
+        int[] coefficients = new int[termCount];
+
+        int degree = 0;
+        for (int i = 0; i < termCount; i++) {
+            int degreeValue = readVarint(binary, position);
+            degree = i == 0 ? degreeValue : degree - degreeValue;
+            int zigZagCoefficient = readVarint(binary, position);
+
+            degrees[i] = degree;
+            coefficients[i] = (zigZagCoefficient >>> 1) ^ -(zigZagCoefficient & 1);
+        }
+        return PolynomialImpl.fromDescendingTerms(degrees, coefficients, termCount);
+    }
+
+    private int writeVarint(byte[] buffer, int position, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return position;
+    }
+
+    private int readVarint(byte[] buffer, int[] position) {
+        int value = 0;
+        for (int shift = 0; shift < 32 && position[0] < buffer.length; shift += 7) {
+            byte b = buffer[position[0]++];
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint in polynomial binary");
+    }
+}
@@ -0,0 +1,15 @@
+package com.kostenko.polynomial.processing.api.service.cost;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum CachePath {
+    COMPUTE("compute", false, false),
+    LOOKUP("lookup", true, true);
+
+    private final String tag;
+    private final boolean lookup;
+    private final boolean persist;
+}
@@ -0,0 +1,7 @@
+package com.kostenko.polynomial.processing.api.service.cost;
+
+public interface PolynomialCostModel {
+    long estimateCostNanos(String polynomial);
+
+    CachePath choosePath(String polynomial);
+}
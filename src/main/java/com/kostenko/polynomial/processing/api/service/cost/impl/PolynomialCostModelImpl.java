@@ -0,0 +1,97 @@
+package com.kostenko.polynomial.processing.api.service.cost.impl;
+
+import com.kostenko.polynomial.processing.api.config.PolynomialCostModelProperties;
+import com.kostenko.polynomial.processing.api.service.cost.CachePath;
+import com.kostenko.polynomial.processing.api.service.cost.PolynomialCostModel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Slf4j
+@Service
+public class PolynomialCostModelImpl implements PolynomialCostModel {
+    private static final String DECISION_COUNTER_NAME = "polynomial.cost.decisions";
+    private static final String ESTIMATE_SUMMARY_NAME = "polynomial.cost.estimate";
+
+    private final PolynomialCostModelProperties properties;
+    private final Map<CachePath, Counter> decisionCounters = new EnumMap<>(CachePath.class);
+    private final DistributionSummary estimateSummary;
+
+    public PolynomialCostModelImpl(PolynomialCostModelProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        for (CachePath cachePath : CachePath.values()) {
+            decisionCounters.put(cachePath, Counter.builder(DECISION_COUNTER_NAME)
+                    .description("Number of requests per chosen cache path")
+                    .tag("path", cachePath.getTag())
+                    .register(meterRegistry));
+        }
+        this.estimateSummary = DistributionSummary.builder(ESTIMATE_SUMMARY_NAME)
+                .description("Estimated cost of parsing and simplifying a polynomial")
+                .baseUnit("nanoseconds")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public long estimateCostNanos(String polynomial) {
+        int factorCount = 0;
+        long termCount = 0;
+        long squaredTermCount = 0;
+        long factorTermCount = 0;
+        char previous = '(';
+        for (int i = 0; i < polynomial.length(); i++) {
+            char c = polynomial.charAt(i);
+            if (Character.isWhitespace(c) || c == '*' && previous == ')') {
+                continue;
+            }
+            if (c == '(' || c == ')') {
+                if (factorTermCount > 0) {
+                    factorCount++;
+                    termCount += factorTermCount;
+                    squaredTermCount += factorTermCount * factorTermCount;
+                    factorTermCount = 0;
+                }
+            } else if (c == '+' || c == '-') {
+                if (previous != '+' && previous != '-') {
+                    factorTermCount++;
+                }
+            } else if (c != '*' && (previous == '(' || previous == ')')) {
+                factorTermCount++;
+            }
+            previous = c;
+        }
+        if (factorTermCount > 0) {
+            factorCount++;
+            termCount += factorTermCount;
+            squaredTermCount += factorTermCount * factorTermCount;
+        }
+
+        long termProducts = (termCount * termCount - squaredTermCount) / 2;
+        double cost = properties.nanosPerCharacter() * polynomial.length()
+                + properties.nanosPerFactor() * factorCount
+                + properties.nanosPerTermProduct() * termProducts;
+        log.debug("Estimated cost of polynomial of length {} with {} factors and {} terms: {} ns",
+                polynomial.length(), factorCount, termCount, cost);
+        return (long) Math.min(cost, Long.MAX_VALUE);
+    }
+
+    @Override
+    public CachePath choosePath(String polynomial) {
+        CachePath cachePath = CachePath.LOOKUP;
+        if (properties.enabled()) {
+            long cost = estimateCostNanos(polynomial);
+            estimateSummary.record(cost);
+            if (cost < properties.threshold().toNanos()) {
+                cachePath = CachePath.COMPUTE;
+            }
+        }
+        log.info("Chosen cache path for polynomial ({}): {}", polynomial, cachePath);
+        decisionCounters.get(cachePath).increment();
+        return cachePath;
+    }
+}
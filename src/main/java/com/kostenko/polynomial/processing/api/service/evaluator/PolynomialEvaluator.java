@@ -0,0 +1,13 @@
+package com.kostenko.polynomial.processing.api.service.evaluator;
+
+import com.kostenko.polynomial.processing.api.model.Polynomial;
+
+import java.util.PrimitiveIterator;
+
+public interface PolynomialEvaluator {
+    int evaluate(Polynomial polynomial, int x);
+
+    int[] evaluate(Polynomial polynomial, int[] xs);
+
+    PrimitiveIterator.OfInt evaluateRange(Polynomial polynomial, int start, int end, int step);
+}
@@ -0,0 +1,38 @@
+package com.kostenko.polynomial.processing.api.service.evaluator.impl;
+
+import com.kostenko.polynomial.processing.api.config.PolynomialEvaluationProperties;
+import com.kostenko.polynomial.processing.api.model.Polynomial;
+import com.kostenko.polynomial.processing.api.service.evaluator.PolynomialEvaluator;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.PrimitiveIterator;
+
+@Slf4j
+@Service
+@AllArgsConstructor
+public class PolynomialEvaluatorImpl implements PolynomialEvaluator {
+    private final PolynomialEvaluationProperties polynomialEvaluationProperties;
+
+    @Override
+    public int evaluate(Polynomial polynomial, int x) {
+        log.debug("Evaluating polynomial ({}) for x={} with overflow mode {}",
+                polynomial, x, polynomialEvaluationProperties.overflowMode());
+        return polynomial.evaluate(x, polynomialEvaluationProperties.overflowMode());
+    }
+
+    @Override
+    public int[] evaluate(Polynomial polynomial, int[] xs) {
+        log.debug("Evaluating polynomial ({}) for {} x values with overflow mode {}",
+                polynomial, xs.length, polynomialEvaluationProperties.overflowMode());
+        return polynomial.evaluate(xs, polynomialEvaluationProperties.overflowMode());
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt evaluateRange(Polynomial polynomial, int start, int end, int step) {
+        log.debug("Evaluating polynomial ({}) for x from {} to {} with step {} and overflow mode {}",
+                polynomial, start, end, step, polynomialEvaluationProperties.overflowMode());
+        return polynomial.evaluateRange(start, end, step, polynomialEvaluationProperties.overflowMode());
+    }
+}
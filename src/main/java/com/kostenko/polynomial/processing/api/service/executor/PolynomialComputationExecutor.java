@@ -0,0 +1,14 @@
+package com.kostenko.polynomial.processing.api.service.executor;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
+
+public interface PolynomialComputationExecutor {
+    <T, R> List<R> mapInParallel(List<T> items, Function<T, R> mapper);
+
+    <T> T invoke(ForkJoinTask<T> task);
+
+    Executor executor();
+}
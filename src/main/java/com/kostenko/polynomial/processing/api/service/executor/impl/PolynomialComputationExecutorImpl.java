@@ -0,0 +1,55 @@
+package com.kostenko.polynomial.processing.api.service.executor.impl;
+
+import com.kostenko.polynomial.processing.api.config.PolynomialComputationProperties;
+import com.kostenko.polynomial.processing.api.service.executor.PolynomialComputationExecutor;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
+
+@Slf4j
+@Service
+public class PolynomialComputationExecutorImpl implements PolynomialComputationExecutor {
+    private final ForkJoinPool forkJoinPool;
+
+    public PolynomialComputationExecutorImpl(PolynomialComputationProperties properties) {
+        int parallelism = properties.parallelism() > 0
+                ? properties.parallelism()
+                : Runtime.getRuntime().availableProcessors();
+        log.info("Creating polynomial computation pool with parallelism {}", parallelism);
+        this.forkJoinPool = new ForkJoinPool(parallelism);
+    }
+
+    @Override
+    public <T, R> List<R> mapInParallel(List<T> items, Function<T, R> mapper) {
+        log.debug("Mapping {} items in polynomial computation pool", items.size());
+        return forkJoinPool.submit(() -> items.parallelStream()
+                        .map(mapper)
+                        .toList())
+                .join();
+    }
+
+    @Override
+    public <T> T invoke(ForkJoinTask<T> task) {
+        if (ForkJoinTask.getPool() == forkJoinPool) {
+            return task.invoke();
+        }
+        return forkJoinPool.invoke(task);
+    }
+
+    @Override
+    public Executor executor() {
+        return forkJoinPool;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        log.info("Shutting down polynomial computation pool");
+        forkJoinPool.shutdown();
+    }
+}
@@ -0,0 +1,11 @@
+package com.kostenko.polynomial.processing.api.service.filter;
+
+public interface PolynomialKeyFilter {
+    boolean mightContain(String polynomialKey);
+
+    void put(String polynomialKey);
+
+    void recordFalsePositives(int falsePositives);
+
+    void rebuild();
+}
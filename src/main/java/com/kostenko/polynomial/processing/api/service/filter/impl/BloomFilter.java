@@ -0,0 +1,58 @@
+package com.kostenko.polynomial.processing.api.service.filter.impl;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+class BloomFilter {
+    private static final double LN_2 = Math.log(2);
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashFunctions;
+    private final AtomicLong setBitCount = new AtomicLong();
+
+    BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        long optimalBitCount = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (LN_2 * LN_2));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (optimalBitCount + Long.SIZE - 1) / Long.SIZE));
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * Long.SIZE;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitCount / Math.max(1, expectedInsertions) * LN_2));
+    }
+
+    void put(byte[] hash) {
+        ByteBuffer buffer = ByteBuffer.wrap(hash);
+        long hash1 = buffer.getLong(0);
+        long hash2 = buffer.getLong(Long.BYTES);
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = ((hash1 + i * hash2) & Long.MAX_VALUE) % bitCount;
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long previous = bits.getAndAccumulate(word, mask, (value, bit) -> value | bit);
+            if ((previous & mask) == 0) {
+                setBitCount.incrementAndGet();
+            }
+        }
+    }
+
+    boolean mightContain(byte[] hash) {
+        ByteBuffer buffer = ByteBuffer.wrap(hash);
+        long hash1 = buffer.getLong(0);
+        long hash2 = buffer.getLong(Long.BYTES);
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = ((hash1 + i * hash2) & Long.MAX_VALUE) % bitCount;
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    double expectedFalsePositiveProbability() {
+        return Math.pow((double) setBitCount.get() / bitCount, hashFunctions);
+    }
+
+    long memoryBytes() {
+        return bitCount / Byte.SIZE;
+    }
+}
@@ -0,0 +1,156 @@
+package com.kostenko.polynomial.processing.api.service.filter.impl;
+
+import com.kostenko.polynomial.processing.api.config.PolynomialKeyFilterProperties;
+import com.kostenko.polynomial.processing.api.repository.PolynomialRepository;
+import com.kostenko.polynomial.processing.api.repository.entity.PolynomialEntity;
+import com.kostenko.polynomial.processing.api.service.filter.PolynomialKeyFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@Profile("!reactive")
+public class PolynomialKeyFilterImpl implements PolynomialKeyFilter {
+    private final PolynomialKeyFilterProperties properties;
+    private final PolynomialRepository polynomialRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledExecutorService rebuildExecutor;
+    private final Lock rebuildLock = new ReentrantLock();
+
+    private final Counter absentCounter;
+    private final Counter presentCounter;
+    private final Counter falsePositiveCounter;
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter rebuildingFilter;
+
+    public PolynomialKeyFilterImpl(PolynomialKeyFilterProperties properties,
+                                   PolynomialRepository polynomialRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry,
+                                   Environment environment) {
+        this.properties = properties;
+        this.polynomialRepository = polynomialRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.rebuildExecutor = Executors.newSingleThreadScheduledExecutor(Threading.VIRTUAL.isActive(environment)
+                ? Thread.ofVirtual().name("polynomial-key-filter").factory()
+                : Thread.ofPlatform().name("polynomial-key-filter").daemon().factory());
+
+        this.absentCounter = meterRegistry.counter("polynomial.key.filter.checks", "result", "absent");
+        this.presentCounter = meterRegistry.counter("polynomial.key.filter.checks", "result", "present");
+        this.falsePositiveCounter = meterRegistry.counter("polynomial.key.filter.false.positives");
+        Gauge.builder("polynomial.key.filter.false.positive.probability", this,
+                        keyFilter -> keyFilter.filter == null ? 1 : keyFilter.filter.expectedFalsePositiveProbability())
+                .register(meterRegistry);
+        Gauge.builder("polynomial.key.filter.memory", this,
+                        keyFilter -> keyFilter.filter == null ? 0 : keyFilter.filter.memoryBytes())
+                .baseUnit(BaseUnits.BYTES)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.enabled()) {
+            log.info("Polynomial key filter is disabled");
+            return;
+        }
+        log.info("Scheduling polynomial key filter rebuild every {}", properties.rebuildInterval());
+        long rebuildIntervalMillis = properties.rebuildInterval().toMillis();
+        rebuildExecutor.scheduleWithFixedDelay(this::rebuildSafely, 0, rebuildIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public boolean mightContain(String polynomialKey) {
+        BloomFilter currentFilter = filter;
+        if (!properties.enabled() || currentFilter == null) {
+            return true;
+        }
+        boolean mightContain = currentFilter.mightContain(PolynomialEntity.hashPolynomialKey(polynomialKey));
+        (mightContain ? presentCounter : absentCounter).increment();
+        return mightContain;
+    }
+
+    @Override
+    public void put(String polynomialKey) {
+        byte[] polynomialKeyHash = PolynomialEntity.hashPolynomialKey(polynomialKey);
+        BloomFilter nextFilter = rebuildingFilter;
+        if (nextFilter != null) {
+            nextFilter.put(polynomialKeyHash);
+        }
+        BloomFilter currentFilter = filter;
+        if (currentFilter != null) {
+            currentFilter.put(polynomialKeyHash);
+        }
+    }
+
+    @Override
+    public void recordFalsePositives(int falsePositives) {
+        falsePositiveCounter.increment(falsePositives);
+    }
+
+    @Override
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            rebuildFilter();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void rebuildFilter() {
+        long expectedInsertions = Math.max(properties.expectedInsertions(), 2 * polynomialRepository.count());
+        log.info("Rebuilding polynomial key filter for {} expected keys", expectedInsertions);
+        BloomFilter nextFilter = new BloomFilter(expectedInsertions, properties.falsePositiveProbability());
+        rebuildingFilter = nextFilter;
+        try {
+            long[] keys = new long[1];
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<byte[]> polynomialKeyHashes = polynomialRepository.streamAllPolynomialKeyHashes()) {
+                    polynomialKeyHashes.forEach(polynomialKeyHash -> {
+                        nextFilter.put(polynomialKeyHash);
+                        keys[0]++;
+                    });
+                }
+            });
+            filter = nextFilter;
+            log.info("Polynomial key filter was rebuilt with {} keys ({} bytes, expected false positive probability {})",
+                    keys[0], nextFilter.memoryBytes(), nextFilter.expectedFalsePositiveProbability());
+        } finally {
+            rebuildingFilter = null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    private void rebuildSafely() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("Impossible to rebuild polynomial key filter", e);
+        }
+    }
+}
@@ -6,6 +6,8 @@ import com.kostenko.polynomial.processing.api.model.Term;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.Iterator;
+
 @Slf4j
 @Service
 public class PolynomialMapperImpl implements PolynomialMapper {
@@ -13,12 +15,28 @@ public class PolynomialMapperImpl implements PolynomialMapper {
     public String mapPolynomialToString(Polynomial polynomial) {
         log.info("Polynomial to string mapping process was started for ({})", polynomial);
         StringBuilder result = new StringBuilder();
-        polynomial.forEach(term -> mapTermToString(result, term));
-        reduceFirstSignFromResult(result);
+        Iterator<Term> terms = polynomial.iterator();
+        if (!terms.hasNext()) {
+            result.append('0');
+        } else {
+            mapFirstTermToString(result, terms.next());
+            while (terms.hasNext()) {
+                mapTermToString(result, terms.next());
+            }
+        }
         log.info("Polynomial to string mapping process was completed for ({})", polynomial);
         return result.toString();
     }
 
+    private void mapFirstTermToString(StringBuilder result, Term term) {
+        log.debug("Processing first term to string for term ({})", term);
+        if (term.coefficient() < 0) {
+            result.append('-');
+        }
+        mapCoefficientToString(result, term);
+        mapDegreeToString(result, term);
+    }
+
     private void mapTermToString(StringBuilder result, Term term) {
         log.debug("Processing term to string for term ({})", term);
         mapCoefficientSignToString(result, term);
@@ -26,16 +44,6 @@ public class PolynomialMapperImpl implements PolynomialMapper {
         mapDegreeToString(result, term);
     }
 
-    private void reduceFirstSignFromResult(StringBuilder result) {
-        log.debug("Reducing first sign");
-        if (result.charAt(1) == '+') {
-            result.delete(0, 3);
-        } else {
-            result.deleteCharAt(2);
-            result.deleteCharAt(0);
-        }
-    }
-
     private void mapCoefficientSignToString(StringBuilder result, Term term) {
         log.debug("Processing term to coefficient sign for term ({})", term);
         if (term.coefficient() > 0) {
@@ -50,11 +58,11 @@ public class PolynomialMapperImpl implements PolynomialMapper {
         if (term.coefficient() != 1 && term.coefficient() != -1) {
             result.append(Math.abs(term.coefficient()));
             if (term.degree() != 0) {
-                result.append("*");
+                result.append('*');
             }
         } else {
             if (term.degree() == 0) {
-                result.append(Math.abs(term.coefficient()));
+                result.append('1');
             }
         }
     }
@@ -62,9 +70,9 @@ public class PolynomialMapperImpl implements PolynomialMapper {
     private void mapDegreeToString(StringBuilder result, Term term) {
         log.debug("Processing term to degree for term ({})", term);
         if (term.degree() != 0) {
-            result.append("x");
+            result.append('x');
             if (term.degree() != 1) {
-                result.append("^").append(term.degree());
+                result.append('^').append(term.degree());
             }
         }
     }
@@ -0,0 +1,11 @@
+package com.kostenko.polynomial.processing.api.service.metrics;
+
+import com.kostenko.polynomial.processing.api.model.Polynomial;
+
+import java.util.function.Supplier;
+
+public interface PolynomialMetrics {
+    <T> T recordStage(ProcessingStage stage, Supplier<T> supplier);
+
+    void recordPolynomialSize(Polynomial polynomial);
+}
@@ -0,0 +1,16 @@
+package com.kostenko.polynomial.processing.api.service.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum ProcessingStage {
+    PARSE("parse"),
+    SIMPLIFY("simplify"),
+    MULTIPLY("multiply"),
+    EVALUATE("evaluate"),
+    MAP_TO_STRING("map-to-string");
+
+    private final String tag;
+}
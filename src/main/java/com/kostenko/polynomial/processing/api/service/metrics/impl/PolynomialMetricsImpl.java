@@ -0,0 +1,64 @@
+package com.kostenko.polynomial.processing.api.service.metrics.impl;
+
+import com.kostenko.polynomial.processing.api.model.Polynomial;
+import com.kostenko.polynomial.processing.api.model.Term;
+import com.kostenko.polynomial.processing.api.service.metrics.PolynomialMetrics;
+import com.kostenko.polynomial.processing.api.service.metrics.ProcessingStage;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+@Slf4j
+@Service
+public class PolynomialMetricsImpl implements PolynomialMetrics {
+    private static final String STAGE_TIMER_NAME = "polynomial.processing.stage";
+    private static final String TERM_COUNT_SUMMARY_NAME = "polynomial.term.count";
+    private static final String MAX_DEGREE_SUMMARY_NAME = "polynomial.max.degree";
+
+    private final Map<ProcessingStage, Timer> stageTimers = new EnumMap<>(ProcessingStage.class);
+    private final DistributionSummary termCountSummary;
+    private final DistributionSummary maxDegreeSummary;
+
+    public PolynomialMetricsImpl(MeterRegistry meterRegistry) {
+        for (ProcessingStage stage : ProcessingStage.values()) {
+            stageTimers.put(stage, Timer.builder(STAGE_TIMER_NAME)
+                    .description("Time spent in a polynomial processing stage")
+                    .tag("stage", stage.getTag())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+        this.termCountSummary = DistributionSummary.builder(TERM_COUNT_SUMMARY_NAME)
+                .description("Number of terms in simplified polynomials")
+                .baseUnit("terms")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.maxDegreeSummary = DistributionSummary.builder(MAX_DEGREE_SUMMARY_NAME)
+                .description("Maximum degree of simplified polynomials")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public <T> T recordStage(ProcessingStage stage, Supplier<T> supplier) {
+        return stageTimers.get(stage).record(supplier);
+    }
+
+    @Override
+    public void recordPolynomialSize(Polynomial polynomial) {
+        int termCount = 0;
+        int maxDegree = 0;
+        for (Term term : polynomial) {
+            termCount++;
+            maxDegree = Math.max(maxDegree, term.degree());
+        }
+        log.debug("Recording polynomial size: {} terms, max degree {}", termCount, maxDegree);
+        termCountSummary.record(termCount);
+        maxDegreeSummary.record(maxDegree);
+    }
+}
@@ -2,8 +2,12 @@ package com.kostenko.polynomial.processing.api.service.parser;
 
 import com.kostenko.polynomial.processing.api.model.Polynomial;
 
+import java.util.List;
+
 public interface PolynomialParser {
     Polynomial parsePolynomial(String polynomialString);
 
+    List<Polynomial> parseFactors(String polynomialString);
+
     int parseX(String x);
 }
@@ -0,0 +1,45 @@
+package com.kostenko.polynomial.processing.api.service.parser.impl;
+
+import com.kostenko.polynomial.processing.api.model.Polynomial;
+
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+final class PolynomialProductTask extends RecursiveTask<Polynomial> {
+    static final int SEQUENTIAL_MAX_FACTORS = 4;
+
+    private final List<Polynomial> factors;
+    private final int from;
+    private final int to;
+
+    PolynomialProductTask(List<Polynomial> factors) {
+        this(factors, 0, factors.size());
+    }
+
+    private PolynomialProductTask(List<Polynomial> factors, int from, int to) {
+        this.factors = factors;
+        this.from = from;
+        this.to = to;
+    }
+
+    static Polynomial multiply(List<Polynomial> factors, int from, int to) {
+        if (to - from == 1) {
+            return factors.get(from);
+        }
+        int middle = (from + to) >>> 1;
+        return multiply(factors, from, middle).multiply(multiply(factors, middle, to));
+    }
+
+    @Override
+    protected Polynomial compute() {
+        if (to - from <= SEQUENTIAL_MAX_FACTORS) {
+            return multiply(factors, from, to);
+        }
+
+        int middle = (from + to) >>> 1;
+        PolynomialProductTask left = new PolynomialProductTask(factors, from, middle);
+        left.fork();
+        Polynomial right = new PolynomialProductTask(factors, middle, to).compute();
+        return left.join().multiply(right);
+    }
+}
@@ -0,0 +1,247 @@
+package com.kostenko.polynomial.processing.api.service.parser.impl;
+
+import com.kostenko.polynomial.processing.api.exception.ErrorCode;
+import com.kostenko.polynomial.processing.api.exception.parser.impl.PolynomialParserPolynomialRelatedException;
+import com.kostenko.polynomial.processing.api.model.Polynomial;
+import com.kostenko.polynomial.processing.api.model.impl.PolynomialImpl;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.kostenko.polynomial.processing.api.exception.ErrorCode.*;
+
+@Slf4j
+final class PolynomialTokenizer {
+    private static final int END = -1;
+    private static final int MAX_NUMBER_DIGITS = 9;
+
+    private final String source;
+    private final int length;
+    private int position;
+
+    private char[] term = new char[16];
+    private int termLength;
+
+    private int[] degrees = new int[8];
+    private int[] coefficients = new int[8];
+    private int termCount;
+
+    private PolynomialParserPolynomialRelatedException termException;
+
+    PolynomialTokenizer(String source) {
+        this.source = source;
+        this.length = source.length();
+    }
+
+    List<Polynomial> tokenize() {
+        List<Polynomial> factors = new ArrayList<>();
+        int first = nextNonWhitespace();
+
+        if (first == END) {
+            throw unsupportedPolynomialType();
+        }
+
+        if (first != '(') {
+            tokenizeFactor(END);
+            factors.add(buildFactor());
+        } else {
+            do {
+                position++;
+                tokenizeFactor(')');
+                factors.add(buildFactor());
+                position++;
+            } while (consumeFactorDelimiter());
+        }
+
+        if (termException != null) {
+            log.error(termException.getMessage());
+            throw termException;
+        }
+        return factors;
+    }
+
+    private void tokenizeFactor(int terminator) {
+        int c = nextNonWhitespace();
+        if (c == terminator) {
+            throw unsupportedPolynomialType();
+        }
+
+        if (c == '-') {
+            position++;
+        }
+        startTerm(c == '-' ? '-' : '+');
+
+        while (true) {
+            c = nextNonWhitespace();
+            if (c == terminator) {
+                finishTerm();
+                return;
+            }
+            if (c == '+' || c == '-') {
+                finishTerm();
+                startTerm((char) c);
+            } else if (isTermCharacter(c)) {
+                appendToTerm((char) c);
+            } else {
+                throw unsupportedPolynomialType();
+            }
+            position++;
+        }
+    }
+
+    private boolean consumeFactorDelimiter() {
+        int c = nextNonWhitespace();
+        if (c == END) {
+            return false;
+        }
+        if (c == '*') {
+            position++;
+            if (nextNonWhitespace() == '(') {
+                return true;
+            }
+        }
+        throw unsupportedPolynomialType();
+    }
+
+    private int nextNonWhitespace() {
+        while (position < length && source.charAt(position) == ' ') {
+            position++;
+        }
+        return position < length ? source.charAt(position) : END;
+    }
+
+    private void startTerm(char sign) {
+        term[0] = sign;
+        termLength = 1;
+    }
+
+    private void appendToTerm(char c) {
+        if (termLength == term.length) {
+            term = Arrays.copyOf(term, termLength * 2);
+        }
+        term[termLength++] = c;
+    }
+
+    private void finishTerm() {
+        if (termException != null) {
+            return;
+        }
+        try {
+            tokenizeTerm();
+        } catch (PolynomialParserPolynomialRelatedException e) {
+            termException = e;
+        }
+    }
+
+    private void tokenizeTerm() {
+        int indexOfX = indexOfX();
+
+        if (indexOfX == -1) {
+            addTerm(0, parseCoefficient(termLength));
+            return;
+        }
+
+        if (indexOfX == 1) {
+            int coefficient = term[0] == '-' ? -1 : 1;
+            int degree = termLength == 2 ? 1 : parseDegree(indexOfX);
+            addTerm(degree, coefficient);
+            return;
+        }
+
+        if (indexOfX == termLength - 1) {
+            addTerm(1, parseCoefficientBeforeX(indexOfX));
+            return;
+        }
+
+        int degree = parseDegree(indexOfX);
+        int coefficient = parseCoefficientBeforeX(indexOfX);
+        addTerm(degree, coefficient);
+    }
+
+    private int indexOfX() {
+        for (int i = 1; i < termLength; i++) {
+            if (term[i] == 'x') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int parseCoefficient(int end) {
+        int digitsCount = end - 1;
+        if (digitsCount < 1 || digitsCount > MAX_NUMBER_DIGITS || term[1] == '0') {
+            throw termRelatedException(IMPOSSIBLE_TO_PARSE_COEFFICIENT, end);
+        }
+
+        int value = 0;
+        for (int i = 1; i < end; i++) {
+            if (!isDigit(term[i])) {
+                throw termRelatedException(IMPOSSIBLE_TO_PARSE_COEFFICIENT, end);
+            }
+            value = value * 10 + (term[i] - '0');
+        }
+        return term[0] == '-' ? -value : value;
+    }
+
+    private int parseCoefficientBeforeX(int indexOfX) {
+        if (term[indexOfX - 1] != '*') {
+            throw termRelatedException(INCORRECT_MULTIPLY_SIGN_POSITION, termLength);
+        }
+        return parseCoefficient(indexOfX - 1);
+    }
+
+    private int parseDegree(int indexOfX) {
+        if (term[indexOfX + 1] != '^') {
+            throw termRelatedException(INCORRECT_DEGREE_SIGN_POSITION, termLength);
+        }
+
+        int digitsCount = termLength - indexOfX - 2;
+        if (digitsCount < 1 || digitsCount > MAX_NUMBER_DIGITS) {
+            throw termRelatedException(IMPOSSIBLE_TO_PARSE_DEGREE, termLength);
+        }
+
+        int value = 0;
+        for (int i = indexOfX + 2; i < termLength; i++) {
+            if (!isDigit(term[i])) {
+                throw termRelatedException(IMPOSSIBLE_TO_PARSE_DEGREE, termLength);
+            }
+            value = value * 10 + (term[i] - '0');
+        }
+        return value;
+    }
+
+    private void addTerm(int degree, int coefficient) {
+        if (termCount == degrees.length) {
+            degrees = Arrays.copyOf(degrees, termCount * 2);
+            coefficients = Arrays.copyOf(coefficients, termCount * 2);
+        }
+        degrees[termCount] = degree;
+        coefficients[termCount] = coefficient;
+        termCount++;
+    }
+
+    private Polynomial buildFactor() {
+        Polynomial factor = PolynomialImpl.fromTerms(degrees, coefficients, termCount);
+        termCount = 0;
+        return factor;
+    }
+
+    private PolynomialParserPolynomialRelatedException termRelatedException(ErrorCode errorCode, int end) {
+        return new PolynomialParserPolynomialRelatedException(errorCode, new String(term, 0, end));
+    }
+
+    private PolynomialParserPolynomialRelatedException unsupportedPolynomialType() {
+        log.error(UNSUPPORTED_POLYNOMIAL_TYPE.getMessage());
+        return new PolynomialParserPolynomialRelatedException(UNSUPPORTED_POLYNOMIAL_TYPE);
+    }
+
+    private static boolean isTermCharacter(int c) {
+        return isDigit(c) || c == 'x' || c == '*' || c == '^';
+    }
+
+    static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+}
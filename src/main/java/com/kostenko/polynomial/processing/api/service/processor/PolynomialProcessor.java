@@ -1,7 +1,21 @@
 package com.kostenko.polynomial.processing.api.service.processor;
 
+import java.util.Iterator;
+import java.util.List;
+import java.util.PrimitiveIterator;
+
 public interface PolynomialProcessor {
     String simplify(String polynomial);
 
+    List<SimplificationResult> simplifyBatch(List<String> polynomials);
+
+    Iterator<SimplificationResult> streamSimplifyBatch(List<String> polynomials);
+
     int evaluate(String polynomial, String x);
+
+    int[] evaluateBatch(String polynomial, List<String> xs);
+
+    PrimitiveIterator.OfInt streamEvaluateBatch(String polynomial, List<String> xs);
+
+    RangeEvaluation evaluateRange(String polynomial, String start, String end, String step);
 }
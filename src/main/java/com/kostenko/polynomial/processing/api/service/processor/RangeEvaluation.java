@@ -0,0 +1,5 @@
+package com.kostenko.polynomial.processing.api.service.processor;
+
+import java.util.PrimitiveIterator;
+
+public record RangeEvaluation(int start, int end, int step, PrimitiveIterator.OfInt results) { }
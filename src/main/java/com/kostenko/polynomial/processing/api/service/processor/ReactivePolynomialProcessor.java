@@ -0,0 +1,14 @@
+package com.kostenko.polynomial.processing.api.service.processor;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface ReactivePolynomialProcessor {
+    Mono<String> simplify(String polynomial);
+
+    Flux<SimplificationResult> simplifyBatch(List<String> polynomials);
+
+    Mono<Integer> evaluate(String polynomial, String x);
+}
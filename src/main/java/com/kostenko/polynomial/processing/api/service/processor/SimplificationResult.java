@@ -0,0 +1,13 @@
+package com.kostenko.polynomial.processing.api.service.processor;
+
+import com.kostenko.polynomial.processing.api.exception.PolynomialBaseException;
+
+public record SimplificationResult(String simplifiedPolynomial, Integer errorCode, String errorMessage) {
+    public static SimplificationResult simplified(String simplifiedPolynomial) {
+        return new SimplificationResult(simplifiedPolynomial, null, null);
+    }
+
+    public static SimplificationResult failed(PolynomialBaseException exception) {
+        return new SimplificationResult(null, exception.getErrorCode(), exception.getMessage());
+    }
+}
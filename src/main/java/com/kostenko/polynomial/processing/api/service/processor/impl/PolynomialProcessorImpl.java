@@ -7,126 +7,603 @@ import com.kostenko.polynomial.processing.api.repository.EvaluationRepository;
 import com.kostenko.polynomial.processing.api.repository.PolynomialRepository;
 import com.kostenko.polynomial.processing.api.repository.entity.EvaluationEntity;
 import com.kostenko.polynomial.processing.api.repository.entity.PolynomialEntity;
+import com.kostenko.polynomial.processing.api.repository.projection.PolynomialEvaluationProjection;
+import com.kostenko.polynomial.processing.api.service.cache.CachedPolynomial;
+import com.kostenko.polynomial.processing.api.service.cache.PolynomialCache;
+import com.kostenko.polynomial.processing.api.service.canonicalizer.PolynomialCanonicalizer;
+import com.kostenko.polynomial.processing.api.service.codec.PolynomialCodec;
+import com.kostenko.polynomial.processing.api.service.coalescer.PolynomialRequestCoalescer;
+import com.kostenko.polynomial.processing.api.service.cost.CachePath;
+import com.kostenko.polynomial.processing.api.service.cost.PolynomialCostModel;
+import com.kostenko.polynomial.processing.api.service.evaluator.PolynomialEvaluator;
+import com.kostenko.polynomial.processing.api.service.executor.PolynomialComputationExecutor;
+import com.kostenko.polynomial.processing.api.service.filter.PolynomialKeyFilter;
 import com.kostenko.polynomial.processing.api.service.mapper.PolynomialMapper;
+import com.kostenko.polynomial.processing.api.service.metrics.PolynomialMetrics;
+import com.kostenko.polynomial.processing.api.service.metrics.ProcessingStage;
 import com.kostenko.polynomial.processing.api.service.parser.PolynomialParser;
 import com.kostenko.polynomial.processing.api.service.processor.PolynomialProcessor;
+import com.kostenko.polynomial.processing.api.service.processor.RangeEvaluation;
+import com.kostenko.polynomial.processing.api.service.processor.SimplificationResult;
+import com.kostenko.polynomial.processing.api.service.writer.PolynomialWriter;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.postgresql.util.PSQLException;
-import org.springframework.retry.annotation.Retryable;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
-import java.util.Arrays;
-import java.util.Optional;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
+@Profile("!reactive")
 @AllArgsConstructor
 public class PolynomialProcessorImpl implements PolynomialProcessor {
+    static final int BATCH_CHUNK_SIZE = 1000;
+
     private final PolynomialParser polynomialParser;
     private final PolynomialMapper polynomialMapper;
+    private final PolynomialCodec polynomialCodec;
+    private final PolynomialCanonicalizer polynomialCanonicalizer;
+    private final PolynomialEvaluator polynomialEvaluator;
+    private final PolynomialComputationExecutor polynomialComputationExecutor;
+    private final PolynomialMetrics polynomialMetrics;
 
     private final PolynomialRepository polynomialRepository;
     private final EvaluationRepository evaluationRepository;
 
+    private final PolynomialCache polynomialCache;
+    private final PolynomialKeyFilter polynomialKeyFilter;
+    private final PolynomialWriter polynomialWriter;
+    private final PolynomialRequestCoalescer polynomialRequestCoalescer;
+    private final PolynomialCostModel polynomialCostModel;
+
     @Override
-    @Retryable(maxAttempts = 2, retryFor = PSQLException.class)
     public String simplify(String polynomial) {
         log.info("Simplification process has been started for polynomial ({}). Trying to find cached values.", polynomial);
-        Optional<PolynomialEntity> polynomialEntity = polynomialRepository.findByPolynomialRequest(polynomial);
-
-        polynomialEntity.map(PolynomialEntity::getErrorCode)
+        String polynomialKey = polynomialCanonicalizer.canonicalize(polynomial);
+        polynomialCache.findErrorCode(polynomialKey)
                 .ifPresent(this::rethrowException);
 
-        Optional<String> simplifiedPolynomialStringOptional = polynomialEntity.map(PolynomialEntity::getSimplifiedPolynomial);
-        simplifiedPolynomialStringOptional.ifPresent(simplifiedPolynomialString ->
-                log.info("Found cached value for polynomial ({}): ({})", polynomial, simplifiedPolynomialString)
+        Optional<String> memoryCachedPolynomialStringOptional = polynomialCache.findPolynomial(polynomialKey)
+                .map(CachedPolynomial::simplifiedPolynomial);
+        if (memoryCachedPolynomialStringOptional.isPresent()) {
+            log.info("Found memory cached value for polynomial ({}): ({})", polynomial, memoryCachedPolynomialStringOptional.get());
+            return memoryCachedPolynomialStringOptional.get();
+        }
+
+        CachePath cachePath = polynomialCostModel.choosePath(polynomial);
+        if (cachePath == CachePath.COMPUTE) {
+            return processSimplification(polynomialKey, polynomial, cachePath);
+        }
+        return polynomialRequestCoalescer.coalesce(
+                new SimplificationKey(polynomialKey),
+                () -> processSimplificationWithoutMemoryCachedPolynomial(polynomialKey, polynomial, cachePath)
+        );
+    }
+
+    @Override
+    public List<SimplificationResult> simplifyBatch(List<String> polynomials) {
+        List<SimplificationResult> results = new ArrayList<>(polynomials.size());
+        streamSimplifyBatch(polynomials).forEachRemaining(results::add);
+        return results;
+    }
+
+    @Override
+    public Iterator<SimplificationResult> streamSimplifyBatch(List<String> polynomials) {
+        log.info("Batch simplification process has been started for {} polynomials. Trying to find cached values.", polynomials.size());
+        List<SimplificationResult> firstChunkResults = simplifyBatchChunk(polynomials.subList(0, Math.min(BATCH_CHUNK_SIZE, polynomials.size())));
+        return Stream.concat(
+                firstChunkResults.stream(),
+                chunkStarts(polynomials.size()).boxed().flatMap(start ->
+                        simplifyBatchChunk(polynomials.subList(start, Math.min(start + BATCH_CHUNK_SIZE, polynomials.size()))).stream())
+        ).iterator();
+    }
+
+    private List<SimplificationResult> simplifyBatchChunk(List<String> polynomials) {
+        List<String> polynomialKeys = polynomialComputationExecutor.mapInParallel(polynomials, polynomialCanonicalizer::canonicalize);
+
+        Map<String, SimplificationResult> results = new HashMap<>();
+        Map<String, String> notCachedPolynomials = new LinkedHashMap<>();
+        for (int i = 0; i < polynomials.size(); i++) {
+            String polynomialKey = polynomialKeys.get(i);
+            if (results.containsKey(polynomialKey) || notCachedPolynomials.containsKey(polynomialKey)) {
+                continue;
+            }
+            String polynomial = polynomials.get(i);
+            findMemoryCachedSimplificationResult(polynomialKey)
+                    .ifPresentOrElse(result -> results.put(polynomialKey, result),
+                            () -> notCachedPolynomials.put(polynomialKey, polynomial));
+        }
+
+        Map<String, CachePath> cachePaths = new HashMap<>();
+        notCachedPolynomials.forEach((polynomialKey, polynomial) ->
+                cachePaths.put(polynomialKey, polynomialCostModel.choosePath(polynomial))
         );
 
-        return simplifiedPolynomialStringOptional.orElseGet(() -> processSimplification(polynomial));
+        Set<String> mightBeCachedPolynomialKeys = notCachedPolynomials.keySet().stream()
+                .filter(polynomialKey -> cachePaths.get(polynomialKey).isLookup())
+                .filter(polynomialKeyFilter::mightContain)
+                .collect(Collectors.toSet());
+        if (!mightBeCachedPolynomialKeys.isEmpty()) {
+            List<PolynomialEntity> polynomialEntities = polynomialRepository.findAllByPolynomialKeyIn(mightBeCachedPolynomialKeys);
+            polynomialKeyFilter.recordFalsePositives(mightBeCachedPolynomialKeys.size() - polynomialEntities.size());
+            log.info("Found {} cached values among {} polynomials", polynomialEntities.size(), notCachedPolynomials.size());
+            for (PolynomialEntity polynomialEntity : polynomialEntities) {
+                putPolynomialEntityToCache(polynomialEntity);
+                results.put(polynomialEntity.getPolynomialKey(), mapPolynomialEntityToSimplificationResult(polynomialEntity));
+                notCachedPolynomials.remove(polynomialEntity.getPolynomialKey());
+            }
+        }
+
+        if (!notCachedPolynomials.isEmpty()) {
+            processBatchSimplification(notCachedPolynomials, cachePaths, results);
+        }
 
+        return polynomialKeys.stream()
+                .map(results::get)
+                .toList();
     }
 
     @Override
-    @Retryable(retryFor = PSQLException.class)
     public int evaluate(String polynomial, String x) {
         log.info("Evaluation process has been started for polynomial ({}) and x={}. Trying to find cached result.", polynomial, x);
+        String polynomialKey = polynomialCanonicalizer.canonicalize(polynomial);
+
+        Optional<Integer> memoryCachedResultOptional = polynomialCache.findEvaluation(polynomialKey, x);
+        if (memoryCachedResultOptional.isPresent()) {
+            log.info("Found memory cached value for polynomial ({}) and x={}: result={}", polynomial, x, memoryCachedResultOptional.get());
+            return memoryCachedResultOptional.get();
+        }
+
+        CachePath cachePath = polynomialCostModel.choosePath(polynomial);
+        if (cachePath == CachePath.COMPUTE) {
+            return processEvaluationWithoutCachedX(polynomialKey, polynomial, x, Optional.empty(), cachePath);
+        }
+        return polynomialRequestCoalescer.coalesce(
+                new EvaluationKey(polynomialKey, x),
+                () -> processEvaluationWithoutMemoryCachedX(polynomialKey, polynomial, x, cachePath)
+        );
+    }
 
-        Optional<Integer> evaluationResultOptional = evaluationRepository.findByRequestPolynomialAndX(polynomial, x)
-                .map(EvaluationEntity::getEvaluationResult);
+    private int processEvaluationWithoutMemoryCachedX(String polynomialKey, String polynomial, String x, CachePath cachePath) {
+        Optional<PolynomialEvaluationProjection> cachedEvaluation = cachePath.isLookup()
+                ? findEvaluation(polynomialKey, x)
+                : Optional.empty();
+        Optional<Integer> evaluationResultOptional = cachedEvaluation.map(PolynomialEvaluationProjection::getEvaluationResult);
         evaluationResultOptional.ifPresent(evaluationResult ->
                 log.info("Found cached value for polynomial ({}) and x={}: result={}", polynomial, x, evaluationResult)
         );
+        evaluationResultOptional.ifPresent(evaluationResult ->
+                polynomialCache.putEvaluation(polynomialKey, x, evaluationResult)
+        );
+
+        return evaluationResultOptional.orElseGet(() -> processEvaluationWithoutCachedX(polynomialKey, polynomial, x, cachedEvaluation, cachePath));
+    }
 
-        return evaluationResultOptional.orElseGet(() -> processEvaluationWithoutCachedX(polynomial, x));
+    @Override
+    public int[] evaluateBatch(String polynomial, List<String> xs) {
+        int[] results = new int[xs.size()];
+        PrimitiveIterator.OfInt resultIterator = streamEvaluateBatch(polynomial, xs);
+        for (int i = 0; i < results.length; i++) {
+            results[i] = resultIterator.nextInt();
+        }
+        return results;
     }
 
-    private String processSimplification(String polynomial) {
+    @Override
+    public PrimitiveIterator.OfInt streamEvaluateBatch(String polynomial, List<String> xs) {
+        log.info("Batch evaluation process has been started for polynomial ({}) and {} x values. Trying to find cached results.",
+                polynomial, xs.size());
+        String polynomialKey = polynomialCanonicalizer.canonicalize(polynomial);
+        polynomialCache.findErrorCode(polynomialKey)
+                .ifPresent(this::rethrowException);
+
+        int[] firstChunkResults = evaluateBatchChunk(polynomialKey, polynomial, xs.subList(0, Math.min(BATCH_CHUNK_SIZE, xs.size())));
+        return IntStream.concat(
+                IntStream.of(firstChunkResults),
+                chunkStarts(xs.size()).flatMap(start ->
+                        IntStream.of(evaluateBatchChunk(polynomialKey, polynomial, xs.subList(start, Math.min(start + BATCH_CHUNK_SIZE, xs.size())))))
+        ).iterator();
+    }
+
+    private int[] evaluateBatchChunk(String polynomialKey, String polynomial, List<String> xs) {
+        Map<String, Integer> results = new HashMap<>();
+        Set<String> notCachedXs = new LinkedHashSet<>();
+        for (String x : xs) {
+            polynomialCache.findEvaluation(polynomialKey, x)
+                    .ifPresentOrElse(result -> results.put(x, result), () -> notCachedXs.add(x));
+        }
+
+        if (!notCachedXs.isEmpty()) {
+            processBatchEvaluationWithoutMemoryCachedXs(polynomialKey, polynomial, notCachedXs, results);
+        }
+
+        return xs.stream()
+                .mapToInt(results::get)
+                .toArray();
+    }
+
+    @Override
+    public RangeEvaluation evaluateRange(String polynomial, String start, String end, String step) {
+        log.info("Range evaluation process has been started for polynomial ({}) and x from {} to {} with step {}.",
+                polynomial, start, end, step);
+        int parsedStart = polynomialParser.parseX(start);
+        int parsedEnd = polynomialParser.parseX(end);
+        int parsedStep = polynomialParser.parseX(step);
+        if (parsedStart > parsedEnd || parsedStep <= 0) {
+            throw new PolynomialBaseException(ErrorCode.INVALID_RANGE, start, end, step);
+        }
+
+        String polynomialKey = polynomialCanonicalizer.canonicalize(polynomial);
+        polynomialCache.findErrorCode(polynomialKey)
+                .ifPresent(this::rethrowException);
+
+        CachePath cachePath = polynomialCostModel.choosePath(polynomial);
+        Polynomial simplifiedPolynomial = findCachedSimplifiedPolynomial(polynomialKey, polynomial, cachePath.isLookup())
+                .orElseGet(() -> processSimplificationForEvaluation(polynomialKey, polynomial, cachePath))
+                .polynomial();
+        return new RangeEvaluation(
+                parsedStart,
+                parsedEnd,
+                parsedStep,
+                polynomialEvaluator.evaluateRange(simplifiedPolynomial, parsedStart, parsedEnd, parsedStep)
+        );
+    }
+
+    private String processSimplificationWithoutMemoryCachedPolynomial(String polynomialKey, String polynomial, CachePath cachePath) {
+        Optional<PolynomialEntity> polynomialEntity = cachePath.isLookup()
+                ? findPolynomialEntity(polynomialKey)
+                : Optional.empty();
+
+        polynomialEntity.map(PolynomialEntity::getErrorCode)
+                .ifPresent(this::rethrowException);
+
+        Optional<String> simplifiedPolynomialStringOptional = polynomialEntity.map(PolynomialEntity::getSimplifiedPolynomial);
+        simplifiedPolynomialStringOptional.ifPresent(simplifiedPolynomialString ->
+                log.info("Found cached value for polynomial ({}): ({})", polynomial, simplifiedPolynomialString)
+        );
+
+        return simplifiedPolynomialStringOptional.orElseGet(() -> processSimplification(polynomialKey, polynomial, cachePath));
+    }
+
+    private String processSimplification(String polynomialKey, String polynomial, CachePath cachePath) {
         log.info("Cached entity for polynomial ({}) wasn't found. Starting parsing and simplification process.", polynomial);
-        Polynomial parsedPolynomial = polynomialParser.parsePolynomial(polynomial);
-        Polynomial simplifiedPolynomial = parsedPolynomial.simplify();
+        Polynomial simplifiedPolynomial = parseAndSimplify(polynomial);
 
-        String simplifiedPolynomialString = polynomialMapper.mapPolynomialToString(simplifiedPolynomial);
-        polynomialRepository.save(new PolynomialEntity(polynomial, simplifiedPolynomialString));
+        PolynomialEntity polynomialEntity = createPolynomialEntity(polynomialKey, polynomial, simplifiedPolynomial);
+        if (cachePath.isPersist()) {
+            polynomialWriter.writePolynomial(polynomialEntity);
+        }
+        putPolynomialEntityToCache(polynomialEntity, simplifiedPolynomial);
         log.info("Simplification process was completed. Saved polynomial ({}) to cache", polynomial);
-        return simplifiedPolynomialString;
+        return polynomialEntity.getSimplifiedPolynomial();
     }
 
-    private int processEvaluationWithoutCachedX(String polynomialString, String x) {
-        log.info("Cached entity for polynomial ({}) and x={} wasn't found. Trying to find cached polynomial.", polynomialString, x);
+    private void processBatchSimplification(Map<String, String> notCachedPolynomials, Map<String, CachePath> cachePaths,
+                                            Map<String, SimplificationResult> results) {
+        log.info("Cached entities for {} polynomials weren't found. Starting parallel parsing and simplification process.",
+                notCachedPolynomials.size());
+        List<PolynomialEntity> polynomialEntities = polynomialComputationExecutor.mapInParallel(
+                new ArrayList<>(notCachedPolynomials.entrySet()),
+                entry -> simplifyToPolynomialEntity(entry.getKey(), entry.getValue())
+        );
 
-        EvaluationEntity evaluationEntity = new EvaluationEntity();
-        evaluationEntity.setEvaluationRequest(x);
+        for (PolynomialEntity polynomialEntity : polynomialEntities) {
+            if (polynomialEntity.getErrorCode() != null || cachePaths.get(polynomialEntity.getPolynomialKey()).isPersist()) {
+                polynomialWriter.writePolynomial(polynomialEntity);
+            }
+            putPolynomialEntityToCache(polynomialEntity);
+            results.put(polynomialEntity.getPolynomialKey(), mapPolynomialEntityToSimplificationResult(polynomialEntity));
+        }
+        log.info("Batch simplification process was completed. Saved {} polynomials to cache", polynomialEntities.size());
+    }
 
-        Optional<PolynomialEntity> polynomialEntity = polynomialRepository.findByPolynomialRequest(polynomialString);
-        polynomialEntity.ifPresent(evaluationEntity::setPolynomialEntity);
-        polynomialEntity.map(PolynomialEntity::getErrorCode)
+    private PolynomialEntity simplifyToPolynomialEntity(String polynomialKey, String polynomial) {
+        try {
+            Polynomial simplifiedPolynomial = parseAndSimplify(polynomial);
+            return createPolynomialEntity(polynomialKey, polynomial, simplifiedPolynomial);
+        } catch (PolynomialBaseException e) {
+            log.info("Impossible to simplify polynomial ({}): {}", polynomial, e.getMessage());
+            PolynomialEntity polynomialEntity = new PolynomialEntity();
+            polynomialEntity.setPolynomialKey(polynomialKey);
+            polynomialEntity.setPolynomialRequest(polynomial);
+            polynomialEntity.setErrorCode(e.toErrorCodeString());
+            return polynomialEntity;
+        }
+    }
+
+    private Optional<SimplificationResult> findMemoryCachedSimplificationResult(String polynomialKey) {
+        Optional<String> errorCode = polynomialCache.findErrorCode(polynomialKey);
+        if (errorCode.isPresent()) {
+            return errorCode.map(PolynomialBaseException::fromErrorCodeString)
+                    .map(SimplificationResult::failed);
+        }
+        return polynomialCache.findPolynomial(polynomialKey)
+                .map(CachedPolynomial::simplifiedPolynomial)
+                .map(SimplificationResult::simplified);
+    }
+
+    private SimplificationResult mapPolynomialEntityToSimplificationResult(PolynomialEntity polynomialEntity) {
+        if (polynomialEntity.getErrorCode() != null) {
+            return SimplificationResult.failed(PolynomialBaseException.fromErrorCodeString(polynomialEntity.getErrorCode()));
+        }
+        return SimplificationResult.simplified(polynomialEntity.getSimplifiedPolynomial());
+    }
+
+    private int processEvaluationWithoutCachedX(String polynomialKey, String polynomialString, String x,
+                                                Optional<PolynomialEvaluationProjection> cachedPolynomial, CachePath cachePath) {
+        log.info("Cached entity for polynomial ({}) and x={} wasn't found. Trying to find cached polynomial.", polynomialString, x);
+
+        polynomialCache.findErrorCode(polynomialKey)
                 .ifPresent(this::rethrowException);
+        cachedPolynomial.map(PolynomialEvaluationProjection::getErrorCode)
+                .ifPresent(errorCode -> {
+                    polynomialCache.putErrorCode(polynomialKey, errorCode);
+                    rethrowException(errorCode);
+                });
+
+        Optional<CachedPolynomial> memoryCachedPolynomial = polynomialCache.findPolynomial(polynomialKey);
+        if (memoryCachedPolynomial.isPresent()) {
+            return processEvaluationWithMemoryCachedPolynomial(polynomialKey, polynomialString, x, memoryCachedPolynomial.get(), cachePath);
+        }
 
         int parsedX = polynomialParser.parseX(x);
 
-        Optional<String> simplifiedPolynomialOptional = polynomialEntity.map(PolynomialEntity::getSimplifiedPolynomial);
-        simplifiedPolynomialOptional.ifPresent(simplifiedPolynomialString ->
-                log.info("Found cached simplified polynomial for polynomial ({}): ({})", polynomialString, simplifiedPolynomialString)
+        Optional<Polynomial> cachedSimplifiedPolynomial = cachedPolynomial.map(cachedPolynomialProjection -> {
+            Polynomial simplifiedPolynomial = decodeSimplifiedPolynomial(
+                    polynomialKey,
+                    cachedPolynomialProjection.getSimplifiedPolynomial(),
+                    cachedPolynomialProjection.getSimplifiedPolynomialBinary()
+            );
+            polynomialCache.putPolynomial(polynomialKey, new CachedPolynomial(cachedPolynomialProjection.getSimplifiedPolynomial(), simplifiedPolynomial));
+            return simplifiedPolynomial;
+        });
+
+        cachedSimplifiedPolynomial.ifPresent(simplifiedPolynomial ->
+                log.info("Found cached simplified polynomial for polynomial ({})", polynomialString)
         );
 
-        Optional<Integer> optionalResult = simplifiedPolynomialOptional.map(polynomialParser::parsePolynomial)
-                .map(polynomial -> polynomial.evaluate(parsedX));
+        Optional<Integer> optionalResult = cachedSimplifiedPolynomial.map(polynomial -> evaluate(polynomial, parsedX));
 
-        optionalResult.ifPresent(evaluationEntity::setEvaluationResult);
-        optionalResult.ifPresent(result -> evaluationRepository.save(evaluationEntity));
+        optionalResult.ifPresent(result -> polynomialWriter.writeEvaluation(polynomialKey, x, result));
+        optionalResult.ifPresent(result -> polynomialCache.putEvaluation(polynomialKey, x, result));
         optionalResult.ifPresent(result ->
                 log.info("Evaluation process was completed. Saved x={} and result={} to cache", x, result)
         );
-        return optionalResult.orElseGet(() -> processEvaluation(polynomialString, x, parsedX));
+        return optionalResult.orElseGet(() -> processEvaluation(polynomialKey, polynomialString, x, parsedX, cachePath));
     }
 
-    private int processEvaluation(String polynomialString, String x, int parsedX) {
+    private int processEvaluation(String polynomialKey, String polynomialString, String x, int parsedX, CachePath cachePath) {
         log.info("Cached entity for polynomial ({}) wasn't found. Trying to parse, simplify and evaluate data.", polynomialString);
-        Polynomial parsedPolynomial = polynomialParser.parsePolynomial(polynomialString);
-        Polynomial simplifiedPolynomial = parsedPolynomial.simplify();
+        Polynomial simplifiedPolynomial = parseAndSimplify(polynomialString);
+        PolynomialEntity polynomialEntity = createPolynomialEntity(polynomialKey, polynomialString, simplifiedPolynomial);
+        putPolynomialEntityToCache(polynomialEntity, simplifiedPolynomial);
 
-        String simplifiedPolynomialString = polynomialMapper.mapPolynomialToString(simplifiedPolynomial);
-        int result = simplifiedPolynomial.evaluate(parsedX);
+        int result;
+        try {
+            result = evaluate(simplifiedPolynomial, parsedX);
+        } catch (PolynomialBaseException e) {
+            if (cachePath.isPersist()) {
+                polynomialWriter.writePolynomial(polynomialEntity);
+            }
+            throw e;
+        }
 
-        PolynomialEntity polynomialEntity = new PolynomialEntity(polynomialString, simplifiedPolynomialString);
-        EvaluationEntity evaluationEntity = new EvaluationEntity(polynomialEntity, x, result);
-        evaluationRepository.save(evaluationEntity);
+        if (cachePath.isPersist()) {
+            polynomialWriter.writeEvaluation(polynomialEntity, x, result);
+        }
+        polynomialCache.putEvaluation(polynomialKey, x, result);
         log.info("Evaluation process was completed. Saved polynomial ({}), x={} and result={} to cache", polynomialString, x, result);
         return result;
     }
 
-    private void rethrowException(String errorCode) {
-        log.info("Rethrowing exception {} from cache", errorCode);
-        String[] errorCodeArray = errorCode.split(" ");
-        int errorCodeInt = Integer.parseInt(errorCodeArray[0]);
-        ErrorCode errorCodeEnum = ErrorCode.getErrorCodeByCode(errorCodeInt);
+    private int processEvaluationWithMemoryCachedPolynomial(String polynomialKey, String polynomialString, String x,
+                                                           CachedPolynomial cachedPolynomial, CachePath cachePath) {
+        log.info("Found memory cached simplified polynomial for polynomial ({}): ({})", polynomialString, cachedPolynomial.simplifiedPolynomial());
+        int parsedX = polynomialParser.parseX(x);
+        int result = evaluate(cachedPolynomial.polynomial(), parsedX);
+
+        if (cachePath.isPersist()) {
+            polynomialWriter.writeEvaluation(createPolynomialEntity(polynomialKey, polynomialString, cachedPolynomial), x, result);
+        }
+        polynomialCache.putEvaluation(polynomialKey, x, result);
+        log.info("Evaluation process was completed. Saved x={} and result={} to cache", x, result);
+        return result;
+    }
+
+    private void processBatchEvaluationWithoutMemoryCachedXs(String polynomialKey, String polynomial, Set<String> notCachedXs,
+                                                             Map<String, Integer> results) {
+        CachePath cachePath = polynomialCostModel.choosePath(polynomial);
+        if (cachePath.isLookup() && polynomialKeyFilter.mightContain(polynomialKey)) {
+            List<EvaluationEntity> evaluationEntities = evaluationRepository.findAllByPolynomialKeyAndXIn(polynomialKey, notCachedXs);
+            log.info("Found {} cached values for polynomial ({}) among {} x values", evaluationEntities.size(), polynomial, notCachedXs.size());
+            for (EvaluationEntity evaluationEntity : evaluationEntities) {
+                results.put(evaluationEntity.getEvaluationRequest(), evaluationEntity.getEvaluationResult());
+                polynomialCache.putEvaluation(polynomialKey, evaluationEntity.getEvaluationRequest(), evaluationEntity.getEvaluationResult());
+                notCachedXs.remove(evaluationEntity.getEvaluationRequest());
+            }
+        }
+
+        if (!notCachedXs.isEmpty()) {
+            processBatchEvaluationWithoutCachedXs(polynomialKey, polynomial, new ArrayList<>(notCachedXs), cachePath, results);
+        }
+    }
+
+    private void processBatchEvaluationWithoutCachedXs(String polynomialKey, String polynomialString, List<String> xs,
+                                                       CachePath cachePath, Map<String, Integer> results) {
+        log.info("Cached entities for polynomial ({}) and {} x values weren't found. Trying to find cached polynomial.",
+                polynomialString, xs.size());
+
+        Optional<CachedPolynomial> cachedSimplifiedPolynomial = findCachedSimplifiedPolynomial(polynomialKey, polynomialString, cachePath.isLookup());
+
+        int[] parsedXs = xs.stream()
+                .mapToInt(polynomialParser::parseX)
+                .toArray();
+
+        CachedPolynomial simplifiedPolynomial = cachedSimplifiedPolynomial
+                .orElseGet(() -> processSimplificationForEvaluation(polynomialKey, polynomialString, cachePath));
+
+        int[] evaluationResults = polynomialMetrics.recordStage(
+                ProcessingStage.EVALUATE,
+                () -> polynomialEvaluator.evaluate(simplifiedPolynomial.polynomial(), parsedXs)
+        );
+
+        PolynomialEntity polynomialEntity = cachePath.isPersist()
+                ? createPolynomialEntity(polynomialKey, polynomialString, simplifiedPolynomial)
+                : null;
+        for (int i = 0; i < xs.size(); i++) {
+            if (polynomialEntity != null) {
+                polynomialWriter.writeEvaluation(polynomialEntity, xs.get(i), evaluationResults[i]);
+            }
+            results.put(xs.get(i), evaluationResults[i]);
+            polynomialCache.putEvaluation(polynomialKey, xs.get(i), evaluationResults[i]);
+        }
+        log.info("Batch evaluation process was completed. Saved polynomial ({}) and {} results to cache", polynomialString, xs.size());
+    }
+
+    private Optional<CachedPolynomial> findCachedSimplifiedPolynomial(String polynomialKey, String polynomialString, boolean databaseLookup) {
+        Optional<CachedPolynomial> cachedSimplifiedPolynomial = polynomialCache.findPolynomial(polynomialKey);
+        if (cachedSimplifiedPolynomial.isEmpty() && databaseLookup) {
+            cachedSimplifiedPolynomial = findSimplifiedPolynomial(polynomialKey);
+        }
+        cachedSimplifiedPolynomial.ifPresent(simplifiedPolynomial ->
+                log.info("Found cached simplified polynomial for polynomial ({})", polynomialString)
+        );
+        return cachedSimplifiedPolynomial;
+    }
 
-        Object[] parameters = null;
-        if (errorCodeArray.length > 1) {
-            parameters = Arrays.stream(errorCodeArray).skip(1).toArray();
+    private CachedPolynomial processSimplificationForEvaluation(String polynomialKey, String polynomialString, CachePath cachePath) {
+        log.info("Cached entity for polynomial ({}) wasn't found. Trying to parse and simplify it.", polynomialString);
+        Polynomial simplifiedPolynomial = parseAndSimplify(polynomialString);
+        PolynomialEntity polynomialEntity = createPolynomialEntity(polynomialKey, polynomialString, simplifiedPolynomial);
+        if (cachePath.isPersist()) {
+            polynomialWriter.writePolynomial(polynomialEntity);
         }
+        putPolynomialEntityToCache(polynomialEntity, simplifiedPolynomial);
+        return new CachedPolynomial(polynomialEntity.getSimplifiedPolynomial(), simplifiedPolynomial);
+    }
+
+    private Optional<PolynomialEntity> findPolynomialEntity(String polynomialKey) {
+        Optional<PolynomialEntity> polynomialEntity = findPolynomialEntityIfMightBeCached(polynomialKey);
+        polynomialEntity.ifPresent(this::putPolynomialEntityToCache);
+        return polynomialEntity;
+    }
 
-        throw new PolynomialBaseException(errorCodeEnum, parameters);
+    private Optional<PolynomialEntity> findPolynomialEntityIfMightBeCached(String polynomialKey) {
+        if (!polynomialKeyFilter.mightContain(polynomialKey)) {
+            log.info("Polynomial ({}) is absent in key filter. Skipping database lookup.", polynomialKey);
+            return Optional.empty();
+        }
+        Optional<PolynomialEntity> polynomialEntity = polynomialRepository.findByPolynomialKey(polynomialKey);
+        if (polynomialEntity.isEmpty()) {
+            polynomialKeyFilter.recordFalsePositives(1);
+        }
+        return polynomialEntity;
     }
+
+    private Optional<PolynomialEvaluationProjection> findEvaluation(String polynomialKey, String x) {
+        if (!polynomialKeyFilter.mightContain(polynomialKey)) {
+            log.info("Polynomial ({}) is absent in key filter. Skipping database lookup.", polynomialKey);
+            return Optional.empty();
+        }
+        Optional<PolynomialEvaluationProjection> cachedEvaluation = polynomialRepository.findEvaluationByPolynomialKeyAndX(polynomialKey, x);
+        if (cachedEvaluation.isEmpty()) {
+            polynomialKeyFilter.recordFalsePositives(1);
+        }
+        return cachedEvaluation;
+    }
+
+    private Optional<CachedPolynomial> findSimplifiedPolynomial(String polynomialKey) {
+        Optional<PolynomialEntity> polynomialEntity = findPolynomialEntityIfMightBeCached(polynomialKey);
+        polynomialEntity.map(PolynomialEntity::getErrorCode)
+                .ifPresent(errorCode -> {
+                    polynomialCache.putErrorCode(polynomialKey, errorCode);
+                    rethrowException(errorCode);
+                });
+
+        return polynomialEntity.map(cachedPolynomialEntity -> {
+            Polynomial simplifiedPolynomial = decodeSimplifiedPolynomial(cachedPolynomialEntity);
+            putPolynomialEntityToCache(cachedPolynomialEntity, simplifiedPolynomial);
+            return new CachedPolynomial(cachedPolynomialEntity.getSimplifiedPolynomial(), simplifiedPolynomial);
+        });
+    }
+
+    private void putPolynomialEntityToCache(PolynomialEntity polynomialEntity) {
+        if (polynomialEntity.getErrorCode() != null) {
+            polynomialCache.putErrorCode(polynomialEntity.getPolynomialKey(), polynomialEntity.getErrorCode());
+        } else {
+            putPolynomialEntityToCache(polynomialEntity, decodeSimplifiedPolynomial(polynomialEntity));
+        }
+    }
+
+    private void putPolynomialEntityToCache(PolynomialEntity polynomialEntity, Polynomial simplifiedPolynomial) {
+        polynomialCache.putPolynomial(
+                polynomialEntity.getPolynomialKey(),
+                new CachedPolynomial(polynomialEntity.getSimplifiedPolynomial(), simplifiedPolynomial)
+        );
+    }
+
+    private PolynomialEntity createPolynomialEntity(String polynomialKey, String polynomial, Polynomial simplifiedPolynomial) {
+        return new PolynomialEntity(
+                polynomialKey,
+                polynomial,
+                polynomialMetrics.recordStage(ProcessingStage.MAP_TO_STRING, () -> polynomialMapper.mapPolynomialToString(simplifiedPolynomial)),
+                polynomialCodec.encode(simplifiedPolynomial)
+        );
+    }
+
+    private PolynomialEntity createPolynomialEntity(String polynomialKey, String polynomial, CachedPolynomial cachedPolynomial) {
+        return new PolynomialEntity(
+                polynomialKey,
+                polynomial,
+                cachedPolynomial.simplifiedPolynomial(),
+                polynomialCodec.encode(cachedPolynomial.polynomial())
+        );
+    }
+
+    private Polynomial decodeSimplifiedPolynomial(PolynomialEntity polynomialEntity) {
+        return decodeSimplifiedPolynomial(
+                polynomialEntity.getPolynomialKey(),
+                polynomialEntity.getSimplifiedPolynomial(),
+                polynomialEntity.getSimplifiedPolynomialBinary()
+        );
+    }
+
+    private Polynomial decodeSimplifiedPolynomial(String polynomialKey, String simplifiedPolynomial, byte[] simplifiedPolynomialBinary) {
+        if (simplifiedPolynomialBinary != null) {
+            return polynomialCodec.decode(simplifiedPolynomialBinary);
+        }
+        log.info("Binary form of polynomial ({}) is missing. Parsing simplified polynomial.", polynomialKey);
+        return polynomialMetrics.recordStage(
+                ProcessingStage.PARSE,
+                () -> polynomialParser.parsePolynomial(simplifiedPolynomial)
+        );
+    }
+
+    private IntStream chunkStarts(int size) {
+        return IntStream.iterate(BATCH_CHUNK_SIZE, start -> start < size, start -> start + BATCH_CHUNK_SIZE);
+    }
+
+    private Polynomial parseAndSimplify(String polynomial) {
+        Polynomial parsedPolynomial = polynomialMetrics.recordStage(ProcessingStage.PARSE, () -> polynomialParser.parsePolynomial(polynomial));
+        Polynomial simplifiedPolynomial = polynomialMetrics.recordStage(ProcessingStage.SIMPLIFY, parsedPolynomial::simplify);
+        polynomialMetrics.recordPolynomialSize(simplifiedPolynomial);
+        return simplifiedPolynomial;
+    }
+
+    private int evaluate(Polynomial polynomial, int x) {
+        return polynomialMetrics.recordStage(ProcessingStage.EVALUATE, () -> polynomialEvaluator.evaluate(polynomial, x));
+    }
+
+    private void rethrowException(String errorCode) {
+        log.info("Rethrowing exception {} from cache", errorCode);
+        throw PolynomialBaseException.fromErrorCodeString(errorCode);
+    }
+
+    private record SimplificationKey(String polynomialKey) { }
+
+    private record EvaluationKey(String polynomialKey, String x) { }
 }
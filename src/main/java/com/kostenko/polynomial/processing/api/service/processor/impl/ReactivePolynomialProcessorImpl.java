@@ -0,0 +1,324 @@
+package com.kostenko.polynomial.processing.api.service.processor.impl;
+
+import com.kostenko.polynomial.processing.api.exception.PolynomialBaseException;
+import com.kostenko.polynomial.processing.api.exception.parser.impl.PolynomialParserPolynomialRelatedException;
+import com.kostenko.polynomial.processing.api.model.Polynomial;
+import com.kostenko.polynomial.processing.api.repository.reactive.ReactiveEvaluationRepository;
+import com.kostenko.polynomial.processing.api.repository.reactive.ReactivePolynomialRepository;
+import com.kostenko.polynomial.processing.api.repository.reactive.entity.PolynomialRecord;
+import com.kostenko.polynomial.processing.api.repository.reactive.projection.PolynomialEvaluationRecord;
+import com.kostenko.polynomial.processing.api.service.cache.CachedPolynomial;
+import com.kostenko.polynomial.processing.api.service.cache.PolynomialCache;
+import com.kostenko.polynomial.processing.api.service.canonicalizer.PolynomialCanonicalizer;
+import com.kostenko.polynomial.processing.api.service.codec.PolynomialCodec;
+import com.kostenko.polynomial.processing.api.service.cost.CachePath;
+import com.kostenko.polynomial.processing.api.service.cost.PolynomialCostModel;
+import com.kostenko.polynomial.processing.api.service.evaluator.PolynomialEvaluator;
+import com.kostenko.polynomial.processing.api.service.executor.PolynomialComputationExecutor;
+import com.kostenko.polynomial.processing.api.service.mapper.PolynomialMapper;
+import com.kostenko.polynomial.processing.api.service.metrics.PolynomialMetrics;
+import com.kostenko.polynomial.processing.api.service.metrics.ProcessingStage;
+import com.kostenko.polynomial.processing.api.service.parser.PolynomialParser;
+import com.kostenko.polynomial.processing.api.service.processor.ReactivePolynomialProcessor;
+import com.kostenko.polynomial.processing.api.service.processor.SimplificationResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+@Slf4j
+@Service
+@Profile("reactive")
+public class ReactivePolynomialProcessorImpl implements ReactivePolynomialProcessor {
+    private final PolynomialParser polynomialParser;
+    private final PolynomialMapper polynomialMapper;
+    private final PolynomialCodec polynomialCodec;
+    private final PolynomialCanonicalizer polynomialCanonicalizer;
+    private final PolynomialEvaluator polynomialEvaluator;
+    private final PolynomialMetrics polynomialMetrics;
+    private final PolynomialCostModel polynomialCostModel;
+
+    private final ReactivePolynomialRepository polynomialRepository;
+    private final ReactiveEvaluationRepository evaluationRepository;
+
+    private final PolynomialCache polynomialCache;
+    private final Scheduler computationScheduler;
+
+    public ReactivePolynomialProcessorImpl(PolynomialParser polynomialParser,
+                                           PolynomialMapper polynomialMapper,
+                                           PolynomialCodec polynomialCodec,
+                                           PolynomialCanonicalizer polynomialCanonicalizer,
+                                           PolynomialEvaluator polynomialEvaluator,
+                                           PolynomialComputationExecutor polynomialComputationExecutor,
+                                           PolynomialMetrics polynomialMetrics,
+                                           PolynomialCostModel polynomialCostModel,
+                                           ReactivePolynomialRepository polynomialRepository,
+                                           ReactiveEvaluationRepository evaluationRepository,
+                                           PolynomialCache polynomialCache) {
+        this.polynomialParser = polynomialParser;
+        this.polynomialMapper = polynomialMapper;
+        this.polynomialCodec = polynomialCodec;
+        this.polynomialCanonicalizer = polynomialCanonicalizer;
+        this.polynomialEvaluator = polynomialEvaluator;
+        this.polynomialMetrics = polynomialMetrics;
+        this.polynomialCostModel = polynomialCostModel;
+        this.polynomialRepository = polynomialRepository;
+        this.evaluationRepository = evaluationRepository;
+        this.polynomialCache = polynomialCache;
+        this.computationScheduler = Schedulers.fromExecutor(polynomialComputationExecutor.executor());
+    }
+
+    @Override
+    public Mono<String> simplify(String polynomial) {
+        log.info("Reactive simplification process has been started for polynomial ({}). Trying to find cached values.", polynomial);
+        return compute(() -> polynomialCanonicalizer.canonicalize(polynomial))
+                .flatMap(polynomialKey -> simplify(polynomialKey, polynomial));
+    }
+
+    @Override
+    public Flux<SimplificationResult> simplifyBatch(List<String> polynomials) {
+        log.info("Reactive batch simplification process has been started for {} polynomials.", polynomials.size());
+        return Flux.fromIterable(polynomials)
+                .flatMapSequential(polynomial -> simplify(polynomial)
+                        .map(SimplificationResult::simplified)
+                        .onErrorResume(PolynomialBaseException.class, e -> Mono.just(SimplificationResult.failed(e))));
+    }
+
+    @Override
+    public Mono<Integer> evaluate(String polynomial, String x) {
+        log.info("Reactive evaluation process has been started for polynomial ({}) and x={}. Trying to find cached result.", polynomial, x);
+        return compute(() -> polynomialCanonicalizer.canonicalize(polynomial))
+                .flatMap(polynomialKey -> evaluate(polynomialKey, polynomial, x));
+    }
+
+    private Mono<String> simplify(String polynomialKey, String polynomial) {
+        Optional<String> memoryCachedErrorCode = polynomialCache.findErrorCode(polynomialKey);
+        if (memoryCachedErrorCode.isPresent()) {
+            log.info("Rethrowing exception {} from cache", memoryCachedErrorCode.get());
+            return Mono.error(PolynomialBaseException.fromErrorCodeString(memoryCachedErrorCode.get()));
+        }
+        Optional<CachedPolynomial> memoryCachedPolynomial = polynomialCache.findPolynomial(polynomialKey);
+        if (memoryCachedPolynomial.isPresent()) {
+            log.info("Found memory cached value for polynomial ({}): ({})", polynomial, memoryCachedPolynomial.get().simplifiedPolynomial());
+            return Mono.just(memoryCachedPolynomial.get().simplifiedPolynomial());
+        }
+        CachePath cachePath = polynomialCostModel.choosePath(polynomial);
+        if (!cachePath.isLookup()) {
+            return processAndSaveSimplification(polynomialKey, polynomial, cachePath);
+        }
+
+        return polynomialRepository.findByPolynomialKey(polynomialKey)
+                .flatMap(polynomialRecord -> {
+                    if (polynomialRecord.errorCode() != null) {
+                        polynomialCache.putErrorCode(polynomialKey, polynomialRecord.errorCode());
+                        return Mono.error(PolynomialBaseException.fromErrorCodeString(polynomialRecord.errorCode()));
+                    }
+                    log.info("Found cached value for polynomial ({}): ({})", polynomial, polynomialRecord.simplifiedPolynomial());
+                    putPolynomialToCache(polynomialKey, polynomialRecord.simplifiedPolynomial(), polynomialRecord.simplifiedPolynomialBinary());
+                    return Mono.just(polynomialRecord.simplifiedPolynomial());
+                })
+                .switchIfEmpty(Mono.defer(() -> processAndSaveSimplification(polynomialKey, polynomial, cachePath)));
+    }
+
+    private Mono<String> processAndSaveSimplification(String polynomialKey, String polynomial, CachePath cachePath) {
+        return processSimplification(polynomialKey, polynomial)
+                .flatMap(simplification -> {
+                    PolynomialRecord polynomialRecord = simplification.polynomialRecord();
+                    if (!cachePath.isPersist()) {
+                        return Mono.just(polynomialRecord.simplifiedPolynomial());
+                    }
+                    return insertPolynomial(polynomialRecord).thenReturn(polynomialRecord.simplifiedPolynomial());
+                });
+    }
+
+    private Mono<Simplification> processSimplification(String polynomialKey, String polynomial) {
+        log.info("Cached entity for polynomial ({}) wasn't found. Starting parsing and simplification process.", polynomial);
+        return compute(() -> {
+            Polynomial simplifiedPolynomial = parseAndSimplify(polynomial);
+            PolynomialRecord polynomialRecord = createPolynomialRecord(polynomialKey, polynomial, simplifiedPolynomial);
+            polynomialCache.putPolynomial(polynomialKey, new CachedPolynomial(polynomialRecord.simplifiedPolynomial(), simplifiedPolynomial));
+            return new Simplification(polynomialRecord, simplifiedPolynomial);
+        }).onErrorResume(PolynomialParserPolynomialRelatedException.class, e -> saveParsingError(polynomialKey, polynomial, e)
+                .then(Mono.error(e)));
+    }
+
+    private Mono<Integer> evaluate(String polynomialKey, String polynomial, String x) {
+        Optional<Integer> memoryCachedResult = polynomialCache.findEvaluation(polynomialKey, x);
+        if (memoryCachedResult.isPresent()) {
+            log.info("Found memory cached value for polynomial ({}) and x={}: result={}", polynomial, x, memoryCachedResult.get());
+            return Mono.just(memoryCachedResult.get());
+        }
+        Optional<String> memoryCachedErrorCode = polynomialCache.findErrorCode(polynomialKey);
+        if (memoryCachedErrorCode.isPresent()) {
+            log.info("Rethrowing exception {} from cache", memoryCachedErrorCode.get());
+            return Mono.error(PolynomialBaseException.fromErrorCodeString(memoryCachedErrorCode.get()));
+        }
+        CachePath cachePath = polynomialCostModel.choosePath(polynomial);
+        Optional<CachedPolynomial> memoryCachedPolynomial = polynomialCache.findPolynomial(polynomialKey);
+        if (memoryCachedPolynomial.isPresent()) {
+            log.info("Found memory cached simplified polynomial for polynomial ({})", polynomial);
+            return processEvaluationWithMemoryCachedPolynomial(polynomialKey, polynomial, x, memoryCachedPolynomial.get(), cachePath);
+        }
+        if (!cachePath.isLookup()) {
+            return processEvaluation(polynomialKey, polynomial, x, cachePath);
+        }
+
+        return polynomialRepository.findEvaluationByPolynomialKeyAndX(polynomialKey, x)
+                .flatMap(evaluationRecord -> processEvaluationWithCachedPolynomial(polynomialKey, polynomial, x, evaluationRecord))
+                .switchIfEmpty(Mono.defer(() -> processEvaluation(polynomialKey, polynomial, x, cachePath)));
+    }
+
+    private Mono<Integer> processEvaluationWithCachedPolynomial(String polynomialKey, String polynomial, String x,
+                                                                PolynomialEvaluationRecord evaluationRecord) {
+        if (evaluationRecord.evaluationResult() != null) {
+            log.info("Found cached value for polynomial ({}) and x={}: result={}", polynomial, x, evaluationRecord.evaluationResult());
+            polynomialCache.putEvaluation(polynomialKey, x, evaluationRecord.evaluationResult());
+            return Mono.just(evaluationRecord.evaluationResult());
+        }
+        if (evaluationRecord.errorCode() != null) {
+            polynomialCache.putErrorCode(polynomialKey, evaluationRecord.errorCode());
+            return Mono.error(PolynomialBaseException.fromErrorCodeString(evaluationRecord.errorCode()));
+        }
+
+        log.info("Found cached simplified polynomial for polynomial ({})", polynomial);
+        Polynomial simplifiedPolynomial = putPolynomialToCache(
+                polynomialKey,
+                evaluationRecord.simplifiedPolynomial(),
+                evaluationRecord.simplifiedPolynomialBinary()
+        );
+        return evaluateAndSave(polynomialKey, simplifiedPolynomial, x, CachePath.LOOKUP);
+    }
+
+    private Mono<Integer> processEvaluationWithMemoryCachedPolynomial(String polynomialKey, String polynomial, String x,
+                                                                      CachedPolynomial cachedPolynomial, CachePath cachePath) {
+        return compute(() -> evaluate(cachedPolynomial.polynomial(), polynomialParser.parseX(x)))
+                .flatMap(result -> {
+                    polynomialCache.putEvaluation(polynomialKey, x, result);
+                    if (!cachePath.isPersist()) {
+                        return Mono.just(result);
+                    }
+                    log.info("Evaluation process was completed. Saving polynomial ({}) if absent, x={} and result={}", polynomial, x, result);
+                    return evaluationRepository.insertIfAbsentWithPolynomial(
+                            polynomialKey,
+                            polynomial,
+                            cachedPolynomial.simplifiedPolynomial(),
+                            polynomialCodec.encode(cachedPolynomial.polynomial()),
+                            x,
+                            result
+                    ).thenReturn(result);
+                });
+    }
+
+    private Mono<Integer> evaluateAndSave(String polynomialKey, Polynomial simplifiedPolynomial, String x, CachePath cachePath) {
+        return compute(() -> evaluate(simplifiedPolynomial, polynomialParser.parseX(x)))
+                .flatMap(result -> {
+                    polynomialCache.putEvaluation(polynomialKey, x, result);
+                    if (!cachePath.isPersist()) {
+                        return Mono.just(result);
+                    }
+                    log.info("Evaluation process was completed. Saving x={} and result={}", x, result);
+                    return evaluationRepository.insertIfAbsent(polynomialKey, x, result)
+                            .thenReturn(result);
+                });
+    }
+
+    private Mono<Integer> processEvaluation(String polynomialKey, String polynomial, String x, CachePath cachePath) {
+        log.info("Cached entity for polynomial ({}) wasn't found. Trying to parse, simplify and evaluate data.", polynomial);
+        return compute(() -> polynomialParser.parseX(x))
+                .flatMap(parsedX -> processSimplification(polynomialKey, polynomial)
+                        .flatMap(simplification -> {
+                            PolynomialRecord polynomialRecord = simplification.polynomialRecord();
+                            return compute(() -> evaluate(simplification.polynomial(), parsedX))
+                                    .flatMap(result -> {
+                                        polynomialCache.putEvaluation(polynomialKey, x, result);
+                                        if (!cachePath.isPersist()) {
+                                            return Mono.just(result);
+                                        }
+                                        log.info("Evaluation process was completed. Saving polynomial ({}), x={} and result={}", polynomial, x, result);
+                                        return evaluationRepository.insertIfAbsentWithPolynomial(
+                                                polynomialKey,
+                                                polynomial,
+                                                polynomialRecord.simplifiedPolynomial(),
+                                                polynomialRecord.simplifiedPolynomialBinary(),
+                                                x,
+                                                result
+                                        ).thenReturn(result);
+                                    });
+                        }));
+    }
+
+    private Mono<Integer> insertPolynomial(PolynomialRecord polynomialRecord) {
+        log.info("Saving polynomial ({})", polynomialRecord.polynomialKey());
+        return polynomialRepository.insertIfAbsent(
+                polynomialRecord.polynomialKey(),
+                polynomialRecord.polynomialRequest(),
+                polynomialRecord.simplifiedPolynomial(),
+                polynomialRecord.simplifiedPolynomialBinary(),
+                polynomialRecord.errorCode()
+        );
+    }
+
+    private Mono<Integer> saveParsingError(String polynomialKey, String polynomial, PolynomialParserPolynomialRelatedException exception) {
+        if (exception.getPolynomialString() == null) {
+            return Mono.empty();
+        }
+        String errorCode = exception.toErrorCodeString();
+        log.info("Saving polynomial exception for ({}), code={}", polynomial, errorCode);
+        polynomialCache.putErrorCode(polynomialKey, errorCode);
+        return insertPolynomial(new PolynomialRecord(null, polynomialKey, null, polynomial, null, null, errorCode));
+    }
+
+    private Polynomial putPolynomialToCache(String polynomialKey, String simplifiedPolynomialString, byte[] simplifiedPolynomialBinary) {
+        Polynomial simplifiedPolynomial = decodeSimplifiedPolynomial(polynomialKey, simplifiedPolynomialString, simplifiedPolynomialBinary);
+        polynomialCache.putPolynomial(polynomialKey, new CachedPolynomial(simplifiedPolynomialString, simplifiedPolynomial));
+        return simplifiedPolynomial;
+    }
+
+    private PolynomialRecord createPolynomialRecord(String polynomialKey, String polynomial, Polynomial simplifiedPolynomial) {
+        return new PolynomialRecord(
+                null,
+                polynomialKey,
+                null,
+                polynomial,
+                polynomialMetrics.recordStage(ProcessingStage.MAP_TO_STRING, () -> polynomialMapper.mapPolynomialToString(simplifiedPolynomial)),
+                polynomialCodec.encode(simplifiedPolynomial),
+                null
+        );
+    }
+
+    private Polynomial decodeSimplifiedPolynomial(String polynomialKey, String simplifiedPolynomial, byte[] simplifiedPolynomialBinary) {
+        if (simplifiedPolynomialBinary != null) {
+            return polynomialCodec.decode(simplifiedPolynomialBinary);
+        }
+        log.info("Binary form of polynomial ({}) is missing. Parsing simplified polynomial.", polynomialKey);
+        return polynomialMetrics.recordStage(
+                ProcessingStage.PARSE,
+                () -> polynomialParser.parsePolynomial(simplifiedPolynomial)
+        );
+    }
+
+    private Polynomial parseAndSimplify(String polynomial) {
+        Polynomial parsedPolynomial = polynomialMetrics.recordStage(ProcessingStage.PARSE, () -> polynomialParser.parsePolynomial(polynomial));
+        Polynomial simplifiedPolynomial = polynomialMetrics.recordStage(ProcessingStage.SIMPLIFY, parsedPolynomial::simplify);
+        polynomialMetrics.recordPolynomialSize(simplifiedPolynomial);
+        return simplifiedPolynomial;
+    }
+
+    private int evaluate(Polynomial polynomial, int x) {
+        return polynomialMetrics.recordStage(ProcessingStage.EVALUATE, () -> polynomialEvaluator.evaluate(polynomial, x));
+    }
+
+    private <T> Mono<T> compute(Callable<T> task) {
+        return Mono.fromCallable(task)
+                .subscribeOn(computationScheduler);
+    }
+
+    private record Simplification(PolynomialRecord polynomialRecord, Polynomial polynomial) { }
+}
@@ -0,0 +1,13 @@
+package com.kostenko.polynomial.processing.api.service.writer;
+
+import com.kostenko.polynomial.processing.api.repository.entity.PolynomialEntity;
+
+public interface PolynomialWriter {
+    void writePolynomial(PolynomialEntity polynomialEntity);
+
+    void writeEvaluation(String polynomialKey, String x, int result);
+
+    void writeEvaluation(PolynomialEntity polynomialEntity, String x, int result);
+
+    void flush();
+}
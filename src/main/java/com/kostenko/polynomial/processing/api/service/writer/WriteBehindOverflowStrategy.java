@@ -0,0 +1,7 @@
+package com.kostenko.polynomial.processing.api.service.writer;
+
+public enum WriteBehindOverflowStrategy {
+    DROP,
+    BLOCK,
+    INLINE
+}
@@ -0,0 +1,264 @@
+package com.kostenko.polynomial.processing.api.service.writer.impl;
+
+import com.kostenko.polynomial.processing.api.config.PolynomialWriteBehindProperties;
+import com.kostenko.polynomial.processing.api.repository.PolynomialBatchRepository;
+import com.kostenko.polynomial.processing.api.repository.entity.EvaluationEntity;
+import com.kostenko.polynomial.processing.api.repository.entity.PolynomialEntity;
+import com.kostenko.polynomial.processing.api.service.filter.PolynomialKeyFilter;
+import com.kostenko.polynomial.processing.api.service.writer.PolynomialWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+@Profile("!reactive")
+public class PolynomialWriterImpl implements PolynomialWriter {
+    private final PolynomialWriteBehindProperties properties;
+    private final PolynomialBatchRepository polynomialBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final PolynomialKeyFilter polynomialKeyFilter;
+
+    private final BlockingQueue<PendingWrite> queue;
+    private final Counter droppedWritesCounter;
+    private final Counter writtenEntitiesCounter;
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+    public PolynomialWriterImpl(PolynomialWriteBehindProperties properties,
+                                PolynomialBatchRepository polynomialBatchRepository,
+                                PlatformTransactionManager transactionManager,
+                                PolynomialKeyFilter polynomialKeyFilter,
+                                MeterRegistry meterRegistry,
+                                Environment environment) {
+        this.properties = properties;
+        this.polynomialBatchRepository = polynomialBatchRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.polynomialKeyFilter = polynomialKeyFilter;
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+
+        meterRegistry.gauge("polynomial.write.behind.queue.size", queue, Collection::size);
+        this.droppedWritesCounter = meterRegistry.counter("polynomial.write.behind.dropped");
+        this.writtenEntitiesCounter = meterRegistry.counter("polynomial.write.behind.written");
+
+        log.info("Starting write-behind writer: capacity={}, batch size={}, flush interval={}, overflow strategy={}",
+                properties.queueCapacity(), properties.batchSize(), properties.flushInterval(), properties.overflowStrategy());
+        this.writerThread = Threading.VIRTUAL.isActive(environment)
+                ? Thread.ofVirtual().name("polynomial-write-behind").unstarted(this::runWriter)
+                : Thread.ofPlatform().name("polynomial-write-behind").daemon().unstarted(this::runWriter);
+        this.writerThread.start();
+    }
+
+    @Override
+    public void writePolynomial(PolynomialEntity polynomialEntity) {
+        log.debug("Queueing polynomial ({}) for writing", polynomialEntity.getPolynomialKey());
+        enqueue(new PendingPolynomial(polynomialEntity));
+    }
+
+    @Override
+    public void writeEvaluation(String polynomialKey, String x, int result) {
+        log.debug("Queueing evaluation of polynomial ({}) and x={} for writing", polynomialKey, x);
+        enqueue(new PendingEvaluation(polynomialKey, x, result, null));
+    }
+
+    @Override
+    public void writeEvaluation(PolynomialEntity polynomialEntity, String x, int result) {
+        log.debug("Queueing evaluation of polynomial ({}) and x={} together with the polynomial for writing",
+                polynomialEntity.getPolynomialKey(), x);
+        enqueue(new PendingEvaluation(polynomialEntity.getPolynomialKey(), x, result, polynomialEntity));
+    }
+
+    @Override
+    public void flush() {
+        FlushRequest flushRequest = new FlushRequest(new CompletableFuture<>());
+        if (!running) {
+            writeInline(flushRequest);
+            return;
+        }
+        try {
+            queue.put(flushRequest);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        flushRequest.completion().join();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        log.info("Stopping write-behind writer. Flushing {} queued writes", queue.size());
+        running = false;
+        queue.offer(new FlushRequest(new CompletableFuture<>()));
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<PendingWrite> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        writeBatch(remaining);
+    }
+
+    private void enqueue(PendingWrite pendingWrite) {
+        if (queue.offer(pendingWrite)) {
+            return;
+        }
+
+        switch (properties.overflowStrategy()) {
+            case DROP -> {
+                log.warn("Write-behind queue is full. Dropping {}", pendingWrite);
+                droppedWritesCounter.increment();
+            }
+            case BLOCK -> {
+                try {
+                    queue.put(pendingWrite);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    droppedWritesCounter.increment();
+                }
+            }
+            case INLINE -> writeInline(pendingWrite);
+        }
+    }
+
+    private void writeInline(PendingWrite pendingWrite) {
+        log.debug("Writing {} on the caller thread", pendingWrite);
+        writeBatch(List.of(pendingWrite));
+    }
+
+    private void runWriter() {
+        long flushIntervalNanos = properties.flushInterval().toNanos();
+        List<PendingWrite> batch = new ArrayList<>(properties.batchSize());
+        while (running || !queue.isEmpty()) {
+            long deadline = System.nanoTime() + flushIntervalNanos;
+            try {
+                while (batch.size() < properties.batchSize()) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingWrite pendingWrite = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (pendingWrite == null) {
+                        break;
+                    }
+                    int batchSize = batch.size();
+                    batch.add(pendingWrite);
+                    queue.drainTo(batch, properties.batchSize() - batch.size());
+                    if (containsFlushRequest(batch, batchSize)) {
+                        break;
+                    }
+                }
+            } catch (InterruptedException e) {
+                log.warn("Write-behind writer was interrupted. Flushing queued writes");
+                running = false;
+                queue.drainTo(batch);
+            }
+
+            if (!batch.isEmpty()) {
+                try {
+                    writeBatch(batch);
+                } catch (RuntimeException e) {
+                    log.error("Write-behind batch of {} entries was lost", batch.size(), e);
+                }
+                batch.clear();
+            }
+        }
+    }
+
+    private boolean containsFlushRequest(List<PendingWrite> batch, int fromIndex) {
+        for (int i = fromIndex; i < batch.size(); i++) {
+            if (batch.get(i) instanceof FlushRequest) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeBatch(List<PendingWrite> batch) {
+        Map<String, PendingPolynomial> polynomials = new LinkedHashMap<>();
+        Map<EvaluationKey, PendingEvaluation> evaluations = new LinkedHashMap<>();
+        List<FlushRequest> flushRequests = new ArrayList<>();
+        for (PendingWrite pendingWrite : batch) {
+            if (pendingWrite instanceof PendingPolynomial pendingPolynomial) {
+                polynomials.putIfAbsent(pendingPolynomial.polynomialEntity().getPolynomialKey(), pendingPolynomial);
+            } else if (pendingWrite instanceof PendingEvaluation pendingEvaluation) {
+                evaluations.putIfAbsent(new EvaluationKey(pendingEvaluation.polynomialKey(), pendingEvaluation.x()), pendingEvaluation);
+            } else if (pendingWrite instanceof FlushRequest flushRequest) {
+                flushRequests.add(flushRequest);
+            }
+        }
+
+        try {
+            if (!polynomials.isEmpty() || !evaluations.isEmpty()) {
+                log.info("Writing {} polynomials and {} evaluations", polynomials.size(), evaluations.size());
+                try {
+                    save(polynomials.values(), evaluations.values());
+                } catch (DataAccessException | TransactionException e) {
+                    log.warn("Batch write failed ({}). Writing entries one by one", e.getMessage());
+                    polynomials.values().forEach(pendingPolynomial -> saveSafely(List.of(pendingPolynomial), List.of()));
+                    evaluations.values().forEach(pendingEvaluation -> saveSafely(List.of(), List.of(pendingEvaluation)));
+                }
+            }
+        } finally {
+            flushRequests.forEach(flushRequest -> flushRequest.completion().complete(null));
+        }
+    }
+
+    private void saveSafely(Collection<PendingPolynomial> polynomials, Collection<PendingEvaluation> evaluations) {
+        try {
+            save(polynomials, evaluations);
+        } catch (DataAccessException | TransactionException e) {
+            log.error("Impossible to write polynomials {} and evaluations {}: {}", polynomials, evaluations, e.getMessage());
+        }
+    }
+
+    private void save(Collection<PendingPolynomial> polynomials, Collection<PendingEvaluation> evaluations) {
+        Map<String, PolynomialEntity> polynomialEntities = new LinkedHashMap<>();
+        polynomials.forEach(pendingPolynomial ->
+                polynomialEntities.putIfAbsent(pendingPolynomial.polynomialEntity().getPolynomialKey(), pendingPolynomial.polynomialEntity())
+        );
+        List<EvaluationEntity> evaluationEntities = new ArrayList<>(evaluations.size());
+        for (PendingEvaluation pendingEvaluation : evaluations) {
+            PolynomialEntity polynomialEntity = pendingEvaluation.polynomialEntity();
+            if (polynomialEntity != null) {
+                polynomialEntities.putIfAbsent(pendingEvaluation.polynomialKey(), polynomialEntity);
+            } else {
+                polynomialEntity = new PolynomialEntity();
+                polynomialEntity.setPolynomialKey(pendingEvaluation.polynomialKey());
+            }
+            evaluationEntities.add(new EvaluationEntity(polynomialEntity, pendingEvaluation.x(), pendingEvaluation.result()));
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            int writtenPolynomials = polynomialBatchRepository.insertPolynomialsIfAbsent(polynomialEntities.values());
+            int writtenEvaluations = polynomialBatchRepository.insertEvaluationsIfAbsent(evaluationEntities);
+            log.info("Written {} new polynomials and {} new evaluations, {} already existed", writtenPolynomials, writtenEvaluations,
+                    polynomialEntities.size() + evaluationEntities.size() - writtenPolynomials - writtenEvaluations);
+            writtenEntitiesCounter.increment(writtenPolynomials + writtenEvaluations);
+        });
+        polynomialEntities.keySet().forEach(polynomialKeyFilter::put);
+    }
+
+    private interface PendingWrite { }
+
+    private record PendingPolynomial(PolynomialEntity polynomialEntity) implements PendingWrite { }
+
+    private record PendingEvaluation(String polynomialKey, String x, int result,
+                                     PolynomialEntity polynomialEntity) implements PendingWrite { }
+
+    private record FlushRequest(CompletableFuture<Void> completion) implements PendingWrite { }
+
+    private record EvaluationKey(String polynomialKey, String x) { }
+}
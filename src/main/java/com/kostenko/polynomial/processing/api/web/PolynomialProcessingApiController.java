@@ -1,26 +1,58 @@
 package com.kostenko.polynomial.processing.api.web;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kostenko.polynomial.processing.api.exception.PolynomialBaseException;
+import com.kostenko.polynomial.processing.api.service.cache.PolynomialCache;
 import com.kostenko.polynomial.processing.api.service.processor.PolynomialProcessor;
+import com.kostenko.polynomial.processing.api.service.processor.RangeEvaluation;
+import com.kostenko.polynomial.processing.api.service.processor.SimplificationResult;
+import com.kostenko.polynomial.processing.api.web.dto.BatchEvaluationResponseDto;
+import com.kostenko.polynomial.processing.api.web.dto.BatchSimplificationResponseDto;
+import com.kostenko.polynomial.processing.api.web.dto.CacheStatisticsDto;
+import com.kostenko.polynomial.processing.api.web.dto.ErrorResponseDto;
 import com.kostenko.polynomial.processing.api.web.dto.EvaluationResponseDto;
+import com.kostenko.polynomial.processing.api.web.dto.EvaluationResultDto;
+import com.kostenko.polynomial.processing.api.web.dto.PolynomialBatchDto;
+import com.kostenko.polynomial.processing.api.web.dto.PolynomialBatchEvaluationDto;
 import com.kostenko.polynomial.processing.api.web.dto.PolynomialDto;
 import com.kostenko.polynomial.processing.api.web.dto.PolynomialEvaluationDto;
+import com.kostenko.polynomial.processing.api.web.dto.PolynomialRangeEvaluationDto;
+import com.kostenko.polynomial.processing.api.web.dto.SimplificationResultDto;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
 
 @Slf4j
 @RestController
+@Profile("!reactive")
 @AllArgsConstructor
 @RequestMapping("/api/polynomials")
 public class PolynomialProcessingApiController {
+    private static final SerializedString NEWLINE = new SerializedString("\n");
+
     private final PolynomialProcessor polynomialProcessor;
+    private final PolynomialCache polynomialCache;
+    private final ObjectMapper objectMapper;
 
     @PostMapping("/simplify")
     public ResponseEntity<PolynomialDto> simplifyPolynomial(@RequestBody PolynomialDto request) {
@@ -33,6 +65,40 @@ public class PolynomialProcessingApiController {
         );
     }
 
+    @PostMapping("/simplify/batch")
+    public ResponseEntity<BatchSimplificationResponseDto> simplifyPolynomialBatch(@RequestBody PolynomialBatchDto request) {
+        log.info("Retrieved batch simplification request for {} polynomials", request.polynomials().size());
+        List<SimplificationResult> results = polynomialProcessor.simplifyBatch(request.polynomials());
+
+        List<SimplificationResultDto> simplificationResults = IntStream.range(0, results.size())
+                .mapToObj(i -> mapSimplificationResultToDto(request.polynomials().get(i), results.get(i)))
+                .toList();
+
+        return new ResponseEntity<>(
+                new BatchSimplificationResponseDto(simplificationResults),
+                HttpStatus.CREATED
+        );
+    }
+
+    @PostMapping(value = "/simplify/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamPolynomialBatchSimplification(@RequestBody PolynomialBatchDto request) {
+        log.info("Retrieved streaming batch simplification request for {} polynomials", request.polynomials().size());
+        Iterator<SimplificationResult> results = polynomialProcessor.streamSimplifyBatch(request.polynomials());
+
+        return createStreamingResponse(MediaType.APPLICATION_NDJSON, generator -> {
+            int i = 0;
+            try {
+                while (results.hasNext()) {
+                    generator.writeObject(mapSimplificationResultToDto(request.polynomials().get(i), results.next()));
+                    i++;
+                }
+            } catch (PolynomialBaseException e) {
+                log.error("Batch simplification was interrupted at polynomial ({})", request.polynomials().get(i), e);
+                writeError(generator, e);
+            }
+        });
+    }
+
     @PostMapping("/evaluate")
     public ResponseEntity<EvaluationResponseDto> evaluatePolynomial(@RequestBody PolynomialEvaluationDto request) {
         log.info("Retrieved evaluation request ({})", request);
@@ -43,4 +109,151 @@ public class PolynomialProcessingApiController {
                 HttpStatus.CREATED
         );
     }
+
+    @PostMapping("/evaluate/batch")
+    public ResponseEntity<BatchEvaluationResponseDto> evaluatePolynomialBatch(@RequestBody PolynomialBatchEvaluationDto request) {
+        log.info("Retrieved batch evaluation request ({})", request);
+        int[] results = polynomialProcessor.evaluateBatch(request.polynomial(), request.x());
+
+        List<EvaluationResultDto> evaluationResults = IntStream.range(0, results.length)
+                .mapToObj(i -> new EvaluationResultDto(request.x().get(i), results[i]))
+                .toList();
+
+        return new ResponseEntity<>(
+                new BatchEvaluationResponseDto(evaluationResults),
+                HttpStatus.CREATED
+        );
+    }
+
+    @PostMapping(value = "/evaluate/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamPolynomialBatchEvaluation(@RequestBody PolynomialBatchEvaluationDto request) {
+        log.info("Retrieved streaming batch evaluation request ({})", request);
+        PrimitiveIterator.OfInt results = polynomialProcessor.streamEvaluateBatch(request.polynomial(), request.x());
+
+        return createStreamingResponse(MediaType.APPLICATION_NDJSON, generator -> {
+            int i = 0;
+            try {
+                while (results.hasNext()) {
+                    generator.writeObject(new EvaluationResultDto(request.x().get(i), results.nextInt()));
+                    i++;
+                }
+            } catch (PolynomialBaseException e) {
+                log.error("Batch evaluation was interrupted at x={}", request.x().get(i), e);
+                writeError(generator, e);
+            }
+        });
+    }
+
+    @PostMapping("/evaluate/range")
+    public ResponseEntity<StreamingResponseBody> evaluatePolynomialRange(@RequestBody PolynomialRangeEvaluationDto request) {
+        log.info("Retrieved range evaluation request ({})", request);
+        RangeEvaluation rangeEvaluation = evaluateRange(request);
+
+        return createStreamingResponse(MediaType.APPLICATION_JSON, generator -> {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("results");
+            Optional<ErrorResponseDto> error = writeRangeEvaluationResults(rangeEvaluation, generator);
+            generator.writeEndArray();
+            if (error.isPresent()) {
+                generator.writeObjectField("error", error.get());
+            }
+            generator.writeEndObject();
+        });
+    }
+
+    @PostMapping(value = "/evaluate/range", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamPolynomialRangeEvaluation(@RequestBody PolynomialRangeEvaluationDto request) {
+        log.info("Retrieved streaming range evaluation request ({})", request);
+        RangeEvaluation rangeEvaluation = evaluateRange(request);
+
+        return createStreamingResponse(MediaType.APPLICATION_NDJSON, generator -> {
+            Optional<ErrorResponseDto> error = writeRangeEvaluationResults(rangeEvaluation, generator);
+            if (error.isPresent()) {
+                writeError(generator, error.get());
+            }
+        });
+    }
+
+    @GetMapping("/cache/statistics")
+    public ResponseEntity<List<CacheStatisticsDto>> getCacheStatistics() {
+        log.info("Retrieved cache statistics request");
+        List<CacheStatisticsDto> statistics = polynomialCache.getStatistics()
+                .stream()
+                .map(cacheStatistics -> new CacheStatisticsDto(
+                        cacheStatistics.cacheName(),
+                        cacheStatistics.size(),
+                        cacheStatistics.hitCount(),
+                        cacheStatistics.missCount(),
+                        cacheStatistics.evictionCount()
+                ))
+                .toList();
+
+        return new ResponseEntity<>(statistics, HttpStatus.OK);
+    }
+
+    private RangeEvaluation evaluateRange(PolynomialRangeEvaluationDto request) {
+        return polynomialProcessor.evaluateRange(
+                request.polynomial(),
+                request.start(),
+                request.end(),
+                request.step()
+        );
+    }
+
+    private Optional<ErrorResponseDto> writeRangeEvaluationResults(RangeEvaluation rangeEvaluation, JsonGenerator generator) throws IOException {
+        long x = rangeEvaluation.start();
+        PrimitiveIterator.OfInt results = rangeEvaluation.results();
+        try {
+            while (results.hasNext()) {
+                int result = results.nextInt();
+                generator.writeObject(new EvaluationResultDto(String.valueOf(x), result));
+                x += rangeEvaluation.step();
+            }
+            return Optional.empty();
+        } catch (PolynomialBaseException e) {
+            log.error("Range evaluation was interrupted at x={}", x, e);
+            return Optional.of(new ErrorResponseDto(e.getErrorCode(), e.getMessage()));
+        }
+    }
+
+    private void writeError(JsonGenerator generator, PolynomialBaseException exception) throws IOException {
+        writeError(generator, new ErrorResponseDto(exception.getErrorCode(), exception.getMessage()));
+    }
+
+    private void writeError(JsonGenerator generator, ErrorResponseDto error) throws IOException {
+        generator.writeStartObject();
+        generator.writeObjectField("error", error);
+        generator.writeEndObject();
+    }
+
+    private ResponseEntity<StreamingResponseBody> createStreamingResponse(MediaType mediaType, JsonBodyWriter bodyWriter) {
+        boolean newlineDelimited = MediaType.APPLICATION_NDJSON.equals(mediaType);
+        StreamingResponseBody body = outputStream -> {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+            if (newlineDelimited) {
+                generator.setRootValueSeparator(NEWLINE);
+            }
+            bodyWriter.write(generator);
+            if (newlineDelimited && generator.getOutputContext().getEntryCount() > 0) {
+                generator.writeRaw(NEWLINE.getValue());
+            }
+            generator.flush();
+        };
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .contentType(mediaType)
+                .body(body);
+    }
+
+    private SimplificationResultDto mapSimplificationResultToDto(String polynomial, SimplificationResult result) {
+        ErrorResponseDto error = result.errorCode() == null
+                ? null
+                : new ErrorResponseDto(result.errorCode(), result.errorMessage());
+        return new SimplificationResultDto(polynomial, result.simplifiedPolynomial(), error);
+    }
+
+    @FunctionalInterface
+    private interface JsonBodyWriter {
+        void write(JsonGenerator generator) throws IOException;
+    }
 }
@@ -0,0 +1,94 @@
+package com.kostenko.polynomial.processing.api.web;
+
+import com.kostenko.polynomial.processing.api.service.cache.PolynomialCache;
+import com.kostenko.polynomial.processing.api.service.processor.ReactivePolynomialProcessor;
+import com.kostenko.polynomial.processing.api.service.processor.SimplificationResult;
+import com.kostenko.polynomial.processing.api.web.dto.BatchSimplificationResponseDto;
+import com.kostenko.polynomial.processing.api.web.dto.CacheStatisticsDto;
+import com.kostenko.polynomial.processing.api.web.dto.ErrorResponseDto;
+import com.kostenko.polynomial.processing.api.web.dto.EvaluationResponseDto;
+import com.kostenko.polynomial.processing.api.web.dto.PolynomialBatchDto;
+import com.kostenko.polynomial.processing.api.web.dto.PolynomialDto;
+import com.kostenko.polynomial.processing.api.web.dto.PolynomialEvaluationDto;
+import com.kostenko.polynomial.processing.api.web.dto.SimplificationResultDto;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@Profile("reactive")
+@AllArgsConstructor
+@RequestMapping("/api/polynomials")
+public class ReactivePolynomialProcessingApiController {
+    private final ReactivePolynomialProcessor polynomialProcessor;
+    private final PolynomialCache polynomialCache;
+
+    @PostMapping("/simplify")
+    public Mono<ResponseEntity<PolynomialDto>> simplifyPolynomial(@RequestBody PolynomialDto request) {
+        log.info("Retrieved reactive simplification request ({})", request);
+        return polynomialProcessor.simplify(request.polynomial())
+                .map(simplifiedPolynomialString -> new ResponseEntity<>(
+                        new PolynomialDto(simplifiedPolynomialString),
+                        HttpStatus.CREATED
+                ));
+    }
+
+    @PostMapping("/simplify/batch")
+    public Mono<ResponseEntity<BatchSimplificationResponseDto>> simplifyPolynomialBatch(@RequestBody PolynomialBatchDto request) {
+        log.info("Retrieved reactive batch simplification request for {} polynomials", request.polynomials().size());
+        return Flux.fromIterable(request.polynomials())
+                .zipWith(polynomialProcessor.simplifyBatch(request.polynomials()))
+                .map(result -> mapSimplificationResultToDto(result.getT1(), result.getT2()))
+                .collectList()
+                .map(simplificationResults -> new ResponseEntity<>(
+                        new BatchSimplificationResponseDto(simplificationResults),
+                        HttpStatus.CREATED
+                ));
+    }
+
+    @PostMapping("/evaluate")
+    public Mono<ResponseEntity<EvaluationResponseDto>> evaluatePolynomial(@RequestBody PolynomialEvaluationDto request) {
+        log.info("Retrieved reactive evaluation request ({})", request);
+        return polynomialProcessor.evaluate(request.polynomial(), request.x())
+                .map(result -> new ResponseEntity<>(
+                        new EvaluationResponseDto(result),
+                        HttpStatus.CREATED
+                ));
+    }
+
+    @GetMapping("/cache/statistics")
+    public ResponseEntity<List<CacheStatisticsDto>> getCacheStatistics() {
+        log.info("Retrieved cache statistics request");
+        List<CacheStatisticsDto> statistics = polynomialCache.getStatistics()
+                .stream()
+                .map(cacheStatistics -> new CacheStatisticsDto(
+                        cacheStatistics.cacheName(),
+                        cacheStatistics.size(),
+                        cacheStatistics.hitCount(),
+                        cacheStatistics.missCount(),
+                        cacheStatistics.evictionCount()
+                ))
+                .toList();
+
+        return new ResponseEntity<>(statistics, HttpStatus.OK);
+    }
+
+    private SimplificationResultDto mapSimplificationResultToDto(String polynomial, SimplificationResult result) {
+        ErrorResponseDto error = result.errorCode() == null
+                ? null
+                : new ErrorResponseDto(result.errorCode(), result.errorMessage());
+        return new SimplificationResultDto(polynomial, result.simplifiedPolynomial(), error);
+    }
+}
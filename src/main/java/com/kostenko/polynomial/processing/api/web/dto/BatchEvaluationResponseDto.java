@@ -0,0 +1,7 @@
+package com.kostenko.polynomial.processing.api.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record BatchEvaluationResponseDto(@JsonProperty("results") List<EvaluationResultDto> results) { }
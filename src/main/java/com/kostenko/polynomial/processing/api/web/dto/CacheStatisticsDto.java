@@ -0,0 +1,9 @@
+package com.kostenko.polynomial.processing.api.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CacheStatisticsDto(@JsonProperty("cache") String cacheName,
+                                 @JsonProperty("size") long size,
+                                 @JsonProperty("hits") long hitCount,
+                                 @JsonProperty("misses") long missCount,
+                                 @JsonProperty("evictions") long evictionCount) { }
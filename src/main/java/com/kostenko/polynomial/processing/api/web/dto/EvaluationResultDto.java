@@ -0,0 +1,6 @@
+package com.kostenko.polynomial.processing.api.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record EvaluationResultDto(@JsonProperty("x") String x,
+                                  @JsonProperty("result") int result) { }
@@ -0,0 +1,9 @@
+package com.kostenko.polynomial.processing.api.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record PolynomialBatchDto(@JsonProperty(value = "polynomials", required = true) List<String> polynomials) { }
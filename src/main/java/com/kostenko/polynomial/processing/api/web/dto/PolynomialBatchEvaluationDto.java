@@ -0,0 +1,10 @@
+package com.kostenko.polynomial.processing.api.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record PolynomialBatchEvaluationDto(@JsonProperty(value = "polynomial", required = true) String polynomial,
+                                           @JsonProperty(value = "x", required = true) List<String> x) { }
@@ -0,0 +1,10 @@
+package com.kostenko.polynomial.processing.api.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record PolynomialRangeEvaluationDto(@JsonProperty(value = "polynomial", required = true) String polynomial,
+                                           @JsonProperty(value = "start", required = true) String start,
+                                           @JsonProperty(value = "end", required = true) String end,
+                                           @JsonProperty(value = "step", required = true) String step) { }
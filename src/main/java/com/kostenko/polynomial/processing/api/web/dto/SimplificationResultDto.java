@@ -0,0 +1,9 @@
+package com.kostenko.polynomial.processing.api.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record SimplificationResultDto(@JsonProperty("request") String request,
+                                      @JsonProperty("polynomial") String polynomial,
+                                      @JsonProperty("error") ErrorResponseDto error) { }
@@ -0,0 +1,4 @@
+DROP TRIGGER IF EXISTS polynomials_fill_polynomial_key_hash ON polynomials;
+DROP FUNCTION IF EXISTS fill_polynomial_key_hash();
+
+ALTER TABLE polynomials DROP CONSTRAINT IF EXISTS polynomials_polynomial_key_key;
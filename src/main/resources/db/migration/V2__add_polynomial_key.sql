@@ -0,0 +1,7 @@
+ALTER TABLE polynomials ADD COLUMN IF NOT EXISTS polynomial_key VARCHAR;
+
+UPDATE polynomials SET polynomial_key = polynomial_request WHERE polynomial_key IS NULL;
+
+ALTER TABLE polynomials ALTER COLUMN polynomial_key SET NOT NULL;
+ALTER TABLE polynomials ADD CONSTRAINT polynomials_polynomial_key_key UNIQUE (polynomial_key);
+ALTER TABLE polynomials DROP CONSTRAINT IF EXISTS polynomials_polynomial_request_key;
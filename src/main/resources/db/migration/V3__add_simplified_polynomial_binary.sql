@@ -0,0 +1 @@
+ALTER TABLE polynomials ADD COLUMN IF NOT EXISTS simplified_polynomial_binary BYTEA;
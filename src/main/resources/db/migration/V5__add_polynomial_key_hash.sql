@@ -0,0 +1 @@
+ALTER TABLE polynomials ADD COLUMN IF NOT EXISTS polynomial_key_hash BYTEA;
@@ -0,0 +1,23 @@
+CREATE OR REPLACE FUNCTION fill_polynomial_key_hash() RETURNS TRIGGER AS $$
+BEGIN
+    IF NEW.polynomial_key_hash IS NULL THEN
+        NEW.polynomial_key_hash := sha256(convert_to(NEW.polynomial_key, 'UTF8'));
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS polynomials_fill_polynomial_key_hash ON polynomials;
+CREATE TRIGGER polynomials_fill_polynomial_key_hash BEFORE INSERT ON polynomials
+    FOR EACH ROW EXECUTE FUNCTION fill_polynomial_key_hash();
+
+UPDATE polynomials SET polynomial_key_hash = sha256(convert_to(polynomial_key, 'UTF8')) WHERE polynomial_key_hash IS NULL;
+
+DROP INDEX CONCURRENTLY IF EXISTS polynomials_polynomial_key_hash_key;
+CREATE UNIQUE INDEX CONCURRENTLY polynomials_polynomial_key_hash_key ON polynomials (polynomial_key_hash);
+
+ALTER TABLE polynomials DROP CONSTRAINT IF EXISTS polynomials_polynomial_key_hash_not_null;
+ALTER TABLE polynomials ADD CONSTRAINT polynomials_polynomial_key_hash_not_null CHECK (polynomial_key_hash IS NOT NULL) NOT VALID;
+ALTER TABLE polynomials VALIDATE CONSTRAINT polynomials_polynomial_key_hash_not_null;
+ALTER TABLE polynomials ALTER COLUMN polynomial_key_hash SET NOT NULL;
+ALTER TABLE polynomials DROP CONSTRAINT polynomials_polynomial_key_hash_not_null;
@@ -0,0 +1,35 @@
+package com.kostenko.polynomial.processing.api.exception;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolynomialBaseExceptionTest {
+
+    @Test
+    void fromErrorCodeStringShouldRestoreExceptionWithParameters() {
+        PolynomialBaseException expected = new PolynomialBaseException(ErrorCode.INVALID_RANGE, 5, 1, 1);
+
+        PolynomialBaseException actual = PolynomialBaseException.fromErrorCodeString(expected.toErrorCodeString());
+
+        assertEquals(expected.getErrorCode(), actual.getErrorCode());
+        assertEquals(expected.getMessage(), actual.getMessage());
+        assertArrayEquals(new Object[]{"5", "1", "1"}, actual.getParameters());
+    }
+
+    @Test
+    void fromErrorCodeStringShouldRestoreExceptionWithoutParameters() {
+        PolynomialBaseException actual = PolynomialBaseException.fromErrorCodeString("1");
+
+        assertEquals(ErrorCode.UNSUPPORTED_POLYNOMIAL_TYPE.getCode(), actual.getErrorCode());
+        assertEquals(ErrorCode.UNSUPPORTED_POLYNOMIAL_TYPE.getMessage(), actual.getMessage());
+        assertNull(actual.getParameters());
+    }
+
+    @Test
+    void fromErrorCodeStringShouldFallBackToUnknownException() {
+        PolynomialBaseException actual = PolynomialBaseException.fromErrorCodeString("12345");
+
+        assertEquals(ErrorCode.UNKNOWN_EXCEPTION.getCode(), actual.getErrorCode());
+    }
+}
@@ -0,0 +1,132 @@
+package com.kostenko.polynomial.processing.api.model.impl;
+
+import com.kostenko.polynomial.processing.api.exception.ErrorCode;
+import com.kostenko.polynomial.processing.api.exception.PolynomialBaseException;
+import com.kostenko.polynomial.processing.api.model.EvaluationOverflowMode;
+import com.kostenko.polynomial.processing.api.model.Term;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompiledEvaluatorTest {
+    @ParameterizedTest
+    @EnumSource(EvaluationOverflowMode.class)
+    void compiledEvaluatorShouldMatchEvaluationEngine(EvaluationOverflowMode overflowMode) {
+        Random random = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            AbstractPolynomial polynomial = randomPolynomial(random);
+            CompiledEvaluator compiledEvaluator = CompiledEvaluator.compile(polynomial);
+
+            assertNotNull(compiledEvaluator);
+            for (int x = -20; x <= 20; x++) {
+                assertEquals(evaluateWithEngine(polynomial, x, overflowMode), evaluateCompiled(compiledEvaluator, x, overflowMode),
+                        polynomial + " for x=" + x);
+            }
+        }
+    }
+
+    @Test
+    void compiledEvaluatorShouldThrowOnOverflowInExactMode() {
+        AbstractPolynomial polynomial = (AbstractPolynomial) new PolynomialImpl(List.of(
+                new TermImpl(40, 1),
+                new TermImpl(0, 1)
+        )).simplify();
+        CompiledEvaluator compiledEvaluator = CompiledEvaluator.compile(polynomial);
+
+        PolynomialBaseException exception = assertThrows(PolynomialBaseException.class,
+                () -> compiledEvaluator.evaluate(2, EvaluationOverflowMode.EXACT));
+
+        assertEquals(ErrorCode.EVALUATION_OVERFLOW.getCode(), exception.getErrorCode());
+        assertEquals(1, compiledEvaluator.evaluate(2, EvaluationOverflowMode.WRAP));
+    }
+
+    @Test
+    void equalPolynomialsShouldShareCompiledEvaluator() {
+        AbstractPolynomial sparse = new PolynomialImpl(new int[]{2, 0}, new int[]{3, -5}, true);
+        AbstractPolynomial dense = (AbstractPolynomial) new PolynomialImpl(List.of(
+                new TermImpl(0, -5),
+                new TermImpl(2, 3)
+        )).simplify();
+
+        assertSame(CompiledEvaluator.compile(sparse), CompiledEvaluator.compile(dense));
+    }
+
+    @Test
+    void compiledEvaluatorShouldBeHiddenClassPerPolynomial() {
+        AbstractPolynomial first = new PolynomialImpl(new int[]{2, 0}, new int[]{3, -5}, true);
+        AbstractPolynomial second = new PolynomialImpl(new int[]{1, 0}, new int[]{4, 1}, true);
+
+        CompiledEvaluator firstCompiledEvaluator = CompiledEvaluator.compile(first);
+        CompiledEvaluator secondCompiledEvaluator = CompiledEvaluator.compile(second);
+
+        assertTrue(firstCompiledEvaluator.getClass().isHidden());
+        assertNotSame(firstCompiledEvaluator.getClass(), secondCompiledEvaluator.getClass());
+        assertEquals(7, firstCompiledEvaluator.evaluate(2, EvaluationOverflowMode.EXACT));
+        assertEquals(9, secondCompiledEvaluator.evaluate(2, EvaluationOverflowMode.EXACT));
+    }
+
+    @Test
+    void polynomialWithTooManyTermsShouldNotBeCompiled() {
+        List<Term> terms = new ArrayList<>();
+        for (int degree = 0; degree <= CompiledEvaluator.MAX_TERM_COUNT; degree++) {
+            terms.add(new TermImpl(degree, degree + 1));
+        }
+        AbstractPolynomial polynomial = (AbstractPolynomial) new PolynomialImpl(terms).simplify();
+
+        assertNull(CompiledEvaluator.compile(polynomial));
+        for (int i = 0; i < CompiledEvaluator.COMPILATION_THRESHOLD + 1; i++) {
+            assertEquals(evaluateWithEngine(polynomial, 1, EvaluationOverflowMode.EXACT), polynomial.evaluate(1));
+        }
+        assertNull(polynomial.compiledEvaluator());
+    }
+
+    @Test
+    void evaluateShouldSwitchToCompiledEvaluatorAfterThreshold() {
+        AbstractPolynomial polynomial = (AbstractPolynomial) new PolynomialImpl(List.of(
+                new TermImpl(2, 3),
+                new TermImpl(1, 4),
+                new TermImpl(0, -5)
+        )).simplify();
+
+        for (int i = 1; i < CompiledEvaluator.COMPILATION_THRESHOLD; i++) {
+            assertEquals(15, polynomial.evaluate(2));
+        }
+        assertNotNull(polynomial.compiledEvaluator());
+        assertEquals(15, polynomial.evaluate(2));
+        assertEquals(34, polynomial.evaluate(3));
+    }
+
+    private static AbstractPolynomial randomPolynomial(Random random) {
+        int termCount = random.nextInt(CompiledEvaluator.MAX_TERM_COUNT + 1);
+        List<Term> terms = new ArrayList<>();
+        int maxDegree = random.nextBoolean() ? 2 * termCount + 1 : 1000;
+        for (int i = 0; i < termCount; i++) {
+            terms.add(new TermImpl(random.nextInt(maxDegree), random.nextInt(201) - 100));
+        }
+        return (AbstractPolynomial) new PolynomialImpl(terms).simplify();
+    }
+
+    private static Object evaluateWithEngine(AbstractPolynomial polynomial, int x, EvaluationOverflowMode overflowMode) {
+        try {
+            return polynomial instanceof DensePolynomialImpl
+                    ? EvaluationEngine.evaluateDense(polynomial.coefficientsByDegree(), polynomial.termCount(), x, overflowMode)
+                    : EvaluationEngine.evaluateSparse(polynomial.degrees(), polynomial.coefficients(), x, overflowMode);
+        } catch (PolynomialBaseException e) {
+            return e.getErrorCode();
+        }
+    }
+
+    private static Object evaluateCompiled(CompiledEvaluator compiledEvaluator, int x, EvaluationOverflowMode overflowMode) {
+        try {
+            return compiledEvaluator.evaluate(x, overflowMode);
+        } catch (PolynomialBaseException e) {
+            return e.getErrorCode();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.kostenko.polynomial.processing.api.model.impl;
+
+import com.kostenko.polynomial.processing.api.model.Polynomial;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DenseConvolutionTest {
+    @ParameterizedTest
+    @CsvSource({
+            "1, 1",
+            "63, 64",
+            "64, 64",
+            "100, 37",
+            "257, 1000",
+            "512, 512",
+            "1500, 2100",
+            "4096, 5000"
+    })
+    void convolutionAlgorithmsShouldMatchSchoolbookTest(int firstLength, int secondLength) {
+        Random random = new Random(firstLength * 31L + secondLength);
+        int[] first = randomCoefficients(random, firstLength);
+        int[] second = randomCoefficients(random, secondLength);
+
+        int[] expected = DenseConvolution.schoolbook(first, second);
+
+        assertArrayEquals(expected, DenseConvolution.karatsuba(first, second));
+        assertArrayEquals(expected, DenseConvolution.numberTheoreticTransform(first, second));
+        assertArrayEquals(expected, DenseConvolution.convolve(first, second));
+    }
+
+    @Test
+    void numberTheoreticTransformWithExtremeCoefficientsShouldWrapLikeSchoolbookTest() {
+        int[] first = new int[1024];
+        int[] second = new int[1024];
+        for (int i = 0; i < first.length; i++) {
+            first[i] = i % 2 == 0 ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+            second[i] = i % 3 == 0 ? Integer.MIN_VALUE : -1;
+        }
+
+        assertArrayEquals(DenseConvolution.schoolbook(first, second), DenseConvolution.numberTheoreticTransform(first, second));
+    }
+
+    @Test
+    void multiplyLargeDensePolynomialsTest() {
+        Random random = new Random(7);
+        int[] first = randomCoefficients(random, 3000);
+        int[] second = randomCoefficients(random, 2000);
+        first[first.length - 1] = 1;
+        second[second.length - 1] = 1;
+
+        Polynomial actual = PolynomialLayouts.fromCoefficientsByDegree(first.clone())
+                .multiply(PolynomialLayouts.fromCoefficientsByDegree(second.clone()));
+        Polynomial expected = PolynomialLayouts.fromCoefficientsByDegree(DenseConvolution.schoolbook(first, second));
+
+        assertEquals(expected, actual);
+        assertInstanceOf(DensePolynomialImpl.class, actual);
+    }
+
+    private int[] randomCoefficients(Random random, int length) {
+        int[] coefficients = new int[length];
+        for (int i = 0; i < length; i++) {
+            coefficients[i] = random.nextInt(4) == 0 ? 0 : random.nextInt();
+        }
+        return coefficients;
+    }
+}
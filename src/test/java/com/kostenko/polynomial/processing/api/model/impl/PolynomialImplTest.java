@@ -0,0 +1,134 @@
+package com.kostenko.polynomial.processing.api.model.impl;
+
+import com.kostenko.polynomial.processing.api.exception.ErrorCode;
+import com.kostenko.polynomial.processing.api.exception.PolynomialBaseException;
+import com.kostenko.polynomial.processing.api.model.Polynomial;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolynomialImplTest {
+    @ParameterizedTest
+    @MethodSource("simplifyProvider")
+    void simplifyTest(Polynomial polynomial, Polynomial expected, Class<? extends Polynomial> expectedLayout) {
+        Polynomial actual = polynomial.simplify();
+
+        assertEquals(expected, actual);
+        assertInstanceOf(expectedLayout, actual);
+    }
+
+    @ParameterizedTest
+    @MethodSource("multiplyProvider")
+    void multiplyTest(Polynomial first, Polynomial second, Polynomial expected, Class<? extends Polynomial> expectedLayout) {
+        Polynomial actual = first.multiply(second);
+
+        assertEquals(expected, actual);
+        assertInstanceOf(expectedLayout, actual);
+    }
+
+    @Test
+    void simplifyToZeroPolynomialTest() {
+        Polynomial polynomial = new PolynomialImpl(List.of(
+                new TermImpl(1, 1),
+                new TermImpl(1, -1)
+        ));
+
+        Polynomial actual = polynomial.simplify();
+
+        assertFalse(actual.iterator().hasNext());
+        assertEquals(0, actual.evaluate(5));
+    }
+
+    @Test
+    void equalsAcrossLayoutsTest() {
+        Polynomial sparse = new PolynomialImpl(List.of(
+                new TermImpl(2, 3),
+                new TermImpl(0, -5)
+        ));
+        Polynomial dense = new PolynomialImpl(List.of(
+                new TermImpl(0, -5),
+                new TermImpl(2, 3)
+        )).simplify();
+
+        assertInstanceOf(DensePolynomialImpl.class, dense);
+        assertEquals(sparse, dense);
+        assertEquals(dense, sparse);
+        assertEquals(sparse.hashCode(), dense.hashCode());
+    }
+
+    @Test
+    void multiplyWithDegreeOverflowShouldThrowPolynomialBaseException() {
+        Polynomial polynomial = new PolynomialImpl(List.of(new TermImpl(999_999_999, 1)));
+
+        PolynomialBaseException actual = assertThrows(
+                PolynomialBaseException.class,
+                () -> polynomial.multiply(polynomial).multiply(polynomial)
+        );
+
+        assertEquals(ErrorCode.DEGREE_OVERFLOW.getCode(), actual.getErrorCode());
+    }
+
+    private static Stream<Arguments> simplifyProvider() {
+        return Stream.of(
+                Arguments.of(
+                        new PolynomialImpl(List.of(
+                                new TermImpl(2, 2),
+                                new TermImpl(1, 3),
+                                new TermImpl(0, -5),
+                                new TermImpl(2, 1),
+                                new TermImpl(1, 1)
+                        )),
+                        new PolynomialImpl(List.of(
+                                new TermImpl(2, 3),
+                                new TermImpl(1, 4),
+                                new TermImpl(0, -5)
+                        )),
+                        DensePolynomialImpl.class
+                ),
+                Arguments.of(
+                        new PolynomialImpl(List.of(
+                                new TermImpl(5, 1),
+                                new TermImpl(999_999_999, 2),
+                                new TermImpl(5, 1),
+                                new TermImpl(0, 7)
+                        )),
+                        new PolynomialImpl(List.of(
+                                new TermImpl(999_999_999, 2),
+                                new TermImpl(5, 2),
+                                new TermImpl(0, 7)
+                        )),
+                        PolynomialImpl.class
+                )
+        );
+    }
+
+    private static Stream<Arguments> multiplyProvider() {
+        return Stream.of(
+                Arguments.of(
+                        new PolynomialImpl(List.of(new TermImpl(1, 1), new TermImpl(0, 2))),
+                        new PolynomialImpl(List.of(new TermImpl(1, 1), new TermImpl(0, -1))),
+                        new PolynomialImpl(List.of(
+                                new TermImpl(2, 1),
+                                new TermImpl(1, 1),
+                                new TermImpl(0, -2)
+                        )),
+                        DensePolynomialImpl.class
+                ),
+                Arguments.of(
+                        new PolynomialImpl(List.of(new TermImpl(100_000_000, 1), new TermImpl(0, 1))),
+                        new PolynomialImpl(List.of(new TermImpl(100_000_000, 1), new TermImpl(0, -1))),
+                        new PolynomialImpl(List.of(
+                                new TermImpl(200_000_000, 1),
+                                new TermImpl(0, -1)
+                        )),
+                        PolynomialImpl.class
+                )
+        );
+    }
+}
@@ -0,0 +1,115 @@
+package com.kostenko.polynomial.processing.api.model.impl;
+
+import com.kostenko.polynomial.processing.api.exception.ErrorCode;
+import com.kostenko.polynomial.processing.api.exception.PolynomialBaseException;
+import com.kostenko.polynomial.processing.api.model.EvaluationOverflowMode;
+import com.kostenko.polynomial.processing.api.model.Polynomial;
+import com.kostenko.polynomial.processing.api.model.Term;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RangeEvaluationIteratorTest {
+    @ParameterizedTest
+    @EnumSource(EvaluationOverflowMode.class)
+    void evaluateRangeShouldMatchPointwiseEvaluation(EvaluationOverflowMode overflowMode) {
+        Random random = new Random(11);
+        for (int i = 0; i < 200; i++) {
+            Polynomial polynomial = randomPolynomial(random);
+            int start = random.nextInt(2001) - 1000;
+            int end = start + random.nextInt(200);
+            int step = random.nextInt(5) + 1;
+
+            PrimitiveIterator.OfInt results = polynomial.evaluateRange(start, end, step, overflowMode);
+            for (long x = start; x <= end; x += step) {
+                assertTrue(results.hasNext());
+                Object expected = evaluate(polynomial, (int) x, overflowMode);
+                Object actual = nextResult(results);
+                assertEquals(expected, actual, polynomial + " for x=" + x);
+                if (expected instanceof ErrorCode) {
+                    break;
+                }
+            }
+        }
+    }
+
+    @Test
+    void evaluateRangeShouldStopAtTheEndOfRange() {
+        Polynomial polynomial = new PolynomialImpl(List.of(
+                new TermImpl(2, 3),
+                new TermImpl(1, 4),
+                new TermImpl(0, -5)
+        ));
+
+        PrimitiveIterator.OfInt results = polynomial.evaluateRange(1, 20, 2, EvaluationOverflowMode.EXACT);
+
+        List<Integer> actual = new ArrayList<>();
+        results.forEachRemaining((int result) -> actual.add(result));
+        assertEquals(10, actual.size());
+        assertEquals(List.of(2, 34, 90, 170, 274), actual.subList(0, 5));
+        assertThrows(NoSuchElementException.class, results::nextInt);
+    }
+
+    @Test
+    void evaluateRangeShouldCoverTheWholeIntRange() {
+        Polynomial polynomial = new PolynomialImpl(List.of(new TermImpl(1, 1)));
+
+        PrimitiveIterator.OfInt results = polynomial.evaluateRange(Integer.MAX_VALUE - 4, Integer.MAX_VALUE, 1, EvaluationOverflowMode.EXACT);
+
+        for (int x = Integer.MAX_VALUE - 4; x > 0; x++) {
+            assertEquals(x, results.nextInt());
+        }
+        assertFalse(results.hasNext());
+    }
+
+    @Test
+    void evaluateRangeWithOverflowShouldThrowPolynomialBaseExceptionInExactMode() {
+        Polynomial polynomial = new PolynomialImpl(List.of(
+                new TermImpl(2, 1),
+                new TermImpl(0, 1)
+        ));
+
+        PrimitiveIterator.OfInt results = polynomial.evaluateRange(46_330, 46_400, 1, EvaluationOverflowMode.EXACT);
+        for (int x = 46_330; x <= 46_340; x++) {
+            assertEquals(x * x + 1, results.nextInt());
+        }
+
+        PolynomialBaseException actual = assertThrows(PolynomialBaseException.class, results::nextInt);
+        assertEquals(ErrorCode.EVALUATION_OVERFLOW.getCode(), actual.getErrorCode());
+        assertArrayEquals(new Object[]{46_341}, actual.getParameters());
+    }
+
+    private static Polynomial randomPolynomial(Random random) {
+        int termCount = random.nextInt(8);
+        List<Term> terms = new ArrayList<>();
+        int maxDegree = random.nextBoolean() ? 2 * termCount + 1 : 40;
+        for (int i = 0; i < termCount; i++) {
+            terms.add(new TermImpl(random.nextInt(maxDegree), random.nextInt(201) - 100));
+        }
+        return new PolynomialImpl(terms).simplify();
+    }
+
+    private static Object evaluate(Polynomial polynomial, int x, EvaluationOverflowMode overflowMode) {
+        try {
+            return polynomial.evaluate(x, overflowMode);
+        } catch (PolynomialBaseException e) {
+            return ErrorCode.getErrorCodeByCode(e.getErrorCode());
+        }
+    }
+
+    private static Object nextResult(PrimitiveIterator.OfInt results) {
+        try {
+            return results.nextInt();
+        } catch (PolynomialBaseException e) {
+            return ErrorCode.getErrorCodeByCode(e.getErrorCode());
+        }
+    }
+}
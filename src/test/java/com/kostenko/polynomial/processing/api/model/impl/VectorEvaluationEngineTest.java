@@ -0,0 +1,82 @@
+package com.kostenko.polynomial.processing.api.model.impl;
+
+import com.kostenko.polynomial.processing.api.exception.PolynomialBaseException;
+import com.kostenko.polynomial.processing.api.model.EvaluationOverflowMode;
+import com.kostenko.polynomial.processing.api.model.Polynomial;
+import com.kostenko.polynomial.processing.api.model.Term;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VectorEvaluationEngineTest {
+    @Test
+    void vectorApiShouldBeEnabledForTests() {
+        assertTrue(EvaluationEngine.VECTORIZED);
+    }
+
+    @ParameterizedTest
+    @EnumSource(EvaluationOverflowMode.class)
+    void vectorizedEvaluationShouldMatchScalarEvaluation(EvaluationOverflowMode overflowMode) {
+        Random random = new Random(7);
+        for (int i = 0; i < 200; i++) {
+            Polynomial polynomial = randomPolynomial(random);
+            int[] xs = random.ints(random.nextInt(100), -10, 11).toArray();
+
+            int[] expected = new int[xs.length];
+            PolynomialBaseException expectedException = null;
+            try {
+                for (int j = 0; j < xs.length; j++) {
+                    expected[j] = polynomial.evaluate(xs[j], overflowMode);
+                }
+            } catch (PolynomialBaseException e) {
+                expectedException = e;
+            }
+
+            if (expectedException == null) {
+                assertArrayEquals(expected, polynomial.evaluate(xs, overflowMode), polynomial.toString());
+            } else {
+                PolynomialBaseException actual = assertThrows(PolynomialBaseException.class,
+                        () -> polynomial.evaluate(xs, overflowMode));
+                assertEquals(expectedException.getMessage(), actual.getMessage());
+            }
+        }
+    }
+
+    @Test
+    void exactEvaluationShouldFallBackToScalarForLargeXs() {
+        Polynomial polynomial = new PolynomialImpl(List.of(
+                new TermImpl(2, 1),
+                new TermImpl(0, -1)
+        )).simplify();
+        int[] xs = new int[64];
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = i % 2 == 0 ? 46340 : -46340;
+        }
+
+        int[] actual = polynomial.evaluate(xs, EvaluationOverflowMode.EXACT);
+
+        for (int result : actual) {
+            assertEquals(46340 * 46340 - 1, result);
+        }
+        xs[37] = 46341;
+        PolynomialBaseException exception = assertThrows(PolynomialBaseException.class,
+                () -> polynomial.evaluate(xs, EvaluationOverflowMode.EXACT));
+        assertTrue(exception.getMessage().contains("46341"));
+    }
+
+    private static Polynomial randomPolynomial(Random random) {
+        int termCount = random.nextInt(12);
+        List<Term> terms = new ArrayList<>();
+        int maxDegree = random.nextBoolean() ? 2 * termCount + 1 : 100;
+        for (int i = 0; i < termCount; i++) {
+            terms.add(new TermImpl(random.nextInt(maxDegree), random.nextInt(201) - 100));
+        }
+        return new PolynomialImpl(terms).simplify();
+    }
+}
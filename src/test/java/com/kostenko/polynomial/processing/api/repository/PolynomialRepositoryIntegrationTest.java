@@ -0,0 +1,181 @@
+package com.kostenko.polynomial.processing.api.repository;
+
+import com.kostenko.polynomial.processing.api.repository.entity.EvaluationEntity;
+import com.kostenko.polynomial.processing.api.repository.entity.PolynomialEntity;
+import com.kostenko.polynomial.processing.api.repository.projection.PolynomialEvaluationProjection;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Testcontainers
+@Transactional
+class PolynomialRepositoryIntegrationTest {
+    private static final byte[] SIMPLIFIED_POLYNOMIAL_BINARY = {1, 2, 3};
+
+    @Container
+    public static PostgreSQLContainer postgreSQLContainer = new PostgreSQLContainer("postgres:14.7-alpine")
+            .withDatabaseName("test_database")
+            .withUsername("username")
+            .withPassword("password");
+
+    @Autowired
+    private PolynomialRepository polynomialRepository;
+    @Autowired
+    private EvaluationRepository evaluationRepository;
+    @Autowired
+    private PolynomialBatchRepository polynomialBatchRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void findByPolynomialKeyShouldFindPolynomialByKeyHash() {
+        PolynomialEntity polynomialEntity = polynomialRepository.saveAndFlush(
+                new PolynomialEntity("x + 1", "1 + x", "x + 1", SIMPLIFIED_POLYNOMIAL_BINARY));
+
+        Optional<PolynomialEntity> actual = polynomialRepository.findByPolynomialKey("x + 1");
+
+        assertEquals(polynomialEntity.getId(), actual.orElseThrow().getId());
+        assertArrayEquals(PolynomialEntity.hashPolynomialKey("x + 1"), actual.get().getPolynomialKeyHash());
+        assertTrue(polynomialRepository.findByPolynomialKey("x + 2").isEmpty());
+    }
+
+    @Test
+    void findByPolynomialKeyShouldConfirmKeyOfMatchedHash() {
+        insertPolynomialWithKeyHashOf("x + 1", "x + 2");
+
+        Optional<PolynomialEntity> actual = polynomialRepository.findByPolynomialKey("x + 2");
+        Optional<PolynomialEvaluationProjection> actualEvaluation = polynomialRepository.findEvaluationByPolynomialKeyAndX("x + 2", "1");
+
+        assertTrue(actual.isEmpty());
+        assertTrue(actualEvaluation.isEmpty());
+    }
+
+    @Test
+    void findAllByPolynomialKeyInShouldConfirmKeysOfMatchedHashes() {
+        polynomialRepository.saveAndFlush(new PolynomialEntity("x + 1", "1 + x", "x + 1", SIMPLIFIED_POLYNOMIAL_BINARY));
+        polynomialRepository.saveAndFlush(new PolynomialEntity("x + 3", "3 + x", "x + 3", SIMPLIFIED_POLYNOMIAL_BINARY));
+        insertPolynomialWithKeyHashOf("x + 4", "x + 2");
+
+        List<PolynomialEntity> actual = polynomialRepository.findAllByPolynomialKeyIn(Set.of("x + 1", "x + 2", "x + 5"));
+
+        assertEquals(List.of("x + 1"), actual.stream().map(PolynomialEntity::getPolynomialKey).toList());
+    }
+
+    @Test
+    void insertPolynomialsIfAbsentShouldIgnoreConflictOnKeyHash() {
+        PolynomialEntity incorrectPolynomialEntity = new PolynomialEntity();
+        incorrectPolynomialEntity.setPolynomialKey("2.0*x");
+        incorrectPolynomialEntity.setPolynomialRequest("2.0 * x");
+        incorrectPolynomialEntity.setErrorCode("1");
+
+        int firstInsertedRows = polynomialBatchRepository.insertPolynomialsIfAbsent(List.of(
+                new PolynomialEntity("x + 1", "1 + x", "x + 1", SIMPLIFIED_POLYNOMIAL_BINARY),
+                incorrectPolynomialEntity
+        ));
+        int secondInsertedRows = polynomialBatchRepository.insertPolynomialsIfAbsent(List.of(
+                new PolynomialEntity("x + 1", "x + 1", "x + 1", SIMPLIFIED_POLYNOMIAL_BINARY),
+                new PolynomialEntity("x + 3", "3 + x", "x + 3", SIMPLIFIED_POLYNOMIAL_BINARY)
+        ));
+
+        PolynomialEntity actual = polynomialRepository.findByPolynomialKey("x + 1").orElseThrow();
+        PolynomialEntity actualIncorrect = polynomialRepository.findByPolynomialKey("2.0*x").orElseThrow();
+
+        assertEquals(2, firstInsertedRows);
+        assertEquals(1, secondInsertedRows);
+        assertEquals(3, polynomialRepository.count());
+        assertEquals("1 + x", actual.getPolynomialRequest());
+        assertArrayEquals(SIMPLIFIED_POLYNOMIAL_BINARY, actual.getSimplifiedPolynomialBinary());
+        assertEquals("1", actualIncorrect.getErrorCode());
+        assertNull(actualIncorrect.getSimplifiedPolynomialBinary());
+    }
+
+    @Test
+    void insertEvaluationsIfAbsentShouldInsertOnlyMissingEvaluationsOfExistingPolynomials() {
+        PolynomialEntity polynomialEntity = new PolynomialEntity("x + 1", "1 + x", "x + 1", SIMPLIFIED_POLYNOMIAL_BINARY);
+        PolynomialEntity missingPolynomialEntity = new PolynomialEntity();
+        missingPolynomialEntity.setPolynomialKey("x + 2");
+        polynomialBatchRepository.insertPolynomialsIfAbsent(List.of(polynomialEntity));
+
+        int firstInsertedRows = polynomialBatchRepository.insertEvaluationsIfAbsent(List.of(
+                new EvaluationEntity(polynomialEntity, "1", 2),
+                new EvaluationEntity(polynomialEntity, "2", 3),
+                new EvaluationEntity(missingPolynomialEntity, "1", 3)
+        ));
+        int secondInsertedRows = polynomialBatchRepository.insertEvaluationsIfAbsent(List.of(
+                new EvaluationEntity(polynomialEntity, "2", 3),
+                new EvaluationEntity(polynomialEntity, "3", 4)
+        ));
+
+        List<EvaluationEntity> actual = evaluationRepository.findAllByPolynomialKeyAndXIn("x + 1", Set.of("1", "2", "3"));
+
+        assertEquals(2, firstInsertedRows);
+        assertEquals(1, secondInsertedRows);
+        assertEquals(3, evaluationRepository.count());
+        assertEquals(Set.of(2, 3, 4), Set.copyOf(actual.stream().map(EvaluationEntity::getEvaluationResult).toList()));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void insertEvaluationsIfAbsentShouldSeePolynomialCommittedByConcurrentInsert() throws Exception {
+        PolynomialEntity polynomialEntity = new PolynomialEntity("x + 1", "1 + x", "x + 1", SIMPLIFIED_POLYNOMIAL_BINARY);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            new JdbcTemplate(new SingleConnectionDataSource(connection, true)).update("INSERT INTO polynomials (polynomial_id, " +
+                            "polynomial_key, polynomial_key_hash, polynomial_request) VALUES (nextval('polynomial_seq'), ?, ?, ?)",
+                    "x + 1", PolynomialEntity.hashPolynomialKey("x + 1"), "x + 1");
+
+            CompletableFuture<Integer> writtenRows = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status ->
+                    polynomialBatchRepository.insertPolynomialsIfAbsent(List.of(polynomialEntity)) +
+                            polynomialBatchRepository.insertEvaluationsIfAbsent(List.of(new EvaluationEntity(polynomialEntity, "1", 2)))
+            ));
+            awaitBlockedStatement();
+            connection.commit();
+
+            assertEquals(1, writtenRows.get(5, TimeUnit.SECONDS));
+            assertEquals(1, evaluationRepository.count());
+        } finally {
+            jdbcTemplate.update("DELETE FROM evaluations");
+            jdbcTemplate.update("DELETE FROM polynomials");
+        }
+    }
+
+    private void awaitBlockedStatement() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pg_locks WHERE NOT granted", Integer.class) == 0) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private void insertPolynomialWithKeyHashOf(String polynomialKey, String hashedPolynomialKey) {
+        jdbcTemplate.update("INSERT INTO polynomials (polynomial_id, polynomial_key, polynomial_key_hash, polynomial_request, " +
+                        "simplified_polynomial) VALUES (nextval('polynomial_seq'), ?, ?, ?, ?)",
+                polynomialKey, PolynomialEntity.hashPolynomialKey(hashedPolynomialKey), polynomialKey, polynomialKey);
+    }
+}
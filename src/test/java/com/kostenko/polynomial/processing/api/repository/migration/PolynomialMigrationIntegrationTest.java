@@ -0,0 +1,178 @@
+package com.kostenko.polynomial.processing.api.repository.migration;
+
+import com.kostenko.polynomial.processing.api.repository.entity.PolynomialEntity;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.Driver;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Testcontainers
+class PolynomialMigrationIntegrationTest {
+    private static final String DATABASE = "migration_test";
+    private static final String MIGRATION_LOCATION = "classpath:db/migration";
+    private static final String CONTRACT_LOCATION = "classpath:db/contract";
+
+    @Container
+    public static PostgreSQLContainer postgreSQLContainer = new PostgreSQLContainer("postgres:14.7-alpine")
+            .withDatabaseName("test_database")
+            .withUsername("username")
+            .withPassword("password");
+
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private List<JavaMigration> javaMigrations;
+    @Value("${spring.datasource.password}")
+    private String password;
+
+    private DataSource migrationDataSource;
+    private JdbcTemplate migrationJdbcTemplate;
+
+    @BeforeEach
+    void createDatabase() throws SQLException {
+        jdbcTemplate.execute("CREATE DATABASE " + DATABASE);
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String url = metaData.getURL().replaceFirst("/[^/?]+(\\?|$)", "/" + DATABASE + "$1");
+            migrationDataSource = new SimpleDriverDataSource(new Driver(), url, metaData.getUserName(), password);
+        }
+        migrationJdbcTemplate = new JdbcTemplate(migrationDataSource);
+    }
+
+    @AfterEach
+    void dropDatabase() {
+        jdbcTemplate.execute("DROP DATABASE IF EXISTS " + DATABASE + " WITH (FORCE)");
+    }
+
+    @Test
+    void testBackfillPolynomialKeyHashShouldHashAllPolynomialsInBatches() {
+        migrate("5");
+        int polynomialsCount = 1201;
+        migrationJdbcTemplate.batchUpdate("INSERT INTO polynomials (polynomial_id, polynomial_key, polynomial_request) VALUES (?, ?, ?)",
+                IntStream.rangeClosed(1, polynomialsCount)
+                        .mapToObj(polynomialId -> new Object[]{polynomialId, "x + " + polynomialId, "x + " + polynomialId})
+                        .toList());
+
+        migrate("6");
+
+        List<Map<String, Object>> polynomials = migrationJdbcTemplate.queryForList(
+                "SELECT polynomial_key, polynomial_key_hash FROM polynomials");
+
+        assertEquals(polynomialsCount, polynomials.size());
+        for (Map<String, Object> polynomial : polynomials) {
+            assertArrayEquals(PolynomialEntity.hashPolynomialKey((String) polynomial.get("polynomial_key")),
+                    (byte[]) polynomial.get("polynomial_key_hash"));
+        }
+    }
+
+    @Test
+    void testSwitchToKeyHashConstraintShouldKeepPreviousVersionInsertsWorking() {
+        migrate("8");
+
+        int insertedRows = insertPolynomialLikePreviousVersion("x + 1");
+        int duplicatedInsertedRows = insertPolynomialLikePreviousVersion("x + 1");
+
+        assertEquals(1, insertedRows);
+        assertEquals(0, duplicatedInsertedRows);
+        assertArrayEquals(PolynomialEntity.hashPolynomialKey("x + 1"), migrationJdbcTemplate.queryForObject(
+                "SELECT polynomial_key_hash FROM polynomials WHERE polynomial_key = 'x + 1'", byte[].class));
+        assertTrue(constraintExists("polynomials_polynomial_key_key"));
+
+        migrate("latest", MIGRATION_LOCATION, CONTRACT_LOCATION);
+
+        assertFalse(constraintExists("polynomials_polynomial_key_key"));
+        assertThrows(DataIntegrityViolationException.class, () -> migrationJdbcTemplate.update(
+                "INSERT INTO polynomials (polynomial_id, polynomial_key, polynomial_request) VALUES (2, 'x + 2', 'x + 2')"));
+    }
+
+    @Test
+    void testCanonicalizePolynomialKeysShouldMergeDuplicatedPolynomials() {
+        migrate("7");
+        insertPolynomial(1, "x + x", "x + x", "2*x", null);
+        insertPolynomial(2, "2*x", "2*x", "2*x", null);
+        insertPolynomial(3, "1 + x^2", "1 + x^2", "x^2 + 1", null);
+        insertPolynomial(4, "2*2", "2*2", null, "3 +2*2");
+        insertEvaluation(1, 1, "1", 2);
+        insertEvaluation(2, 1, "2", 4);
+        insertEvaluation(3, 2, "2", 4);
+
+        migrate("8");
+
+        List<Map<String, Object>> polynomials = migrationJdbcTemplate.queryForList(
+                "SELECT polynomial_id, polynomial_key, polynomial_key_hash FROM polynomials ORDER BY polynomial_id");
+        List<Map<String, Object>> evaluations = migrationJdbcTemplate.queryForList(
+                "SELECT polynomial_id, evaluation_request FROM evaluations ORDER BY evaluation_request");
+
+        assertEquals(List.of(2L, 3L, 4L), polynomials.stream().map(row -> ((Number) row.get("polynomial_id")).longValue()).toList());
+        assertEquals(List.of("2*x", "x^2 + 1", "2*2"), polynomials.stream().map(row -> row.get("polynomial_key")).toList());
+        for (Map<String, Object> polynomial : polynomials) {
+            assertArrayEquals(PolynomialEntity.hashPolynomialKey((String) polynomial.get("polynomial_key")),
+                    (byte[]) polynomial.get("polynomial_key_hash"));
+        }
+        assertEquals(List.of("1", "2"), evaluations.stream().map(row -> row.get("evaluation_request")).toList());
+        assertTrue(evaluations.stream().allMatch(row -> ((Number) row.get("polynomial_id")).longValue() == 2L));
+    }
+
+    private void migrate(String target) {
+        migrate(target, MIGRATION_LOCATION);
+    }
+
+    private void migrate(String target, String... locations) {
+        Flyway.configure()
+                .dataSource(migrationDataSource)
+                .locations(locations)
+                .javaMigrations(javaMigrations.toArray(JavaMigration[]::new))
+                .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+                .target(target)
+                .load()
+                .migrate();
+    }
+
+    private void insertPolynomial(long polynomialId, String polynomialKey, String polynomialRequest, String simplifiedPolynomial,
+                                  String errorCode) {
+        migrationJdbcTemplate.update("INSERT INTO polynomials (polynomial_id, polynomial_key, polynomial_key_hash, " +
+                        "polynomial_request, simplified_polynomial, error_code) VALUES (?, ?, ?, ?, ?, ?)",
+                polynomialId, polynomialKey, PolynomialEntity.hashPolynomialKey(polynomialKey), polynomialRequest,
+                simplifiedPolynomial, errorCode);
+    }
+
+    private int insertPolynomialLikePreviousVersion(String polynomialKey) {
+        return migrationJdbcTemplate.update("INSERT INTO polynomials (polynomial_id, polynomial_key, polynomial_request, " +
+                        "simplified_polynomial) VALUES (nextval('polynomial_seq'), ?, ?, ?) ON CONFLICT (polynomial_key) DO NOTHING",
+                polynomialKey, polynomialKey, polynomialKey);
+    }
+
+    private boolean constraintExists(String constraintName) {
+        return Boolean.TRUE.equals(migrationJdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = ?)", Boolean.class, constraintName));
+    }
+
+    private void insertEvaluation(long evaluationId, long polynomialId, String x, int result) {
+        migrationJdbcTemplate.update("INSERT INTO evaluations (evaluation_id, polynomial_id, evaluation_request, " +
+                "evaluation_result) VALUES (?, ?, ?, ?)", evaluationId, polynomialId, x, result);
+    }
+}
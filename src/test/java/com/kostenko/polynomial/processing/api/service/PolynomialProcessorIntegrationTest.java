@@ -1,10 +1,15 @@
 package com.kostenko.polynomial.processing.api.service;
 
+import com.kostenko.polynomial.processing.api.model.impl.PolynomialImpl;
 import com.kostenko.polynomial.processing.api.repository.EvaluationRepository;
 import com.kostenko.polynomial.processing.api.repository.PolynomialRepository;
 import com.kostenko.polynomial.processing.api.repository.entity.EvaluationEntity;
 import com.kostenko.polynomial.processing.api.repository.entity.PolynomialEntity;
+import com.kostenko.polynomial.processing.api.service.cache.PolynomialCache;
+import com.kostenko.polynomial.processing.api.service.codec.PolynomialCodec;
+import com.kostenko.polynomial.processing.api.service.filter.PolynomialKeyFilter;
 import com.kostenko.polynomial.processing.api.service.parser.PolynomialParser;
+import com.kostenko.polynomial.processing.api.service.writer.PolynomialWriter;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,18 +19,25 @@ import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 
 @SpringBootTest
@@ -45,6 +57,14 @@ class PolynomialProcessorIntegrationTest {
     private PolynomialRepository polynomialRepository;
     @Autowired
     private EvaluationRepository evaluationRepository;
+    @Autowired
+    private PolynomialCache polynomialCache;
+    @Autowired
+    private PolynomialCodec polynomialCodec;
+    @Autowired
+    private PolynomialWriter polynomialWriter;
+    @Autowired
+    private PolynomialKeyFilter polynomialKeyFilter;
 
     @SpyBean
     private PolynomialParser polynomialParser;
@@ -53,16 +73,18 @@ class PolynomialProcessorIntegrationTest {
     void clear() {
         evaluationRepository.deleteAll();
         polynomialRepository.deleteAll();
+        polynomialCache.clear();
     }
 
     @Test
     void testPolynomialSimplification() throws Exception {
         String polynomialString = "2*x^2 + 3*x - 5 + x^2 + x";
+        String polynomialKey = "3*x^2 + 4*x - 5";
         String simplifiedPolynomialString = "3*x^2 + 4*x - 5";
 
         MockHttpServletResponse response = sendSimplifyRequest(polynomialString);
 
-        List<PolynomialEntity> expectedPolynomialEntities = List.of(new PolynomialEntity(polynomialString, simplifiedPolynomialString));
+        List<PolynomialEntity> expectedPolynomialEntities = List.of(new PolynomialEntity(polynomialKey, polynomialString, simplifiedPolynomialString, encodeSimplifiedPolynomial()));
         List<PolynomialEntity> actualPolynomialEntities = polynomialRepository.findAll();
 
         List<EvaluationEntity> actualEvaluationEntities = evaluationRepository.findAll();
@@ -79,6 +101,7 @@ class PolynomialProcessorIntegrationTest {
     @Test
     void testPolynomialEvaluation() throws Exception {
         String polynomialString = "2*x^2 + 3*x - 5 + x^2 + x";
+        String polynomialKey = "3*x^2 + 4*x - 5";
         String simplifiedPolynomialString = "3*x^2 + 4*x - 5";
 
         String x = "2";
@@ -86,7 +109,7 @@ class PolynomialProcessorIntegrationTest {
 
         MockHttpServletResponse response = sendEvaluateRequest(polynomialString, x);
 
-        List<PolynomialEntity> expectedPolynomialEntities = List.of(new PolynomialEntity(polynomialString, simplifiedPolynomialString));
+        List<PolynomialEntity> expectedPolynomialEntities = List.of(new PolynomialEntity(polynomialKey, polynomialString, simplifiedPolynomialString, encodeSimplifiedPolynomial()));
         List<PolynomialEntity> actualPolynomialEntities = polynomialRepository.findAll();
         List<EvaluationEntity> expectedEvaluationEntities = List.of(new EvaluationEntity(expectedPolynomialEntities.get(0), x, result));
         List<EvaluationEntity> actualEvaluationEntities = evaluationRepository.findAll();
@@ -103,10 +126,12 @@ class PolynomialProcessorIntegrationTest {
     @Test
     void testPolynomialSimplificationWithCachedPolynomial() throws Exception {
         String polynomialString = "2*x^2 + 3*x - 5 + x^2 + x";
+        String polynomialKey = "3*x^2 + 4*x - 5";
         String simplifiedPolynomialString = "3*x^2 + 4*x - 5";
 
-        PolynomialEntity cachedPolynomialEntity = new PolynomialEntity(polynomialString, simplifiedPolynomialString);
+        PolynomialEntity cachedPolynomialEntity = new PolynomialEntity(polynomialKey, polynomialString, simplifiedPolynomialString, encodeSimplifiedPolynomial());
         polynomialRepository.save(cachedPolynomialEntity);
+        polynomialKeyFilter.rebuild();
 
         MockHttpServletResponse response = sendSimplifyRequest(polynomialString);
 
@@ -130,18 +155,20 @@ class PolynomialProcessorIntegrationTest {
     @Test
     void testPolynomialEvaluationWithCachedPolynomialAndX() throws Exception {
         String polynomialString = "2*x^2 + 3*x - 5 + x^2 + x";
+        String polynomialKey = "3*x^2 + 4*x - 5";
         String simplifiedPolynomialString = "3*x^2 + 4*x - 5";
 
         String x = "2";
         int result = 15;
 
-        PolynomialEntity cachedPolynomialEntity = new PolynomialEntity(polynomialString, simplifiedPolynomialString);
+        PolynomialEntity cachedPolynomialEntity = new PolynomialEntity(polynomialKey, polynomialString, simplifiedPolynomialString, null);
         EvaluationEntity cachedEvaluationEntity = new EvaluationEntity(cachedPolynomialEntity, x, result);
         evaluationRepository.save(cachedEvaluationEntity);
+        polynomialKeyFilter.rebuild();
 
         MockHttpServletResponse response = sendEvaluateRequest(polynomialString, x);
 
-        List<PolynomialEntity> expectedPolynomialEntities = List.of(new PolynomialEntity(polynomialString, simplifiedPolynomialString));
+        List<PolynomialEntity> expectedPolynomialEntities = List.of(new PolynomialEntity(polynomialKey, polynomialString, simplifiedPolynomialString, null));
         List<PolynomialEntity> actualPolynomialEntities = polynomialRepository.findAll();
         List<EvaluationEntity> expectedEvaluationEntities = List.of(new EvaluationEntity(expectedPolynomialEntities.get(0), x, result));
         List<EvaluationEntity> actualEvaluationEntities = evaluationRepository.findAll();
@@ -163,17 +190,19 @@ class PolynomialProcessorIntegrationTest {
     @Test
     void testPolynomialEvaluationWithCachedPolynomial() throws Exception {
         String polynomialString = "2*x^2 + 3*x - 5 + x^2 + x";
+        String polynomialKey = "3*x^2 + 4*x - 5";
         String simplifiedPolynomialString = "3*x^2 + 4*x - 5";
 
         String x = "2";
         int result = 15;
 
-        PolynomialEntity cachedPolynomialEntity = new PolynomialEntity(polynomialString, simplifiedPolynomialString);
+        PolynomialEntity cachedPolynomialEntity = new PolynomialEntity(polynomialKey, polynomialString, simplifiedPolynomialString, null);
         polynomialRepository.save(cachedPolynomialEntity);
+        polynomialKeyFilter.rebuild();
 
         MockHttpServletResponse response = sendEvaluateRequest(polynomialString, x);
 
-        List<PolynomialEntity> expectedPolynomialEntities = List.of(new PolynomialEntity(polynomialString, simplifiedPolynomialString));
+        List<PolynomialEntity> expectedPolynomialEntities = List.of(new PolynomialEntity(polynomialKey, polynomialString, simplifiedPolynomialString, null));
         List<PolynomialEntity> actualPolynomialEntities = polynomialRepository.findAll();
         List<EvaluationEntity> expectedEvaluationEntities = List.of(new EvaluationEntity(expectedPolynomialEntities.get(0), x, result));
         List<EvaluationEntity> actualEvaluationEntities = evaluationRepository.findAll();
@@ -191,6 +220,92 @@ class PolynomialProcessorIntegrationTest {
     }
 
 
+    @Test
+    void testPolynomialSimplificationWithEquivalentCachedPolynomial() throws Exception {
+        String polynomialString = "2*x^2 + 3*x - 5 + x^2 + x";
+        String equivalentPolynomialString = "x + x^2 - 5 + 3*x + 2*x^2";
+        String polynomialKey = "3*x^2 + 4*x - 5";
+        String simplifiedPolynomialString = "3*x^2 + 4*x - 5";
+
+        PolynomialEntity cachedPolynomialEntity = new PolynomialEntity(polynomialKey, polynomialString, simplifiedPolynomialString, encodeSimplifiedPolynomial());
+        polynomialRepository.save(cachedPolynomialEntity);
+        polynomialKeyFilter.rebuild();
+
+        MockHttpServletResponse response = sendSimplifyRequest(equivalentPolynomialString);
+
+        List<PolynomialEntity> expectedPolynomialEntities = List.of(cachedPolynomialEntity);
+        List<PolynomialEntity> actualPolynomialEntities = polynomialRepository.findAll();
+
+        String expected = "{\"polynomial\":\"%s\"}".formatted(simplifiedPolynomialString);
+        String actual = response.getContentAsString();
+
+        verify(polynomialParser, times(0))
+                .parsePolynomial(any());
+
+        assertEquals(expected, actual);
+        assertEquals(CREATED.value(), response.getStatus());
+        assertPolynomialEntitiesEquals(expectedPolynomialEntities, actualPolynomialEntities);
+    }
+
+    @Test
+    void testPolynomialBatchEvaluationWithCachedPolynomialAndX() throws Exception {
+        String polynomialString = "2*x^2 + 3*x - 5 + x^2 + x";
+        String polynomialKey = "3*x^2 + 4*x - 5";
+        String simplifiedPolynomialString = "3*x^2 + 4*x - 5";
+
+        PolynomialEntity cachedPolynomialEntity = new PolynomialEntity(polynomialKey, polynomialString, simplifiedPolynomialString, null);
+        evaluationRepository.save(new EvaluationEntity(cachedPolynomialEntity, "2", 15));
+        polynomialKeyFilter.rebuild();
+
+        MockHttpServletResponse response = sendBatchEvaluateRequest(polynomialString, List.of("1", "2", "3"));
+
+        List<EvaluationEntity> actualEvaluationEntities = evaluationRepository.findAll();
+
+        String expected = "{\"results\":[{\"x\":\"1\",\"result\":2},{\"x\":\"2\",\"result\":15},{\"x\":\"3\",\"result\":34}]}";
+        String actual = response.getContentAsString();
+
+        verify(polynomialParser, times(0))
+                .parseX("2");
+
+        assertEquals(expected, actual);
+        assertEquals(CREATED.value(), response.getStatus());
+        assertEquals(1, polynomialRepository.findAll().size());
+        assertEquals(3, actualEvaluationEntities.size());
+    }
+
+    @Test
+    void testPolynomialBatchSimplification() throws Exception {
+        String polynomialString = "2*x^2 + 3*x - 5 + x^2 + x";
+        String cachedPolynomialString = "x + x";
+        String incorrectPolynomialString = "2*2";
+
+        polynomialRepository.save(new PolynomialEntity("2*x", cachedPolynomialString, "2*x", null));
+        polynomialKeyFilter.rebuild();
+
+        MockHttpServletResponse response = sendBatchSimplifyRequest(List.of(
+                polynomialString,
+                cachedPolynomialString,
+                incorrectPolynomialString
+        ));
+
+        String expected = ("{\"results\":[" +
+                "{\"request\":\"2*x^2 + 3*x - 5 + x^2 + x\",\"polynomial\":\"3*x^2 + 4*x - 5\"}," +
+                "{\"request\":\"x + x\",\"polynomial\":\"2*x\"}," +
+                "{\"request\":\"2*2\",\"error\":{\"code\":3,\"message\":\"Impossible to parse coefficient (+%s). " +
+                "The example of a correct coefficient: '12', '-5'\"}}]}").formatted(incorrectPolynomialString);
+        String actual = response.getContentAsString();
+
+        verify(polynomialParser, times(0))
+                .parsePolynomial(cachedPolynomialString);
+
+        assertEquals(expected, actual);
+        assertEquals(CREATED.value(), response.getStatus());
+        assertEquals(3, polynomialRepository.findAll().size());
+        assertEquals("3 +2*2", polynomialRepository.findByPolynomialKey(incorrectPolynomialString)
+                .orElseThrow()
+                .getErrorCode());
+    }
+
     @Test
     void testPolynomialSimplificationWhenPolynomialIsIncorrectReturnErrorDto() throws Exception {
         String polynomialString = "2*2";
@@ -198,6 +313,7 @@ class PolynomialProcessorIntegrationTest {
         MockHttpServletResponse response = sendSimplifyRequest(polynomialString);
 
         PolynomialEntity polynomialEntity = new PolynomialEntity();
+        polynomialEntity.setPolynomialKey(polynomialString);
         polynomialEntity.setPolynomialRequest(polynomialString);
         polynomialEntity.setErrorCode("3 +2*2");
 
@@ -234,20 +350,243 @@ class PolynomialProcessorIntegrationTest {
         assertTrue(actualEvaluationEntities.isEmpty());
     }
 
+    @Test
+    void testPolynomialRangeEvaluation() throws Exception {
+        String polynomialString = "2*x^2 + 3*x - 5 + x^2 + x";
+        String polynomialKey = "3*x^2 + 4*x - 5";
+        String simplifiedPolynomialString = "3*x^2 + 4*x - 5";
+
+        MockHttpServletResponse response = sendRangeEvaluateRequest(polynomialString, "-1", "5", "2");
+
+        List<PolynomialEntity> expectedPolynomialEntities = List.of(
+                new PolynomialEntity(polynomialKey, polynomialString, simplifiedPolynomialString, encodeSimplifiedPolynomial())
+        );
+        List<PolynomialEntity> actualPolynomialEntities = polynomialRepository.findAll();
+
+        String expected = "{\"results\":[{\"x\":\"-1\",\"result\":-6},{\"x\":\"1\",\"result\":2},"
+                + "{\"x\":\"3\",\"result\":34},{\"x\":\"5\",\"result\":90}]}";
+        String actual = response.getContentAsString();
+
+        assertEquals(expected, actual);
+        assertEquals(CREATED.value(), response.getStatus());
+        assertPolynomialEntitiesEquals(expectedPolynomialEntities, actualPolynomialEntities);
+        assertTrue(evaluationRepository.findAll().isEmpty());
+    }
+
+    @Test
+    void testPolynomialRangeEvaluationWithOverflowReturnsResultsBeforeError() throws Exception {
+        MockHttpServletResponse response = sendRangeEvaluateRequest("x^2", "46339", "46341", "1");
+
+        String expected = "{\"results\":[{\"x\":\"46339\",\"result\":2147302921},{\"x\":\"46340\",\"result\":2147395600}],"
+                + "\"error\":{\"code\":8,\"message\":\"Impossible to evaluate polynomial for x = 46341: the result exceeds the supported integer range\"}}";
+        String actual = response.getContentAsString();
+
+        assertEquals(expected, actual);
+        assertEquals(CREATED.value(), response.getStatus());
+    }
+
+    @Test
+    void testPolynomialRangeEvaluationWhenRangeIsIncorrectReturnErrorDto() throws Exception {
+        MockHttpServletResponse response = sendRangeEvaluateRequest("x^2", "5", "1", "1");
+
+        String expected = "{\"code\":9,\"message\":\"Invalid range of x: start = 5, end = 1, step = 1. The start should not exceed the end and the step should be positive\"}";
+        String actual = response.getContentAsString();
+
+        assertEquals(expected, actual);
+        assertEquals(BAD_REQUEST.value(), response.getStatus());
+        assertTrue(polynomialRepository.findAll().isEmpty());
+    }
+
+    @Test
+    void testPolynomialBatchEvaluationStreamedAsNdjson() throws Exception {
+        String polynomialString = "3*x^2 + 4*x - 5";
+
+        MockHttpServletResponse response = sendBatchEvaluateRequest(polynomialString, List.of("1", "2", "3"),
+                MediaType.APPLICATION_NDJSON);
+
+        String expected = "{\"x\":\"1\",\"result\":2}\n"
+                + "{\"x\":\"2\",\"result\":15}\n"
+                + "{\"x\":\"3\",\"result\":34}\n";
+        String actual = response.getContentAsString();
+
+        assertEquals(expected, actual);
+        assertEquals(CREATED.value(), response.getStatus());
+        assertEquals(MediaType.APPLICATION_NDJSON_VALUE, response.getContentType());
+        assertEquals(3, evaluationRepository.findAll().size());
+    }
+
+    @Test
+    void testPolynomialBatchEvaluationStreamedAsNdjsonWhenXIsIncorrectReturnErrorDto() throws Exception {
+        MockHttpServletResponse response = sendBatchEvaluateRequest("x", List.of("1", "abc"),
+                MediaType.APPLICATION_NDJSON);
+
+        String expected = "{\"code\":2,\"message\":\"Unsupported x type. The example of a correct x: '12', '-5'\"}";
+        String actual = response.getContentAsString();
+
+        assertEquals(expected, actual);
+        assertEquals(BAD_REQUEST.value(), response.getStatus());
+        assertTrue(evaluationRepository.findAll().isEmpty());
+    }
+
+    @Test
+    void testPolynomialBatchEvaluationStreamedAsNdjsonWhenXOfLaterChunkIsIncorrectReturnErrorLine() throws Exception {
+        List<String> xs = Stream.concat(IntStream.range(0, 1000).mapToObj(String::valueOf), Stream.of("abc")).toList();
+
+        MockHttpServletResponse response = sendBatchEvaluateRequest("x", xs, MediaType.APPLICATION_NDJSON);
+
+        List<String> actualLines = response.getContentAsString().lines().toList();
+
+        assertEquals(1001, actualLines.size());
+        assertEquals("{\"x\":\"999\",\"result\":999}", actualLines.get(999));
+        assertEquals("{\"error\":{\"code\":2,\"message\":\"Unsupported x type. The example of a correct x: '12', '-5'\"}}",
+                actualLines.get(1000));
+        assertEquals(CREATED.value(), response.getStatus());
+        assertEquals(1000, evaluationRepository.findAll().size());
+    }
+
+    @Test
+    void testPolynomialBatchSimplificationStreamedAsNdjson() throws Exception {
+        MockHttpServletResponse response = sendBatchSimplifyRequest(List.of("x + x", "2*x^2 - x^2"),
+                MediaType.APPLICATION_NDJSON);
+
+        String expected = "{\"request\":\"x + x\",\"polynomial\":\"2*x\"}\n"
+                + "{\"request\":\"2*x^2 - x^2\",\"polynomial\":\"x^2\"}\n";
+        String actual = response.getContentAsString();
+
+        assertEquals(expected, actual);
+        assertEquals(CREATED.value(), response.getStatus());
+        assertEquals(MediaType.APPLICATION_NDJSON_VALUE, response.getContentType());
+        assertEquals(2, polynomialRepository.findAll().size());
+    }
+
+    @Test
+    void testPolynomialRangeEvaluationStreamedAsNdjson() throws Exception {
+        MockHttpServletResponse response = sendRangeEvaluateRequest("x^2", "46339", "46341", "1",
+                MediaType.APPLICATION_NDJSON);
+
+        String expected = "{\"x\":\"46339\",\"result\":2147302921}\n"
+                + "{\"x\":\"46340\",\"result\":2147395600}\n"
+                + "{\"error\":{\"code\":8,\"message\":\"Impossible to evaluate polynomial for x = 46341: the result exceeds the supported integer range\"}}\n";
+        String actual = response.getContentAsString();
+
+        assertEquals(expected, actual);
+        assertEquals(CREATED.value(), response.getStatus());
+        assertEquals(MediaType.APPLICATION_NDJSON_VALUE, response.getContentType());
+    }
+
+    @Test
+    void testDuplicateWritesOfCachedPolynomialAndX() {
+        String polynomialString = "2*x^2 + 3*x - 5 + x^2 + x";
+        String equivalentPolynomialString = "x + x^2 - 5 + 3*x + 2*x^2";
+        String polynomialKey = "3*x^2 + 4*x - 5";
+        String simplifiedPolynomialString = "3*x^2 + 4*x - 5";
+
+        PolynomialEntity cachedPolynomialEntity = new PolynomialEntity(polynomialKey, polynomialString, simplifiedPolynomialString, encodeSimplifiedPolynomial());
+        evaluationRepository.save(new EvaluationEntity(cachedPolynomialEntity, "2", 15));
+
+        polynomialWriter.writePolynomial(new PolynomialEntity(polynomialKey, equivalentPolynomialString, simplifiedPolynomialString, encodeSimplifiedPolynomial()));
+        polynomialWriter.writeEvaluation(polynomialKey, "2", 15);
+        polynomialWriter.writeEvaluation(polynomialKey, "3", 34);
+        polynomialWriter.flush();
+
+        List<PolynomialEntity> expectedPolynomialEntities = List.of(cachedPolynomialEntity);
+        List<PolynomialEntity> actualPolynomialEntities = polynomialRepository.findAll();
+        List<EvaluationEntity> actualEvaluationEntities = evaluationRepository.findAll();
+
+        assertPolynomialEntitiesEquals(expectedPolynomialEntities, actualPolynomialEntities);
+        assertEquals(2, actualEvaluationEntities.size());
+        assertEquals(34, polynomialRepository.findEvaluationByPolynomialKeyAndX(polynomialKey, "3").orElseThrow().getEvaluationResult());
+    }
+
+    @Test
+    void testEvaluationWriteShouldWriteItsMissingPolynomial() {
+        String polynomialString = "2*x^2 + 3*x - 5 + x^2 + x";
+        String polynomialKey = "3*x^2 + 4*x - 5";
+        String simplifiedPolynomialString = "3*x^2 + 4*x - 5";
+
+        PolynomialEntity polynomialEntity = new PolynomialEntity(polynomialKey, polynomialString, simplifiedPolynomialString, encodeSimplifiedPolynomial());
+        polynomialWriter.writeEvaluation(polynomialEntity, "2", 15);
+        polynomialWriter.flush();
+        polynomialWriter.writeEvaluation(polynomialEntity, "3", 34);
+        polynomialWriter.flush();
+
+        assertPolynomialEntitiesEquals(List.of(polynomialEntity), polynomialRepository.findAll());
+        assertEquals(15, polynomialRepository.findEvaluationByPolynomialKeyAndX(polynomialKey, "2").orElseThrow().getEvaluationResult());
+        assertEquals(34, polynomialRepository.findEvaluationByPolynomialKeyAndX(polynomialKey, "3").orElseThrow().getEvaluationResult());
+    }
+
     private MockHttpServletResponse sendSimplifyRequest(String polynomialString) throws Exception {
-        return mockMvc.perform(post("/api/polynomials/simplify")
+        MockHttpServletResponse response = mockMvc.perform(post("/api/polynomials/simplify")
                         .content("{\"polynomial\": \"%s\"}".formatted(polynomialString))
                         .contentType(MediaType.APPLICATION_JSON))
                 .andReturn()
                 .getResponse();
+        polynomialWriter.flush();
+        return response;
+    }
+
+    private MockHttpServletResponse sendBatchSimplifyRequest(List<String> polynomialStrings) throws Exception {
+        return sendBatchSimplifyRequest(polynomialStrings, MediaType.ALL);
+    }
+
+    private MockHttpServletResponse sendBatchSimplifyRequest(List<String> polynomialStrings, MediaType accept) throws Exception {
+        String polynomialsString = polynomialStrings.stream()
+                .map("\"%s\""::formatted)
+                .collect(Collectors.joining(", ", "[", "]"));
+        return sendStreamingRequest(post("/api/polynomials/simplify/batch")
+                .content("{\"polynomials\": %s}".formatted(polynomialsString))
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(accept));
     }
 
     private MockHttpServletResponse sendEvaluateRequest(String polynomialString, String x) throws Exception {
-        return mockMvc.perform(post("/api/polynomials/evaluate")
+        MockHttpServletResponse response = mockMvc.perform(post("/api/polynomials/evaluate")
                         .content("{\"polynomial\": \"%s\", \"x\": \"%s\"}".formatted(polynomialString, x))
                         .contentType(MediaType.APPLICATION_JSON))
                 .andReturn()
                 .getResponse();
+        polynomialWriter.flush();
+        return response;
+    }
+
+    private MockHttpServletResponse sendBatchEvaluateRequest(String polynomialString, List<String> xs) throws Exception {
+        return sendBatchEvaluateRequest(polynomialString, xs, MediaType.ALL);
+    }
+
+    private MockHttpServletResponse sendBatchEvaluateRequest(String polynomialString, List<String> xs, MediaType accept) throws Exception {
+        String xsString = xs.stream()
+                .map("\"%s\""::formatted)
+                .collect(Collectors.joining(", ", "[", "]"));
+        return sendStreamingRequest(post("/api/polynomials/evaluate/batch")
+                .content("{\"polynomial\": \"%s\", \"x\": %s}".formatted(polynomialString, xsString))
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(accept));
+    }
+
+    private MockHttpServletResponse sendRangeEvaluateRequest(String polynomialString, String start, String end, String step) throws Exception {
+        return sendRangeEvaluateRequest(polynomialString, start, end, step, MediaType.ALL);
+    }
+
+    private MockHttpServletResponse sendRangeEvaluateRequest(String polynomialString, String start, String end, String step,
+                                                             MediaType accept) throws Exception {
+        return sendStreamingRequest(post("/api/polynomials/evaluate/range")
+                .content("{\"polynomial\": \"%s\", \"start\": \"%s\", \"end\": \"%s\", \"step\": \"%s\"}"
+                        .formatted(polynomialString, start, end, step))
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(accept));
+    }
+
+    private MockHttpServletResponse sendStreamingRequest(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andReturn();
+        MockHttpServletResponse response = result.getRequest().isAsyncStarted()
+                ? mockMvc.perform(asyncDispatch(result)).andReturn().getResponse()
+                : result.getResponse();
+        polynomialWriter.flush();
+        return response;
+    }
+
+    private byte[] encodeSimplifiedPolynomial() {
+        return polynomialCodec.encode(PolynomialImpl.fromDescendingTerms(new int[]{2, 1, 0}, new int[]{3, 4, -5}, 3));
     }
 
     private void assertPolynomialEntitiesEquals(List<PolynomialEntity> expected, List<PolynomialEntity> actual) {
@@ -257,8 +596,10 @@ class PolynomialProcessorIntegrationTest {
             PolynomialEntity expectedItem = expected.get(0);
             PolynomialEntity actualItem = actual.get(0);
 
+            assertEquals(expectedItem.getPolynomialKey(), actualItem.getPolynomialKey());
             assertEquals(expectedItem.getPolynomialRequest(), actualItem.getPolynomialRequest());
             assertEquals(expectedItem.getSimplifiedPolynomial(), actualItem.getSimplifiedPolynomial());
+            assertArrayEquals(expectedItem.getSimplifiedPolynomialBinary(), actualItem.getSimplifiedPolynomialBinary());
             assertEquals(expectedItem.getErrorCode(), actualItem.getErrorCode());
         }
     }
@@ -0,0 +1,259 @@
+package com.kostenko.polynomial.processing.api.service;
+
+import com.kostenko.polynomial.processing.api.model.impl.PolynomialImpl;
+import com.kostenko.polynomial.processing.api.repository.entity.PolynomialEntity;
+import com.kostenko.polynomial.processing.api.repository.reactive.ReactiveEvaluationRepository;
+import com.kostenko.polynomial.processing.api.repository.reactive.ReactivePolynomialRepository;
+import com.kostenko.polynomial.processing.api.repository.reactive.entity.EvaluationRecord;
+import com.kostenko.polynomial.processing.api.repository.reactive.entity.PolynomialRecord;
+import com.kostenko.polynomial.processing.api.service.cache.PolynomialCache;
+import com.kostenko.polynomial.processing.api.service.codec.PolynomialCodec;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Result;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.CREATED;
+
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("reactive")
+@AutoConfigureWebTestClient
+class ReactivePolynomialProcessorIntegrationTest {
+    @Container
+    public static PostgreSQLContainer postgreSQLContainer = new PostgreSQLContainer("postgres:14.7-alpine")
+            .withDatabaseName("test_database")
+            .withUsername("username")
+            .withPassword("password");
+
+    @DynamicPropertySource
+    static void registerDatabaseProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.r2dbc.url", () -> "r2dbc:postgresql://%s:%d/%s".formatted(
+                postgreSQLContainer.getHost(),
+                postgreSQLContainer.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT),
+                postgreSQLContainer.getDatabaseName()
+        ));
+        registry.add("spring.r2dbc.username", postgreSQLContainer::getUsername);
+        registry.add("spring.r2dbc.password", postgreSQLContainer::getPassword);
+    }
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ReactivePolynomialRepository polynomialRepository;
+    @Autowired
+    private ReactiveEvaluationRepository evaluationRepository;
+    @Autowired
+    private PolynomialCache polynomialCache;
+    @Autowired
+    private PolynomialCodec polynomialCodec;
+    @Autowired
+    private ConnectionFactory connectionFactory;
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @AfterEach
+    void clear() {
+        evaluationRepository.deleteAll().block();
+        polynomialRepository.deleteAll().block();
+        polynomialCache.clear();
+    }
+
+    @Test
+    void testPolynomialSimplification() {
+        String polynomialString = "2*x^2 + 3*x - 5 + x^2 + x";
+        String polynomialKey = "3*x^2 + 4*x - 5";
+        String simplifiedPolynomialString = "3*x^2 + 4*x - 5";
+
+        sendRequest("/api/polynomials/simplify", "{\"polynomial\": \"%s\"}".formatted(polynomialString))
+                .expectStatus().isEqualTo(CREATED)
+                .expectBody().json("{\"polynomial\":\"%s\"}".formatted(simplifiedPolynomialString), true);
+
+        List<PolynomialRecord> actualPolynomialRecords = polynomialRepository.findAll().collectList().block();
+
+        assertEquals(1, actualPolynomialRecords.size());
+        assertEquals(polynomialKey, actualPolynomialRecords.get(0).polynomialKey());
+        assertEquals(polynomialString, actualPolynomialRecords.get(0).polynomialRequest());
+        assertEquals(simplifiedPolynomialString, actualPolynomialRecords.get(0).simplifiedPolynomial());
+        assertArrayEquals(encodeSimplifiedPolynomial(), actualPolynomialRecords.get(0).simplifiedPolynomialBinary());
+        assertNull(actualPolynomialRecords.get(0).errorCode());
+        assertEquals(0, evaluationRepository.count().block());
+    }
+
+    @Test
+    void testPolynomialEvaluation() {
+        String polynomialString = "2*x^2 + 3*x - 5 + x^2 + x";
+        String simplifiedPolynomialString = "3*x^2 + 4*x - 5";
+
+        sendRequest("/api/polynomials/evaluate", "{\"polynomial\": \"%s\", \"x\": \"2\"}".formatted(polynomialString))
+                .expectStatus().isEqualTo(CREATED)
+                .expectBody().json("{\"result\":15}", true);
+
+        List<PolynomialRecord> actualPolynomialRecords = polynomialRepository.findAll().collectList().block();
+        List<EvaluationRecord> actualEvaluationRecords = evaluationRepository.findAll().collectList().block();
+
+        assertEquals(1, actualPolynomialRecords.size());
+        assertEquals(simplifiedPolynomialString, actualPolynomialRecords.get(0).simplifiedPolynomial());
+        assertEquals(1, actualEvaluationRecords.size());
+        assertEquals(actualPolynomialRecords.get(0).id(), actualEvaluationRecords.get(0).polynomialId());
+        assertEquals("2", actualEvaluationRecords.get(0).evaluationRequest());
+        assertEquals(15, actualEvaluationRecords.get(0).evaluationResult());
+    }
+
+    @Test
+    void testPolynomialEvaluationWithCachedPolynomial() {
+        String polynomialString = "2*x^2 + 3*x - 5 + x^2 + x";
+
+        sendRequest("/api/polynomials/simplify", "{\"polynomial\": \"%s\"}".formatted(polynomialString))
+                .expectStatus().isEqualTo(CREATED);
+        polynomialCache.clear();
+
+        sendRequest("/api/polynomials/evaluate", "{\"polynomial\": \"%s\", \"x\": \"3\"}".formatted(polynomialString))
+                .expectStatus().isEqualTo(CREATED)
+                .expectBody().json("{\"result\":34}", true);
+        polynomialCache.clear();
+
+        sendRequest("/api/polynomials/evaluate", "{\"polynomial\": \"x + 2*x^2 + x^2 - 5 + 3*x\", \"x\": \"3\"}")
+                .expectStatus().isEqualTo(CREATED)
+                .expectBody().json("{\"result\":34}", true);
+
+        assertEquals(1, polynomialRepository.count().block());
+        assertEquals(1, evaluationRepository.count().block());
+    }
+
+    @Test
+    void testPolynomialBatchSimplification() {
+        sendRequest("/api/polynomials/simplify/batch", "{\"polynomials\": [\"x + x\", \"2*2\", \"(x + 1)*(x - 1)\"]}")
+                .expectStatus().isEqualTo(CREATED)
+                .expectBody().json("""
+                        {"results": [
+                            {"request": "x + x", "polynomial": "2*x"},
+                            {"request": "2*2", "error": {"code": 3, "message": "Impossible to parse coefficient (+2*2). The example of a correct coefficient: '12', '-5'"}},
+                            {"request": "(x + 1)*(x - 1)", "polynomial": "x^2 - 1"}
+                        ]}
+                        """, true);
+
+        assertEquals(3, polynomialRepository.count().block());
+        assertEquals("3 +2*2", polynomialRepository.findByPolynomialKey("2*2")
+                .map(PolynomialRecord::errorCode)
+                .block());
+    }
+
+    @Test
+    void testPolynomialSimplificationWhenPolynomialIsIncorrectReturnErrorDto() {
+        String polynomialString = "2*2";
+
+        sendRequest("/api/polynomials/simplify", "{\"polynomial\": \"%s\"}".formatted(polynomialString))
+                .expectStatus().isEqualTo(BAD_REQUEST)
+                .expectBody().json("{\"code\":3,\"message\":\"Impossible to parse coefficient (+%s). The example of a correct coefficient: '12', '-5'\"}"
+                        .formatted(polynomialString), true);
+        polynomialCache.clear();
+
+        sendRequest("/api/polynomials/evaluate", "{\"polynomial\": \"%s\", \"x\": \"1\"}".formatted(polynomialString))
+                .expectStatus().isEqualTo(BAD_REQUEST)
+                .expectBody().jsonPath("$.code").isEqualTo(3);
+
+        List<PolynomialRecord> actualPolynomialRecords = polynomialRepository.findAll().collectList().block();
+
+        assertEquals(1, actualPolynomialRecords.size());
+        assertEquals("3 +2*2", actualPolynomialRecords.get(0).errorCode());
+        assertNull(actualPolynomialRecords.get(0).simplifiedPolynomial());
+        assertEquals(0, evaluationRepository.count().block());
+    }
+
+    @Test
+    void testPolynomialEvaluationWhenXIsIncorrectReturnErrorDto() {
+        sendRequest("/api/polynomials/evaluate", "{\"polynomial\": \"x\", \"x\": \"abc\"}")
+                .expectStatus().isEqualTo(BAD_REQUEST)
+                .expectBody().json("{\"code\":2,\"message\":\"Unsupported x type. The example of a correct x: '12', '-5'\"}", true);
+
+        assertTrue(polynomialRepository.findAll().collectList().block().isEmpty());
+        assertEquals(0, evaluationRepository.count().block());
+    }
+
+    @Test
+    void testEvaluationWriteShouldWaitForConcurrentlyInsertedPolynomialAndWriteItsEvaluation() throws Exception {
+        String polynomialKey = "3*x^2 + 4*x - 5";
+        byte[] simplifiedPolynomialBinary = encodeSimplifiedPolynomial();
+
+        Connection connection = Mono.from(connectionFactory.create()).block();
+        try {
+            Mono.from(connection.beginTransaction()).block();
+            Flux.from(connection.createStatement("INSERT INTO polynomials (polynomial_id, polynomial_key_hash, polynomial_key, " +
+                                    "polynomial_request, simplified_polynomial, simplified_polynomial_binary) " +
+                                    "VALUES (nextval('polynomial_seq'), $1, $2, $3, $4, $5)")
+                            .bind("$1", PolynomialEntity.hashPolynomialKey(polynomialKey))
+                            .bind("$2", polynomialKey)
+                            .bind("$3", polynomialKey)
+                            .bind("$4", polynomialKey)
+                            .bind("$5", simplifiedPolynomialBinary)
+                            .execute())
+                    .flatMap(Result::getRowsUpdated)
+                    .blockLast();
+
+            CompletableFuture<Long> writtenRows = evaluationRepository.insertIfAbsentWithPolynomial(polynomialKey,
+                    "2*x^2 + 3*x - 5 + x^2 + x", polynomialKey, simplifiedPolynomialBinary, "2", 15).toFuture();
+            awaitBlockedStatement();
+            Mono.from(connection.commitTransaction()).block();
+
+            assertEquals(1, writtenRows.get(5, TimeUnit.SECONDS));
+        } finally {
+            Mono.from(connection.close()).block();
+        }
+
+        List<EvaluationRecord> actualEvaluationRecords = evaluationRepository.findAll().collectList().block();
+
+        assertEquals(1, polynomialRepository.count().block());
+        assertEquals(1, actualEvaluationRecords.size());
+        assertEquals(15, actualEvaluationRecords.get(0).evaluationResult());
+    }
+
+    private void awaitBlockedStatement() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (databaseClient.sql("SELECT COUNT(*) FROM pg_locks WHERE NOT granted")
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .block() == 0) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private WebTestClient.ResponseSpec sendRequest(String uri, String body) {
+        return webTestClient.post()
+                .uri(uri)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .exchange();
+    }
+
+    private byte[] encodeSimplifiedPolynomial() {
+        return polynomialCodec.encode(PolynomialImpl.fromDescendingTerms(new int[]{2, 1, 0}, new int[]{3, 4, -5}, 3));
+    }
+}
@@ -0,0 +1,88 @@
+package com.kostenko.polynomial.processing.api.service.cache.impl;
+
+import com.kostenko.polynomial.processing.api.config.PolynomialCacheProperties;
+import com.kostenko.polynomial.processing.api.model.impl.PolynomialImpl;
+import com.kostenko.polynomial.processing.api.model.impl.TermImpl;
+import com.kostenko.polynomial.processing.api.service.cache.CacheStatistics;
+import com.kostenko.polynomial.processing.api.service.cache.CachedPolynomial;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolynomialCacheImplTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PolynomialCacheImpl polynomialCache = new PolynomialCacheImpl(
+            new PolynomialCacheProperties(100, 100, 100, 100),
+            meterRegistry
+    );
+
+    @Test
+    void findPolynomialKeyTest() {
+        polynomialCache.putPolynomialKey("1 + x^2", "x^2 + 1");
+
+        assertEquals(Optional.of("x^2 + 1"), polynomialCache.findPolynomialKey("1 + x^2"));
+        assertTrue(polynomialCache.findPolynomialKey("x^2 + 1").isEmpty());
+    }
+
+    @Test
+    void findPolynomialTest() {
+        CachedPolynomial expected = new CachedPolynomial("3*x^2 + 4*x - 5", new PolynomialImpl(List.of(new TermImpl(2, 3), new TermImpl(1, 4), new TermImpl(0, -5))));
+        polynomialCache.putPolynomial("2*x^2 + 3*x - 5 + x^2 + x", expected);
+
+        Optional<CachedPolynomial> actual = polynomialCache.findPolynomial("2*x^2 + 3*x - 5 + x^2 + x");
+
+        assertEquals(Optional.of(expected), actual);
+        assertTrue(polynomialCache.findPolynomial("x").isEmpty());
+    }
+
+    @Test
+    void findEvaluationTest() {
+        polynomialCache.putEvaluation("3*x^2 + 4*x - 5", "2", 15);
+
+        assertEquals(Optional.of(15), polynomialCache.findEvaluation("3*x^2 + 4*x - 5", "2"));
+        assertTrue(polynomialCache.findEvaluation("3*x^2 + 4*x - 5", "3").isEmpty());
+    }
+
+    @Test
+    void findErrorCodeTest() {
+        polynomialCache.putErrorCode("2*2", "3 +2*2");
+
+        assertEquals(Optional.of("3 +2*2"), polynomialCache.findErrorCode("2*2"));
+        assertTrue(polynomialCache.findPolynomial("2*2").isEmpty());
+    }
+
+    @Test
+    void getStatisticsTest() {
+        polynomialCache.putPolynomial("x", new CachedPolynomial("x", new PolynomialImpl(List.of(new TermImpl(1, 1)))));
+        polynomialCache.findPolynomial("x");
+        polynomialCache.findPolynomial("-x");
+
+        List<CacheStatistics> expected = List.of(
+                new CacheStatistics("keys", 0, 0, 0, 0),
+                new CacheStatistics("polynomials", 1, 1, 1, 0),
+                new CacheStatistics("evaluations", 0, 0, 0, 0),
+                new CacheStatistics("errors", 0, 0, 0, 0)
+        );
+
+        assertEquals(expected, polynomialCache.getStatistics());
+    }
+
+    @Test
+    void clearTest() {
+        polynomialCache.putPolynomialKey("x + 0", "x");
+        polynomialCache.putPolynomial("x", new CachedPolynomial("x", new PolynomialImpl(List.of(new TermImpl(1, 1)))));
+        polynomialCache.putEvaluation("x", "2", 2);
+        polynomialCache.putErrorCode("2*2", "3 +2*2");
+
+        polynomialCache.clear();
+
+        assertTrue(polynomialCache.findPolynomialKey("x + 0").isEmpty());
+        assertTrue(polynomialCache.findPolynomial("x").isEmpty());
+        assertTrue(polynomialCache.findEvaluation("x", "2").isEmpty());
+        assertTrue(polynomialCache.findErrorCode("2*2").isEmpty());
+    }
+}
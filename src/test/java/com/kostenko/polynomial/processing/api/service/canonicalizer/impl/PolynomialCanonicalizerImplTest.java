@@ -0,0 +1,81 @@
+package com.kostenko.polynomial.processing.api.service.canonicalizer.impl;
+
+import com.kostenko.polynomial.processing.api.config.PolynomialCacheProperties;
+import com.kostenko.polynomial.processing.api.config.PolynomialComputationProperties;
+import com.kostenko.polynomial.processing.api.service.cache.impl.PolynomialCacheImpl;
+import com.kostenko.polynomial.processing.api.service.executor.impl.PolynomialComputationExecutorImpl;
+import com.kostenko.polynomial.processing.api.service.mapper.impl.PolynomialMapperImpl;
+import com.kostenko.polynomial.processing.api.service.metrics.impl.PolynomialMetricsImpl;
+import com.kostenko.polynomial.processing.api.service.parser.impl.PolynomialParserImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+class PolynomialCanonicalizerImplTest {
+    private final PolynomialParserImpl polynomialParser = spy(new PolynomialParserImpl(
+            new PolynomialComputationExecutorImpl(new PolynomialComputationProperties(2)),
+            new PolynomialMetricsImpl(new SimpleMeterRegistry())
+    ));
+    private final PolynomialCacheImpl polynomialCache = new PolynomialCacheImpl(
+            new PolynomialCacheProperties(100, 100, 100, 100),
+            new SimpleMeterRegistry()
+    );
+    private final PolynomialCanonicalizerImpl polynomialCanonicalizer = new PolynomialCanonicalizerImpl(
+            polynomialParser,
+            new PolynomialMapperImpl(),
+            polynomialCache
+    );
+
+    @ParameterizedTest
+    @MethodSource("polynomialProvider")
+    void canonicalizeTest(String polynomialString, String expected) {
+        String actual = polynomialCanonicalizer.canonicalize(polynomialString);
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void canonicalizeMemoryCachedPolynomialShouldSkipParsing() {
+        String first = polynomialCanonicalizer.canonicalize("1 + x^2");
+        String second = polynomialCanonicalizer.canonicalize("1 + x^2");
+
+        verify(polynomialParser, times(1))
+                .parseFactors("1 + x^2");
+        assertEquals("x^2 + 1", first);
+        assertEquals("x^2 + 1", second);
+        assertEquals(Optional.of("x^2 + 1"), polynomialCache.findPolynomialKey("1 + x^2"));
+    }
+
+    @Test
+    void canonicalizeShouldNotMultiplyFactorsOut() {
+        String factorized = polynomialCanonicalizer.canonicalize("(x+1)*(x-1)");
+        String expanded = polynomialCanonicalizer.canonicalize("x^2 - 1");
+        String shifted = polynomialCanonicalizer.canonicalize("(x+1)*(x-1)+2");
+
+        assertEquals("(x + 1)*(x - 1)", factorized);
+        assertEquals("x^2 - 1", expanded);
+        assertEquals("(x+1)*(x-1)+2", shifted);
+    }
+
+    private static Stream<Arguments> polynomialProvider() {
+        return Stream.of(
+                Arguments.of("x^2+1", "x^2 + 1"),
+                Arguments.of("x^2 + 1", "x^2 + 1"),
+                Arguments.of("1 + x^2", "x^2 + 1"),
+                Arguments.of("2*x^2 + 3*x - 5 + x^2 + x", "3*x^2 + 4*x - 5"),
+                Arguments.of("(x - 1) * (x + 1)", "(x + 1)*(x - 1)"),
+                Arguments.of("(1 + x)*(-1 + x)", "(x + 1)*(x - 1)"),
+                Arguments.of("(x + 2)*(1)", "x + 2"),
+                Arguments.of("(x - x)*(x + 2)", "0"),
+                Arguments.of("2 * 2", "2*2")
+        );
+    }
+}
@@ -0,0 +1,105 @@
+package com.kostenko.polynomial.processing.api.service.coalescer.impl;
+
+import com.kostenko.polynomial.processing.api.exception.ErrorCode;
+import com.kostenko.polynomial.processing.api.exception.PolynomialBaseException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolynomialRequestCoalescerImplTest {
+    private static final int WAITERS = 8;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PolynomialRequestCoalescerImpl polynomialRequestCoalescer = new PolynomialRequestCoalescerImpl(meterRegistry);
+    private final ExecutorService executorService = Executors.newFixedThreadPool(WAITERS);
+
+    @AfterEach
+    void shutdown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void coalesceShouldRunOneComputationForConcurrentIdenticalRequests() throws Exception {
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executorService.submit(() -> polynomialRequestCoalescer.coalesce("x + x", () -> {
+            computations.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "2*x";
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        List<Future<String>> waiters = new ArrayList<>();
+        for (int i = 1; i < WAITERS; i++) {
+            waiters.add(executorService.submit(() -> polynomialRequestCoalescer.coalesce("x + x", () -> {
+                computations.incrementAndGet();
+                return "2*x";
+            })));
+        }
+        awaitCoalescedWaiters(WAITERS - 1);
+        release.countDown();
+
+        assertEquals("2*x", leader.get(5, TimeUnit.SECONDS));
+        for (Future<String> waiter : waiters) {
+            assertEquals("2*x", waiter.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, computations.get());
+        assertEquals(0, meterRegistry.get("polynomial.requests.in.flight").gauge().value());
+    }
+
+    @Test
+    void coalesceShouldRethrowLeaderExceptionToWaiters() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PolynomialBaseException exception = new PolynomialBaseException(ErrorCode.UNSUPPORTED_POLYNOMIAL_TYPE);
+
+        Future<String> leader = executorService.submit(() -> polynomialRequestCoalescer.coalesce("2.0*x", () -> {
+            started.countDown();
+            await(release);
+            throw exception;
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<String> waiter = executorService.submit(() -> polynomialRequestCoalescer.coalesce("2.0*x", () -> "unexpected"));
+        awaitCoalescedWaiters(1);
+        release.countDown();
+
+        ExecutionException leaderException = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        ExecutionException waiterException = assertThrows(ExecutionException.class, () -> waiter.get(5, TimeUnit.SECONDS));
+        assertSame(exception, leaderException.getCause());
+        assertSame(exception, waiterException.getCause());
+    }
+
+    @Test
+    void coalesceShouldNotShareComputationsOfDifferentKeysOrSequentialRequests() {
+        assertEquals("2*x", polynomialRequestCoalescer.coalesce("x + x", () -> "2*x"));
+        assertEquals("3*x", polynomialRequestCoalescer.coalesce("x + x", () -> "3*x"));
+        assertEquals("x^2", polynomialRequestCoalescer.coalesce("x*x", () -> "x^2"));
+        assertEquals(0, meterRegistry.get("polynomial.requests.coalesced").counter().count());
+    }
+
+    private void awaitCoalescedWaiters(int waiters) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("polynomial.requests.coalesced").counter().count() < waiters) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
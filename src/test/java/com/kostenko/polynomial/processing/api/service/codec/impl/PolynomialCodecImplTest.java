@@ -0,0 +1,78 @@
+package com.kostenko.polynomial.processing.api.service.codec.impl;
+
+import com.kostenko.polynomial.processing.api.model.Polynomial;
+import com.kostenko.polynomial.processing.api.model.impl.PolynomialImpl;
+import com.kostenko.polynomial.processing.api.model.impl.TermImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolynomialCodecImplTest {
+    private final PolynomialCodecImpl polynomialCodec = new PolynomialCodecImpl();
+
+    @ParameterizedTest
+    @MethodSource("polynomialProvider")
+    void encodeDecodeTest(Polynomial polynomial) {
+        byte[] binary = polynomialCodec.encode(polynomial);
+
+        assertEquals(polynomial.simplify(), polynomialCodec.decode(binary));
+    }
+
+    @Test
+    void encodeShouldSimplifyAndUseDegreeDeltas() {
+        Polynomial polynomial = new PolynomialImpl(List.of(
+                new TermImpl(2, 2),
+                new TermImpl(1, 3),
+                new TermImpl(0, -5),
+                new TermImpl(2, 1),
+                new TermImpl(1, 1)
+        ));
+
+        byte[] expected = {1, 3, 2, 6, 1, 8, 1, 9};
+
+        assertArrayEquals(expected, polynomialCodec.encode(polynomial));
+    }
+
+    @Test
+    void decodeDenseHighDegreePolynomialTest() {
+        List<TermImpl> terms = new ArrayList<>();
+        for (int degree = 1000; degree >= 0; degree--) {
+            terms.add(new TermImpl(degree, degree % 2 == 0 ? degree : -degree));
+        }
+        Polynomial polynomial = new PolynomialImpl(new ArrayList<>(terms));
+
+        Polynomial actual = polynomialCodec.decode(polynomialCodec.encode(polynomial));
+
+        assertEquals(polynomial.simplify(), actual);
+        assertEquals(polynomial.evaluate(-1), actual.evaluate(-1));
+    }
+
+    @Test
+    void decodeUnsupportedVersionShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> polynomialCodec.decode(new byte[]{2, 0}));
+        assertThrows(IllegalArgumentException.class, () -> polynomialCodec.decode(new byte[0]));
+    }
+
+    @Test
+    void decodeTruncatedBinaryShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> polynomialCodec.decode(new byte[]{1, 1, (byte) 0x80}));
+    }
+
+    private static Stream<Arguments> polynomialProvider() {
+        return Stream.of(
+                Arguments.of(new PolynomialImpl(List.of(new TermImpl(0, 0)))),
+                Arguments.of(new PolynomialImpl(List.of(new TermImpl(1, 1)))),
+                Arguments.of(new PolynomialImpl(List.of(new TermImpl(5000, 7), new TermImpl(0, -1)))),
+                Arguments.of(new PolynomialImpl(List.of(new TermImpl(3, Integer.MAX_VALUE), new TermImpl(2, Integer.MIN_VALUE)))),
+                Arguments.of(new PolynomialImpl(List.of(new TermImpl(Integer.MAX_VALUE, -3), new TermImpl(1, 2)))),
+                Arguments.of(new PolynomialImpl(List.of(new TermImpl(2, 2), new TermImpl(1, 3), new TermImpl(2, -2))))
+        );
+    }
+}
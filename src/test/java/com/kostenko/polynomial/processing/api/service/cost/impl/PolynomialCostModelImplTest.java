@@ -0,0 +1,73 @@
+package com.kostenko.polynomial.processing.api.service.cost.impl;
+
+import com.kostenko.polynomial.processing.api.config.PolynomialCostModelProperties;
+import com.kostenko.polynomial.processing.api.service.cost.CachePath;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolynomialCostModelImplTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void estimateCostNanosShouldCountCharacters() {
+        PolynomialCostModelImpl polynomialCostModel = createCostModel(true, 1, 0, 0);
+
+        assertEquals(15, polynomialCostModel.estimateCostNanos("(x + 1)*(x - 1)"));
+        assertEquals(0, polynomialCostModel.estimateCostNanos(""));
+    }
+
+    @Test
+    void estimateCostNanosShouldCountFactors() {
+        PolynomialCostModelImpl polynomialCostModel = createCostModel(true, 0, 1, 0);
+
+        assertEquals(1, polynomialCostModel.estimateCostNanos("3*x^2 + 4*x - 5"));
+        assertEquals(2, polynomialCostModel.estimateCostNanos("(x + 1)*(x - 1)"));
+        assertEquals(3, polynomialCostModel.estimateCostNanos("(x + 1)*(x - 1)*x"));
+        assertEquals(2, polynomialCostModel.estimateCostNanos("2*x*(x - 1)"));
+    }
+
+    @Test
+    void estimateCostNanosShouldCountTermProducts() {
+        PolynomialCostModelImpl polynomialCostModel = createCostModel(true, 0, 0, 1);
+
+        assertEquals(0, polynomialCostModel.estimateCostNanos("-3*x^2 + 4*x - -5"));
+        assertEquals(4, polynomialCostModel.estimateCostNanos("(x + 1)*(x - 1)"));
+        assertEquals(12, polynomialCostModel.estimateCostNanos("(x + 1)*(-x - 1)*(x + 2)"));
+        assertEquals(8, polynomialCostModel.estimateCostNanos("(x + 1)*(x - 1)*x"));
+    }
+
+    @Test
+    void choosePathShouldCompareEstimateWithThreshold() {
+        PolynomialCostModelImpl polynomialCostModel = createCostModel(true, 1, 0, 0);
+
+        assertEquals(CachePath.COMPUTE, polynomialCostModel.choosePath("x"));
+        assertEquals(CachePath.COMPUTE, polynomialCostModel.choosePath("x + 1"));
+        assertEquals(CachePath.LOOKUP, polynomialCostModel.choosePath("x^2 + 2*x + 1"));
+        assertEquals(CachePath.LOOKUP, polynomialCostModel.choosePath("x^2 + 3*x + 1"));
+
+        assertEquals(2, meterRegistry.get("polynomial.cost.decisions").tag("path", "compute").counter().count());
+        assertEquals(2, meterRegistry.get("polynomial.cost.decisions").tag("path", "lookup").counter().count());
+        assertEquals(4, meterRegistry.get("polynomial.cost.estimate").summary().count());
+    }
+
+    @Test
+    void choosePathWhenDisabledShouldAlwaysLookup() {
+        PolynomialCostModelImpl polynomialCostModel = createCostModel(false, 1, 0, 0);
+
+        assertEquals(CachePath.LOOKUP, polynomialCostModel.choosePath("x"));
+
+        assertEquals(1, meterRegistry.get("polynomial.cost.decisions").tag("path", "lookup").counter().count());
+        assertEquals(0, meterRegistry.get("polynomial.cost.estimate").summary().count());
+    }
+
+    private PolynomialCostModelImpl createCostModel(boolean enabled, double nanosPerCharacter, double nanosPerFactor,
+                                                    double nanosPerTermProduct) {
+        PolynomialCostModelProperties properties = new PolynomialCostModelProperties(enabled, nanosPerCharacter, nanosPerFactor,
+                nanosPerTermProduct, Duration.ofNanos(6));
+        return new PolynomialCostModelImpl(properties, meterRegistry);
+    }
+}
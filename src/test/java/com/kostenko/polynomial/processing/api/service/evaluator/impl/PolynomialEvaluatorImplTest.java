@@ -0,0 +1,109 @@
+package com.kostenko.polynomial.processing.api.service.evaluator.impl;
+
+import com.kostenko.polynomial.processing.api.config.PolynomialEvaluationProperties;
+import com.kostenko.polynomial.processing.api.exception.ErrorCode;
+import com.kostenko.polynomial.processing.api.exception.PolynomialBaseException;
+import com.kostenko.polynomial.processing.api.model.EvaluationOverflowMode;
+import com.kostenko.polynomial.processing.api.model.Polynomial;
+import com.kostenko.polynomial.processing.api.model.impl.PolynomialImpl;
+import com.kostenko.polynomial.processing.api.model.impl.TermImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolynomialEvaluatorImplTest {
+    private final PolynomialEvaluatorImpl exactPolynomialEvaluator = new PolynomialEvaluatorImpl(
+            new PolynomialEvaluationProperties(EvaluationOverflowMode.EXACT)
+    );
+    private final PolynomialEvaluatorImpl wrappingPolynomialEvaluator = new PolynomialEvaluatorImpl(
+            new PolynomialEvaluationProperties(EvaluationOverflowMode.WRAP)
+    );
+
+    @ParameterizedTest
+    @MethodSource("evaluationProvider")
+    void evaluateTest(Polynomial polynomial, int x, int expected) {
+        assertEquals(expected, exactPolynomialEvaluator.evaluate(polynomial, x));
+        assertEquals(expected, wrappingPolynomialEvaluator.evaluate(polynomial, x));
+        assertEquals(expected, exactPolynomialEvaluator.evaluate(polynomial.simplify(), x));
+    }
+
+    @Test
+    void evaluateWithOverflowShouldWrapInWrapMode() {
+        Polynomial polynomial = new PolynomialImpl(List.of(new TermImpl(33, 1), new TermImpl(0, 7)));
+
+        assertEquals(7, wrappingPolynomialEvaluator.evaluate(polynomial, 2));
+    }
+
+    @Test
+    void evaluateWithOverflowShouldThrowPolynomialBaseExceptionInExactMode() {
+        Polynomial polynomial = new PolynomialImpl(List.of(new TermImpl(999_999_999, 1), new TermImpl(0, 7)));
+
+        PolynomialBaseException actual = assertThrows(
+                PolynomialBaseException.class,
+                () -> exactPolynomialEvaluator.evaluate(polynomial, 2)
+        );
+
+        assertEquals(ErrorCode.EVALUATION_OVERFLOW.getCode(), actual.getErrorCode());
+        assertArrayEquals(new Object[]{2}, actual.getParameters());
+    }
+
+    @Test
+    void evaluateRangeTest() {
+        Polynomial polynomial = new PolynomialImpl(List.of(
+                new TermImpl(2, 3),
+                new TermImpl(1, 4),
+                new TermImpl(0, -5)
+        ));
+
+        assertArrayEquals(new int[]{-6, 2, 34, 90}, toArray(exactPolynomialEvaluator.evaluateRange(polynomial, -1, 5, 2)));
+        assertArrayEquals(new int[]{-6, 2, 34, 90}, toArray(wrappingPolynomialEvaluator.evaluateRange(polynomial, -1, 5, 2)));
+    }
+
+    private static int[] toArray(PrimitiveIterator.OfInt results) {
+        IntStream.Builder builder = IntStream.builder();
+        results.forEachRemaining((IntConsumer) builder);
+        return builder.build().toArray();
+    }
+
+    private static Stream<Arguments> evaluationProvider() {
+        return Stream.of(
+                Arguments.of(new PolynomialImpl(List.of(
+                        new TermImpl(2, 3),
+                        new TermImpl(1, 4),
+                        new TermImpl(0, -5)
+                )), 2, 15),
+                Arguments.of(new PolynomialImpl(List.of(
+                        new TermImpl(2, 2),
+                        new TermImpl(1, 3),
+                        new TermImpl(0, -5),
+                        new TermImpl(2, 1),
+                        new TermImpl(1, 1)
+                )), -3, 10),
+                Arguments.of(new PolynomialImpl(List.of(
+                        new TermImpl(999_999_999, 1),
+                        new TermImpl(999_999_998, -2),
+                        new TermImpl(0, 3)
+                )), 2, 3),
+                Arguments.of(new PolynomialImpl(List.of(
+                        new TermImpl(999_999_999, 5),
+                        new TermImpl(0, 3)
+                )), -1, -2),
+                Arguments.of(new PolynomialImpl(List.of(
+                        new TermImpl(30, 1),
+                        new TermImpl(0, -1)
+                )), 2, 1_073_741_823),
+                Arguments.of(new PolynomialImpl(List.of(
+                        new TermImpl(0, 0)
+                )), 7, 0)
+        );
+    }
+}
@@ -0,0 +1,95 @@
+package com.kostenko.polynomial.processing.api.service.filter.impl;
+
+import com.kostenko.polynomial.processing.api.config.PolynomialKeyFilterProperties;
+import com.kostenko.polynomial.processing.api.repository.PolynomialRepository;
+import com.kostenko.polynomial.processing.api.repository.entity.PolynomialEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PolynomialKeyFilterImplTest {
+    private static final int KEYS = 10_000;
+
+    @Mock
+    private PolynomialRepository polynomialRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void mightContainBeforeRebuildShouldReturnTrue() {
+        PolynomialKeyFilterImpl polynomialKeyFilter = createFilter(true);
+
+        assertTrue(polynomialKeyFilter.mightContain("x + x"));
+    }
+
+    @Test
+    void mightContainWhenFilterIsDisabledShouldReturnTrue() {
+        PolynomialKeyFilterImpl polynomialKeyFilter = createFilter(false);
+        mockStoredKeys(Stream.empty());
+
+        polynomialKeyFilter.rebuild();
+
+        assertTrue(polynomialKeyFilter.mightContain("x + x"));
+    }
+
+    @Test
+    void mightContainAfterRebuildShouldContainStoredAndPutKeys() {
+        PolynomialKeyFilterImpl polynomialKeyFilter = createFilter(true);
+        mockStoredKeys(IntStream.range(0, KEYS).mapToObj(i -> "x^" + i));
+
+        polynomialKeyFilter.rebuild();
+        polynomialKeyFilter.put("2*x");
+
+        for (int i = 0; i < KEYS; i++) {
+            assertTrue(polynomialKeyFilter.mightContain("x^" + i));
+        }
+        assertTrue(polynomialKeyFilter.mightContain("2*x"));
+        assertEquals(KEYS + 1, meterRegistry.get("polynomial.key.filter.checks").tag("result", "present").counter().count());
+    }
+
+    @Test
+    void mightContainForAbsentKeysShouldKeepFalsePositiveRateBelowConfiguredProbability() {
+        PolynomialKeyFilterImpl polynomialKeyFilter = createFilter(true);
+        mockStoredKeys(IntStream.range(0, KEYS).mapToObj(i -> "x^" + i));
+
+        polynomialKeyFilter.rebuild();
+
+        long falsePositives = IntStream.range(0, KEYS)
+                .filter(i -> polynomialKeyFilter.mightContain("2*x^" + i))
+                .count();
+        double falsePositiveProbability = meterRegistry.get("polynomial.key.filter.false.positive.probability").gauge().value();
+
+        assertTrue(falsePositives < KEYS * 0.02, "false positives: " + falsePositives);
+        assertTrue(falsePositiveProbability > 0 && falsePositiveProbability < 0.02);
+        assertTrue(meterRegistry.get("polynomial.key.filter.memory").gauge().value() > 0);
+    }
+
+    private PolynomialKeyFilterImpl createFilter(boolean enabled) {
+        return new PolynomialKeyFilterImpl(
+                new PolynomialKeyFilterProperties(enabled, KEYS, 0.01, Duration.ofHours(1)),
+                polynomialRepository,
+                transactionManager,
+                meterRegistry,
+                new MockEnvironment()
+        );
+    }
+
+    private void mockStoredKeys(Stream<String> polynomialKeys) {
+        when(polynomialRepository.streamAllPolynomialKeyHashes())
+                .thenReturn(polynomialKeys.map(PolynomialEntity::hashPolynomialKey));
+    }
+}
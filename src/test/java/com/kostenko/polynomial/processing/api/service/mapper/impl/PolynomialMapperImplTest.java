@@ -37,7 +37,15 @@ class PolynomialMapperImplTest {
                 )), "-x^2 + 2*x - 1"),
                 Arguments.of(new PolynomialImpl(List.of(
                         new TermImpl(3, 1)
-                )), "x^3")
+                )), "x^3"),
+                Arguments.of(new PolynomialImpl(List.of(
+                        new TermImpl(1, -1),
+                        new TermImpl(0, 1)
+                )), "-x + 1"),
+                Arguments.of(new PolynomialImpl(List.of(
+                        new TermImpl(0, -7)
+                )), "-7"),
+                Arguments.of(new PolynomialImpl(List.of()), "0")
         );
     }
 }
@@ -0,0 +1,56 @@
+package com.kostenko.polynomial.processing.api.service.metrics.impl;
+
+import com.kostenko.polynomial.processing.api.model.impl.PolynomialImpl;
+import com.kostenko.polynomial.processing.api.model.impl.TermImpl;
+import com.kostenko.polynomial.processing.api.service.metrics.ProcessingStage;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolynomialMetricsImplTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PolynomialMetricsImpl polynomialMetrics = new PolynomialMetricsImpl(meterRegistry);
+
+    @Test
+    void recordStageTest() {
+        String actual = polynomialMetrics.recordStage(ProcessingStage.MAP_TO_STRING, () -> "3*x^2 + 4*x - 5");
+
+        Timer timer = meterRegistry.get("polynomial.processing.stage")
+                .tag("stage", "map-to-string")
+                .timer();
+
+        assertEquals("3*x^2 + 4*x - 5", actual);
+        assertEquals(1, timer.count());
+        assertEquals(0, meterRegistry.get("polynomial.processing.stage").tag("stage", "parse").timer().count());
+    }
+
+    @Test
+    void recordStageShouldCountFailedCalls() {
+        assertThrows(IllegalStateException.class, () -> polynomialMetrics.recordStage(ProcessingStage.PARSE, () -> {
+            throw new IllegalStateException();
+        }));
+
+        assertEquals(1, meterRegistry.get("polynomial.processing.stage").tag("stage", "parse").timer().count());
+    }
+
+    @Test
+    void recordPolynomialSizeTest() {
+        polynomialMetrics.recordPolynomialSize(new PolynomialImpl(List.of(
+                new TermImpl(7, 3),
+                new TermImpl(1, 4),
+                new TermImpl(0, -5)
+        )));
+
+        DistributionSummary termCount = meterRegistry.get("polynomial.term.count").summary();
+        DistributionSummary maxDegree = meterRegistry.get("polynomial.max.degree").summary();
+
+        assertEquals(1, termCount.count());
+        assertEquals(3, termCount.totalAmount());
+        assertEquals(7, maxDegree.max());
+    }
+}
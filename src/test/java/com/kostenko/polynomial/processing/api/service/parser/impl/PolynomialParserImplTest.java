@@ -1,24 +1,34 @@
 package com.kostenko.polynomial.processing.api.service.parser.impl;
 
+import com.kostenko.polynomial.processing.api.config.PolynomialComputationProperties;
 import com.kostenko.polynomial.processing.api.exception.ErrorCode;
 import com.kostenko.polynomial.processing.api.exception.parser.impl.PolynomialParserPolynomialRelatedException;
 import com.kostenko.polynomial.processing.api.exception.parser.impl.PolynomialParserXRelatedException;
 import com.kostenko.polynomial.processing.api.model.Polynomial;
 import com.kostenko.polynomial.processing.api.model.impl.PolynomialImpl;
 import com.kostenko.polynomial.processing.api.model.impl.TermImpl;
+import com.kostenko.polynomial.processing.api.service.executor.impl.PolynomialComputationExecutorImpl;
+import com.kostenko.polynomial.processing.api.service.metrics.impl.PolynomialMetricsImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static com.kostenko.polynomial.processing.api.exception.ErrorCode.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 class PolynomialParserImplTest {
-    private final PolynomialParserImpl polynomialParser = new PolynomialParserImpl();
+    private final PolynomialParserImpl polynomialParser = new PolynomialParserImpl(
+            new PolynomialComputationExecutorImpl(new PolynomialComputationProperties(2)),
+            new PolynomialMetricsImpl(new SimpleMeterRegistry())
+    );
 
     @ParameterizedTest
     @MethodSource("polynomialProvider")
@@ -28,6 +38,31 @@ class PolynomialParserImplTest {
         assertEquals(expectedPolynomial, actualPolynomial);
     }
 
+    @ParameterizedTest
+    @MethodSource("polynomialFactorsProvider")
+    void parseFactorsTest(String polynomialString, List<Polynomial> expectedFactors) {
+        List<Polynomial> actualFactors = polynomialParser.parseFactors(polynomialString);
+
+        assertEquals(expectedFactors, actualFactors);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 15, 16, 17, 64})
+    void parseManyFactorsPolynomialTest(int factorCount) {
+        String polynomialString = IntStream.range(0, factorCount)
+                .mapToObj(i -> "(x %s %d)".formatted(i % 2 == 0 ? "+" : "-", i + 1))
+                .collect(Collectors.joining("*"));
+
+        Polynomial expected = new PolynomialImpl(List.of(new TermImpl(0, 1)));
+        for (Polynomial factor : polynomialParser.parseFactors(polynomialString)) {
+            expected = expected.multiply(factor);
+        }
+
+        Polynomial actual = polynomialParser.parsePolynomial(polynomialString);
+
+        assertEquals(expected, actual);
+    }
+
     @Test
     void parseXTest() {
         int expected = -36;
@@ -51,10 +86,10 @@ class PolynomialParserImplTest {
         assertNull(actual.getParameters());
     }
 
-    @Test
-    void parseIncorrectPolynomialShouldThrowPolynomialParserPolynomialRelatedException() {
+    @ParameterizedTest
+    @ValueSource(strings = {"abc", "", "()", "(x)*()", "(x) (x)", "x)*(x", "(2x + 1)*(x"})
+    void parseIncorrectPolynomialShouldThrowPolynomialParserPolynomialRelatedException(String polynomialString) {
         PolynomialParserPolynomialRelatedException expected = new PolynomialParserPolynomialRelatedException(ErrorCode.UNSUPPORTED_POLYNOMIAL_TYPE);
-        String polynomialString = "abc";
 
         PolynomialParserPolynomialRelatedException actual = assertThrows(
                 PolynomialParserPolynomialRelatedException.class,
@@ -90,7 +125,10 @@ class PolynomialParserImplTest {
                 Arguments.of("2x", "+2x", INCORRECT_MULTIPLY_SIGN_POSITION),
                 Arguments.of("x2", "+x2", INCORRECT_DEGREE_SIGN_POSITION),
                 Arguments.of("5*5", "+5*5", IMPOSSIBLE_TO_PARSE_COEFFICIENT),
-                Arguments.of("x^x", "+x^x", IMPOSSIBLE_TO_PARSE_DEGREE)
+                Arguments.of("x^x", "+x^x", IMPOSSIBLE_TO_PARSE_DEGREE),
+                Arguments.of("x + 2*x^", "+2*x^", IMPOSSIBLE_TO_PARSE_DEGREE),
+                Arguments.of("(x + 1)*(+x)", "+", IMPOSSIBLE_TO_PARSE_COEFFICIENT),
+                Arguments.of("(x + 1)*(2 ** x)", "+2*", IMPOSSIBLE_TO_PARSE_COEFFICIENT)
         );
     }
 
@@ -118,4 +156,24 @@ class PolynomialParserImplTest {
                 )))
         );
     }
+
+    private static Stream<Arguments> polynomialFactorsProvider() {
+        return Stream.of(
+                Arguments.of("2*x^2 + 3*x^2 -5", List.of(new PolynomialImpl(List.of(
+                        new TermImpl(2, 2),
+                        new TermImpl(2, 3),
+                        new TermImpl(0, -5)
+                )))),
+                Arguments.of("(x +2)*(x- 1)", List.of(
+                        new PolynomialImpl(List.of(
+                                new TermImpl(1, 1),
+                                new TermImpl(0, 2)
+                        )),
+                        new PolynomialImpl(List.of(
+                                new TermImpl(1, 1),
+                                new TermImpl(0, -1)
+                        ))
+                ))
+        );
+    }
 }
@@ -9,38 +9,94 @@ import com.kostenko.polynomial.processing.api.repository.EvaluationRepository;
 import com.kostenko.polynomial.processing.api.repository.PolynomialRepository;
 import com.kostenko.polynomial.processing.api.repository.entity.EvaluationEntity;
 import com.kostenko.polynomial.processing.api.repository.entity.PolynomialEntity;
+import com.kostenko.polynomial.processing.api.repository.projection.PolynomialEvaluationProjection;
+import com.kostenko.polynomial.processing.api.service.cache.CachedPolynomial;
+import com.kostenko.polynomial.processing.api.service.cache.PolynomialCache;
+import com.kostenko.polynomial.processing.api.service.canonicalizer.PolynomialCanonicalizer;
+import com.kostenko.polynomial.processing.api.service.codec.PolynomialCodec;
+import com.kostenko.polynomial.processing.api.service.coalescer.PolynomialRequestCoalescer;
+import com.kostenko.polynomial.processing.api.service.coalescer.impl.PolynomialRequestCoalescerImpl;
+import com.kostenko.polynomial.processing.api.service.cost.CachePath;
+import com.kostenko.polynomial.processing.api.service.cost.PolynomialCostModel;
+import com.kostenko.polynomial.processing.api.service.evaluator.PolynomialEvaluator;
+import com.kostenko.polynomial.processing.api.service.executor.PolynomialComputationExecutor;
+import com.kostenko.polynomial.processing.api.service.filter.PolynomialKeyFilter;
 import com.kostenko.polynomial.processing.api.service.mapper.PolynomialMapper;
+import com.kostenko.polynomial.processing.api.service.metrics.PolynomialMetrics;
+import com.kostenko.polynomial.processing.api.service.metrics.impl.PolynomialMetricsImpl;
 import com.kostenko.polynomial.processing.api.service.parser.PolynomialParser;
+import com.kostenko.polynomial.processing.api.service.processor.RangeEvaluation;
+import com.kostenko.polynomial.processing.api.service.processor.SimplificationResult;
+import com.kostenko.polynomial.processing.api.service.writer.PolynomialWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class PolynomialProcessorImplTest {
+    private static final byte[] SIMPLIFIED_POLYNOMIAL_BINARY = {1, 3, 4, 6, 1, 8, 9};
+
     @Mock
     private PolynomialParser polynomialParser;
     @Mock
     private PolynomialMapper polynomialMapper;
+    @Mock
+    private PolynomialCodec polynomialCodec;
+    @Mock
+    private PolynomialCanonicalizer polynomialCanonicalizer;
+    @Mock
+    private PolynomialEvaluator polynomialEvaluator;
+    @Mock
+    private PolynomialComputationExecutor polynomialComputationExecutor;
+    @Mock
+    private PolynomialWriter polynomialWriter;
+    @Spy
+    private PolynomialMetrics polynomialMetrics = new PolynomialMetricsImpl(new SimpleMeterRegistry());
+    @Spy
+    private PolynomialRequestCoalescer polynomialRequestCoalescer = new PolynomialRequestCoalescerImpl(new SimpleMeterRegistry());
 
     @Mock
     private PolynomialRepository polynomialRepository;
     @Mock
     private EvaluationRepository evaluationRepository;
 
+    @Mock
+    private PolynomialCache polynomialCache;
+    @Mock
+    private PolynomialKeyFilter polynomialKeyFilter;
+    @Mock
+    private PolynomialCostModel polynomialCostModel;
+
     @InjectMocks
     private PolynomialProcessorImpl polynomialProcessor;
 
+    @BeforeEach
+    void mockKeyFilter() {
+        lenient().when(polynomialKeyFilter.mightContain(any()))
+                .thenReturn(true);
+        lenient().when(polynomialCostModel.choosePath(any()))
+                .thenReturn(CachePath.LOOKUP);
+    }
+
     @Test
     void testSimplify() {
         String polynomialString = "2*x^2 + 3*x - 5 + x^2 + x";
+        String polynomialKey = "3*x^2 + 4*x - 5";
         Polynomial polynomial = new PolynomialImpl(List.of(
                 new TermImpl(2, 2),
                 new TermImpl(1, 3),
@@ -55,50 +111,191 @@ class PolynomialProcessorImplTest {
                 new TermImpl(0, -5)
         ));
 
-        when(polynomialRepository.findByPolynomialRequest(polynomialString))
+        when(polynomialCanonicalizer.canonicalize(polynomialString))
+                .thenReturn(polynomialKey);
+        when(polynomialRepository.findByPolynomialKey(polynomialKey))
                 .thenReturn(Optional.empty());
         when(polynomialParser.parsePolynomial(polynomialString))
                 .thenReturn(polynomial);
         when(polynomialMapper.mapPolynomialToString(simplifiedPolynomial))
                 .thenReturn(simplifiedPolynomialString);
+        when(polynomialCodec.encode(simplifiedPolynomial))
+                .thenReturn(SIMPLIFIED_POLYNOMIAL_BINARY);
+
+        String actual = polynomialProcessor.simplify(polynomialString);
+
+        verify(polynomialWriter, times(1))
+                .writePolynomial(new PolynomialEntity(polynomialKey, polynomialString, simplifiedPolynomialString, SIMPLIFIED_POLYNOMIAL_BINARY));
+        verify(polynomialCache, times(1))
+                .putPolynomial(polynomialKey, new CachedPolynomial(simplifiedPolynomialString, simplifiedPolynomial));
+
+        assertEquals(simplifiedPolynomialString, actual);
+    }
+
+    @Test
+    void testSimplifyPolynomialAbsentInKeyFilterShouldSkipDatabaseLookup() {
+        String polynomialString = "x + x";
+        String polynomialKey = "x + x";
+        Polynomial polynomial = new PolynomialImpl(List.of(
+                new TermImpl(1, 1),
+                new TermImpl(1, 1)
+        ));
+        String simplifiedPolynomialString = "2*x";
+        Polynomial simplifiedPolynomial = new PolynomialImpl(List.of(
+                new TermImpl(1, 2)
+        ));
+
+        when(polynomialCanonicalizer.canonicalize(polynomialString))
+                .thenReturn(polynomialKey);
+        when(polynomialKeyFilter.mightContain(polynomialKey))
+                .thenReturn(false);
+        when(polynomialParser.parsePolynomial(polynomialString))
+                .thenReturn(polynomial);
+        when(polynomialMapper.mapPolynomialToString(simplifiedPolynomial))
+                .thenReturn(simplifiedPolynomialString);
+        when(polynomialCodec.encode(simplifiedPolynomial))
+                .thenReturn(SIMPLIFIED_POLYNOMIAL_BINARY);
 
         String actual = polynomialProcessor.simplify(polynomialString);
 
-        verify(polynomialRepository, times(1))
-                .save(new PolynomialEntity(polynomialString, simplifiedPolynomialString));
+        verify(polynomialRepository, times(0))
+                .findByPolynomialKey(any());
+        verify(polynomialKeyFilter, times(0))
+                .recordFalsePositives(anyInt());
 
         assertEquals(simplifiedPolynomialString, actual);
     }
 
+    @Test
+    void testSimplifyCheapPolynomialShouldSkipDatabase() {
+        String polynomialString = "x + x";
+        String polynomialKey = "x + x";
+        Polynomial polynomial = new PolynomialImpl(List.of(
+                new TermImpl(1, 1),
+                new TermImpl(1, 1)
+        ));
+        String simplifiedPolynomialString = "2*x";
+        Polynomial simplifiedPolynomial = new PolynomialImpl(List.of(
+                new TermImpl(1, 2)
+        ));
+
+        when(polynomialCanonicalizer.canonicalize(polynomialString))
+                .thenReturn(polynomialKey);
+        when(polynomialCostModel.choosePath(polynomialString))
+                .thenReturn(CachePath.COMPUTE);
+        when(polynomialParser.parsePolynomial(polynomialString))
+                .thenReturn(polynomial);
+        when(polynomialMapper.mapPolynomialToString(simplifiedPolynomial))
+                .thenReturn(simplifiedPolynomialString);
+        when(polynomialCodec.encode(simplifiedPolynomial))
+                .thenReturn(SIMPLIFIED_POLYNOMIAL_BINARY);
+
+        String actual = polynomialProcessor.simplify(polynomialString);
+
+        verify(polynomialCache, times(1))
+                .putPolynomial(polynomialKey, new CachedPolynomial(simplifiedPolynomialString, simplifiedPolynomial));
+        verifyNoInteractions(polynomialRepository, polynomialWriter, polynomialRequestCoalescer);
+
+        assertEquals(simplifiedPolynomialString, actual);
+    }
+
+    @Test
+    void testSimplifyMemoryCachedCorrectPolynomial() {
+        String polynomialString = "2*x^2 + 3*x - 5 + x^2 + x";
+        String polynomialKey = "3*x^2 + 4*x - 5";
+        String simplifiedPolynomialString = "3*x^2 + 4*x - 5";
+        Polynomial simplifiedPolynomial = new PolynomialImpl(List.of(
+                new TermImpl(2, 3),
+                new TermImpl(1, 4),
+                new TermImpl(0, -5)
+        ));
+
+        when(polynomialCanonicalizer.canonicalize(polynomialString))
+                .thenReturn(polynomialKey);
+        when(polynomialCache.findPolynomial(polynomialKey))
+                .thenReturn(Optional.of(new CachedPolynomial(simplifiedPolynomialString, simplifiedPolynomial)));
+
+        String actual = polynomialProcessor.simplify(polynomialString);
+
+        verify(polynomialRepository, times(0))
+                .findByPolynomialKey(any());
+        verify(polynomialParser, times(0))
+                .parsePolynomial(any());
+        assertEquals(simplifiedPolynomialString, actual);
+    }
+
+    @Test
+    void testSimplifyMemoryCachedIncorrectPolynomialShouldThrowPolynomialBaseException() {
+        String polynomialString = "x^2*2";
+        String polynomialKey = "x^2*2";
+        String term = "+x^2*2";
+        String errorCode = "5 +x^2*2";
+
+        PolynomialBaseException expected = new PolynomialBaseException(ErrorCode.IMPOSSIBLE_TO_PARSE_DEGREE, term);
+
+        when(polynomialCanonicalizer.canonicalize(polynomialString))
+                .thenReturn(polynomialKey);
+        when(polynomialCache.findErrorCode(polynomialKey))
+                .thenReturn(Optional.of(errorCode));
+
+        PolynomialBaseException actual = assertThrows(
+                PolynomialBaseException.class,
+                () -> polynomialProcessor.simplify(polynomialString)
+        );
+
+        verify(polynomialRepository, times(0))
+                .findByPolynomialKey(any());
+        assertEquals(expected.getMessage(), actual.getMessage());
+        assertEquals(5, actual.getErrorCode());
+        assertArrayEquals(new Object[]{term}, actual.getParameters());
+    }
+
     @Test
     void testSimplifyCachedCorrectPolynomial() {
         String polynomialString = "2*x^2 + 3*x - 5 + x^2 + x";
+        String polynomialKey = "3*x^2 + 4*x - 5";
         String simplifiedPolynomialString = "3*x^2 + 4*x - 5";
+        Polynomial simplifiedPolynomial = new PolynomialImpl(List.of(
+                new TermImpl(2, 3),
+                new TermImpl(1, 4),
+                new TermImpl(0, -5)
+        ));
 
-        when(polynomialRepository.findByPolynomialRequest(polynomialString))
-                .thenReturn(Optional.of(new PolynomialEntity(polynomialString, simplifiedPolynomialString)));
+        when(polynomialCanonicalizer.canonicalize(polynomialString))
+                .thenReturn(polynomialKey);
+        when(polynomialRepository.findByPolynomialKey(polynomialKey))
+                .thenReturn(Optional.of(new PolynomialEntity(polynomialKey, polynomialString, simplifiedPolynomialString, SIMPLIFIED_POLYNOMIAL_BINARY)));
+
+        when(polynomialCodec.decode(SIMPLIFIED_POLYNOMIAL_BINARY))
+                .thenReturn(simplifiedPolynomial);
 
         String actual = polynomialProcessor.simplify(polynomialString);
         verify(polynomialParser, times(0))
                 .parsePolynomial(any());
         verify(polynomialMapper, times(0))
                 .mapPolynomialToString(any());
+        verify(polynomialCache, times(1))
+                .putPolynomial(polynomialKey, new CachedPolynomial(simplifiedPolynomialString, simplifiedPolynomial));
         assertEquals(simplifiedPolynomialString, actual);
     }
 
     @Test
     void testSimplifyCachedIncorrectPolynomialShouldThrowPolynomialBaseException() {
         String polynomialString = "x^2*2";
+        String polynomialKey = "x^2*2";
         String term = "+x^2*2";
         String errorCode = "5 +x^2*2";
 
         PolynomialEntity polynomialEntity = new PolynomialEntity();
+        polynomialEntity.setPolynomialKey(polynomialKey);
         polynomialEntity.setPolynomialRequest(polynomialString);
         polynomialEntity.setErrorCode(errorCode);
 
         PolynomialBaseException expected = new PolynomialBaseException(ErrorCode.IMPOSSIBLE_TO_PARSE_DEGREE, term);
 
-        when(polynomialRepository.findByPolynomialRequest(polynomialString))
+        when(polynomialCanonicalizer.canonicalize(polynomialString))
+                .thenReturn(polynomialKey);
+        when(polynomialRepository.findByPolynomialKey(polynomialKey))
                 .thenReturn(Optional.of(polynomialEntity));
 
         PolynomialBaseException actual = assertThrows(
@@ -111,9 +308,171 @@ class PolynomialProcessorImplTest {
         assertArrayEquals(new Object[]{term}, actual.getParameters());
     }
 
+    @Test
+    void testSimplifyBatch() {
+        String polynomialString = "2*x^2 + 3*x - 5 + x^2 + x";
+        String equivalentPolynomialString = "3*x^2 + 4*x - 5";
+        String polynomialKey = "3*x^2 + 4*x - 5";
+        Polynomial polynomial = new PolynomialImpl(List.of(
+                new TermImpl(2, 2),
+                new TermImpl(1, 3),
+                new TermImpl(0, -5),
+                new TermImpl(2, 1),
+                new TermImpl(1, 1)
+        ));
+        String simplifiedPolynomialString = "3*x^2 + 4*x - 5";
+        Polynomial simplifiedPolynomial = new PolynomialImpl(List.of(
+                new TermImpl(2, 3),
+                new TermImpl(1, 4),
+                new TermImpl(0, -5)
+        ));
+
+        String memoryCachedPolynomialString = "x + x";
+        String memoryCachedPolynomialKey = "2*x";
+
+        String cachedIncorrectPolynomialString = "x^2*2";
+        PolynomialEntity cachedIncorrectPolynomialEntity = new PolynomialEntity();
+        cachedIncorrectPolynomialEntity.setPolynomialKey(cachedIncorrectPolynomialString);
+        cachedIncorrectPolynomialEntity.setPolynomialRequest(cachedIncorrectPolynomialString);
+        cachedIncorrectPolynomialEntity.setErrorCode("5 +x^2*2");
+
+        String incorrectPolynomialString = "2.0 * x";
+        String incorrectPolynomialKey = "2.0*x";
+        PolynomialBaseException incorrectPolynomialException = new PolynomialBaseException(ErrorCode.UNSUPPORTED_POLYNOMIAL_TYPE);
+        PolynomialEntity incorrectPolynomialEntity = new PolynomialEntity();
+        incorrectPolynomialEntity.setPolynomialKey(incorrectPolynomialKey);
+        incorrectPolynomialEntity.setPolynomialRequest(incorrectPolynomialString);
+        incorrectPolynomialEntity.setErrorCode("1");
+
+        List<String> polynomials = List.of(
+                polynomialString,
+                memoryCachedPolynomialString,
+                cachedIncorrectPolynomialString,
+                equivalentPolynomialString,
+                incorrectPolynomialString
+        );
+
+        mockSequentialComputation();
+        when(polynomialCanonicalizer.canonicalize(polynomialString))
+                .thenReturn(polynomialKey);
+        when(polynomialCanonicalizer.canonicalize(memoryCachedPolynomialString))
+                .thenReturn(memoryCachedPolynomialKey);
+        when(polynomialCanonicalizer.canonicalize(cachedIncorrectPolynomialString))
+                .thenReturn(cachedIncorrectPolynomialString);
+        when(polynomialCanonicalizer.canonicalize(equivalentPolynomialString))
+                .thenReturn(polynomialKey);
+        when(polynomialCanonicalizer.canonicalize(incorrectPolynomialString))
+                .thenReturn(incorrectPolynomialKey);
+        when(polynomialCache.findPolynomial(memoryCachedPolynomialKey))
+                .thenReturn(Optional.of(new CachedPolynomial(memoryCachedPolynomialKey, new PolynomialImpl(List.of(new TermImpl(1, 2))))));
+        when(polynomialCache.findPolynomial(polynomialKey))
+                .thenReturn(Optional.empty());
+        when(polynomialCache.findPolynomial(cachedIncorrectPolynomialString))
+                .thenReturn(Optional.empty());
+        when(polynomialCache.findPolynomial(incorrectPolynomialKey))
+                .thenReturn(Optional.empty());
+        when(polynomialRepository.findAllByPolynomialKeyIn(Set.of(polynomialKey, cachedIncorrectPolynomialString, incorrectPolynomialKey)))
+                .thenReturn(List.of(cachedIncorrectPolynomialEntity));
+        when(polynomialParser.parsePolynomial(polynomialString))
+                .thenReturn(polynomial);
+        when(polynomialParser.parsePolynomial(incorrectPolynomialString))
+                .thenThrow(incorrectPolynomialException);
+        when(polynomialMapper.mapPolynomialToString(simplifiedPolynomial))
+                .thenReturn(simplifiedPolynomialString);
+        when(polynomialCodec.encode(simplifiedPolynomial))
+                .thenReturn(SIMPLIFIED_POLYNOMIAL_BINARY);
+        when(polynomialCodec.decode(SIMPLIFIED_POLYNOMIAL_BINARY))
+                .thenReturn(simplifiedPolynomial);
+
+        List<SimplificationResult> actual = polynomialProcessor.simplifyBatch(polynomials);
+
+        verify(polynomialWriter, times(1))
+                .writePolynomial(new PolynomialEntity(polynomialKey, polynomialString, simplifiedPolynomialString, SIMPLIFIED_POLYNOMIAL_BINARY));
+        verify(polynomialWriter, times(1))
+                .writePolynomial(incorrectPolynomialEntity);
+        verify(polynomialCache, times(1))
+                .putPolynomial(polynomialKey, new CachedPolynomial(simplifiedPolynomialString, simplifiedPolynomial));
+        verify(polynomialCache, times(1))
+                .putErrorCode(cachedIncorrectPolynomialString, "5 +x^2*2");
+        verify(polynomialCache, times(1))
+                .putErrorCode(incorrectPolynomialKey, "1");
+        verify(polynomialParser, times(1))
+                .parsePolynomial(polynomialString);
+
+        assertEquals(5, actual.size());
+        assertEquals(SimplificationResult.simplified(simplifiedPolynomialString), actual.get(0));
+        assertEquals(SimplificationResult.simplified(memoryCachedPolynomialKey), actual.get(1));
+        assertEquals(5, actual.get(2).errorCode());
+        assertEquals(new PolynomialBaseException(ErrorCode.IMPOSSIBLE_TO_PARSE_DEGREE, "+x^2*2").getMessage(), actual.get(2).errorMessage());
+        assertEquals(SimplificationResult.simplified(simplifiedPolynomialString), actual.get(3));
+        assertEquals(1, actual.get(4).errorCode());
+        assertNull(actual.get(4).simplifiedPolynomial());
+    }
+
+    @Test
+    void testSimplifyBatchOfCheapIncorrectPolynomialShouldStoreItsError() {
+        String incorrectPolynomialString = "2.0 * x";
+        String incorrectPolynomialKey = "2.0*x";
+        PolynomialEntity incorrectPolynomialEntity = new PolynomialEntity();
+        incorrectPolynomialEntity.setPolynomialKey(incorrectPolynomialKey);
+        incorrectPolynomialEntity.setPolynomialRequest(incorrectPolynomialString);
+        incorrectPolynomialEntity.setErrorCode("1");
+
+        mockSequentialComputation();
+        when(polynomialCanonicalizer.canonicalize(incorrectPolynomialString))
+                .thenReturn(incorrectPolynomialKey);
+        when(polynomialCostModel.choosePath(incorrectPolynomialString))
+                .thenReturn(CachePath.COMPUTE);
+        when(polynomialParser.parsePolynomial(incorrectPolynomialString))
+                .thenThrow(new PolynomialBaseException(ErrorCode.UNSUPPORTED_POLYNOMIAL_TYPE));
+
+        List<SimplificationResult> actual = polynomialProcessor.simplifyBatch(List.of(incorrectPolynomialString));
+
+        verifyNoInteractions(polynomialRepository);
+        verify(polynomialWriter, times(1))
+                .writePolynomial(incorrectPolynomialEntity);
+        verify(polynomialCache, times(1))
+                .putErrorCode(incorrectPolynomialKey, "1");
+
+        assertEquals(1, actual.get(0).errorCode());
+    }
+
+    @Test
+    void testSimplifyBatchOfCheapPolynomialShouldSkipDatabase() {
+        String polynomialString = "x + x";
+        String polynomialKey = "2*x";
+        Polynomial polynomial = new PolynomialImpl(List.of(
+                new TermImpl(1, 1),
+                new TermImpl(1, 1)
+        ));
+        String simplifiedPolynomialString = "2*x";
+        Polynomial simplifiedPolynomial = new PolynomialImpl(List.of(
+                new TermImpl(1, 2)
+        ));
+
+        mockSequentialComputation();
+        when(polynomialCanonicalizer.canonicalize(polynomialString))
+                .thenReturn(polynomialKey);
+        when(polynomialCostModel.choosePath(polynomialString))
+                .thenReturn(CachePath.COMPUTE);
+        when(polynomialParser.parsePolynomial(polynomialString))
+                .thenReturn(polynomial);
+        when(polynomialMapper.mapPolynomialToString(simplifiedPolynomial))
+                .thenReturn(simplifiedPolynomialString);
+        when(polynomialCodec.encode(simplifiedPolynomial))
+                .thenReturn(SIMPLIFIED_POLYNOMIAL_BINARY);
+
+        List<SimplificationResult> actual = polynomialProcessor.simplifyBatch(List.of(polynomialString));
+
+        verifyNoInteractions(polynomialRepository, polynomialWriter);
+
+        assertEquals(List.of(SimplificationResult.simplified(simplifiedPolynomialString)), actual);
+    }
+
     @Test
     void testEvaluation() {
         String polynomialString = "2*x^2 + 3*x - 5 + x^2 + x";
+        String polynomialKey = "3*x^2 + 4*x - 5";
         Polynomial polynomial = new PolynomialImpl(List.of(
                 new TermImpl(2, 2),
                 new TermImpl(1, 3),
@@ -131,24 +490,178 @@ class PolynomialProcessorImplTest {
         int parsedX = 2;
         int expected = 15;
 
-        PolynomialEntity polynomialEntity = new PolynomialEntity(polynomialString, simplifiedPolynomialString);
-        EvaluationEntity evaluationEntity = new EvaluationEntity(polynomialEntity, x, expected);
+        PolynomialEntity polynomialEntity = new PolynomialEntity(polynomialKey, polynomialString, simplifiedPolynomialString, SIMPLIFIED_POLYNOMIAL_BINARY);
 
-        when(evaluationRepository.findByRequestPolynomialAndX(polynomialString, x))
+        when(polynomialCanonicalizer.canonicalize(polynomialString))
+                .thenReturn(polynomialKey);
+        when(polynomialRepository.findEvaluationByPolynomialKeyAndX(polynomialKey, x))
                 .thenReturn(Optional.empty());
         when(polynomialParser.parseX(x))
                 .thenReturn(parsedX);
-        when(polynomialRepository.findByPolynomialRequest(polynomialString))
+        when(polynomialEvaluator.evaluate(simplifiedPolynomial, parsedX))
+                .thenReturn(expected);
+        when(polynomialParser.parsePolynomial(polynomialString))
+                .thenReturn(polynomial);
+        when(polynomialMapper.mapPolynomialToString(simplifiedPolynomial))
+                .thenReturn(simplifiedPolynomialString);
+        when(polynomialCodec.encode(simplifiedPolynomial))
+                .thenReturn(SIMPLIFIED_POLYNOMIAL_BINARY);
+
+        int actual = polynomialProcessor.evaluate(polynomialString, x);
+
+        verify(polynomialWriter, times(0))
+                .writePolynomial(any());
+        verify(polynomialWriter, times(1))
+                .writeEvaluation(polynomialEntity, x, expected);
+        verify(polynomialCache, times(1))
+                .putEvaluation(polynomialKey, x, expected);
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void testEvaluationOverflowShouldKeepSimplifiedPolynomial() {
+        String polynomialString = "x^2*x^2*x^2*x^2";
+        String polynomialKey = "x^8";
+        Polynomial polynomial = new PolynomialImpl(List.of(
+                new TermImpl(8, 1)
+        ));
+        String simplifiedPolynomialString = "x^8";
+        String x = "100";
+        int parsedX = 100;
+        PolynomialBaseException overflowException = new PolynomialBaseException(ErrorCode.EVALUATION_OVERFLOW, x);
+
+        when(polynomialCanonicalizer.canonicalize(polynomialString))
+                .thenReturn(polynomialKey);
+        when(polynomialRepository.findEvaluationByPolynomialKeyAndX(polynomialKey, x))
                 .thenReturn(Optional.empty());
+        when(polynomialParser.parseX(x))
+                .thenReturn(parsedX);
+        when(polynomialParser.parsePolynomial(polynomialString))
+                .thenReturn(polynomial);
+        when(polynomialEvaluator.evaluate(polynomial, parsedX))
+                .thenThrow(overflowException);
+        when(polynomialMapper.mapPolynomialToString(polynomial))
+                .thenReturn(simplifiedPolynomialString);
+        when(polynomialCodec.encode(polynomial))
+                .thenReturn(SIMPLIFIED_POLYNOMIAL_BINARY);
+
+        PolynomialBaseException actual = assertThrows(
+                PolynomialBaseException.class,
+                () -> polynomialProcessor.evaluate(polynomialString, x)
+        );
+
+        verify(polynomialCache, times(1))
+                .putPolynomial(polynomialKey, new CachedPolynomial(simplifiedPolynomialString, polynomial));
+        verify(polynomialWriter, times(1))
+                .writePolynomial(new PolynomialEntity(polynomialKey, polynomialString, simplifiedPolynomialString, SIMPLIFIED_POLYNOMIAL_BINARY));
+        verify(polynomialWriter, times(0))
+                .writeEvaluation(any(PolynomialEntity.class), any(), anyInt());
+
+        assertSame(overflowException, actual);
+    }
+
+    @Test
+    void testEvaluateCheapPolynomialShouldSkipDatabase() {
+        String polynomialString = "x + x";
+        String polynomialKey = "x + x";
+        Polynomial polynomial = new PolynomialImpl(List.of(
+                new TermImpl(1, 1),
+                new TermImpl(1, 1)
+        ));
+        String simplifiedPolynomialString = "2*x";
+        Polynomial simplifiedPolynomial = new PolynomialImpl(List.of(
+                new TermImpl(1, 2)
+        ));
+        String x = "3";
+        int parsedX = 3;
+        int expected = 6;
+
+        when(polynomialCanonicalizer.canonicalize(polynomialString))
+                .thenReturn(polynomialKey);
+        when(polynomialCostModel.choosePath(polynomialString))
+                .thenReturn(CachePath.COMPUTE);
+        when(polynomialParser.parseX(x))
+                .thenReturn(parsedX);
+        when(polynomialEvaluator.evaluate(simplifiedPolynomial, parsedX))
+                .thenReturn(expected);
         when(polynomialParser.parsePolynomial(polynomialString))
                 .thenReturn(polynomial);
         when(polynomialMapper.mapPolynomialToString(simplifiedPolynomial))
                 .thenReturn(simplifiedPolynomialString);
+        when(polynomialCodec.encode(simplifiedPolynomial))
+                .thenReturn(SIMPLIFIED_POLYNOMIAL_BINARY);
+
+        int actual = polynomialProcessor.evaluate(polynomialString, x);
+
+        verify(polynomialCache, times(1))
+                .putEvaluation(polynomialKey, x, expected);
+        verifyNoInteractions(polynomialRepository, polynomialWriter, polynomialRequestCoalescer);
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void testEvaluateMemoryCachedCorrectPolynomialAndX() {
+        String polynomialString = "2*x^2 + 3*x - 5 + x^2 + x";
+        String polynomialKey = "3*x^2 + 4*x - 5";
+        String x = "2";
+        int expected = 15;
+
+        when(polynomialCanonicalizer.canonicalize(polynomialString))
+                .thenReturn(polynomialKey);
+        when(polynomialCache.findEvaluation(polynomialKey, x))
+                .thenReturn(Optional.of(expected));
 
         int actual = polynomialProcessor.evaluate(polynomialString, x);
 
-        verify(evaluationRepository, times(1))
-                .save(evaluationEntity);
+        verify(polynomialRepository, times(0))
+                .findEvaluationByPolynomialKeyAndX(any(), any());
+        verify(polynomialParser, times(0))
+                .parseX(any());
+        verify(polynomialParser, times(0))
+                .parsePolynomial(any());
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void testEvaluateMemoryCachedCorrectPolynomial() {
+        String polynomialString = "2*x^2 + 3*x - 5 + x^2 + x";
+        String polynomialKey = "3*x^2 + 4*x - 5";
+        String simplifiedPolynomialString = "3*x^2 + 4*x - 5";
+
+        Polynomial simplifiedPolynomial = new PolynomialImpl(List.of(
+                new TermImpl(2, 3),
+                new TermImpl(1, 4),
+                new TermImpl(0, -5)
+        ));
+
+        String x = "2";
+        int parsedX = 2;
+        int expected = 15;
+
+        when(polynomialCanonicalizer.canonicalize(polynomialString))
+                .thenReturn(polynomialKey);
+        when(polynomialRepository.findEvaluationByPolynomialKeyAndX(polynomialKey, x))
+                .thenReturn(Optional.empty());
+        when(polynomialCache.findPolynomial(polynomialKey))
+                .thenReturn(Optional.of(new CachedPolynomial(simplifiedPolynomialString, simplifiedPolynomial)));
+        when(polynomialParser.parseX(x))
+                .thenReturn(parsedX);
+        when(polynomialEvaluator.evaluate(simplifiedPolynomial, parsedX))
+                .thenReturn(expected);
+        when(polynomialCodec.encode(simplifiedPolynomial))
+                .thenReturn(SIMPLIFIED_POLYNOMIAL_BINARY);
+
+        int actual = polynomialProcessor.evaluate(polynomialString, x);
+
+        verify(polynomialCodec, times(0))
+                .decode(any());
+        verify(polynomialWriter, times(1))
+                .writeEvaluation(new PolynomialEntity(polynomialKey, polynomialString, simplifiedPolynomialString, SIMPLIFIED_POLYNOMIAL_BINARY), x, expected);
+        verify(polynomialCache, times(1))
+                .putEvaluation(polynomialKey, x, expected);
 
         assertEquals(expected, actual);
     }
@@ -156,11 +669,14 @@ class PolynomialProcessorImplTest {
     @Test
     void testEvaluateCachedCorrectPolynomialAndX() {
         String polynomialString = "2*x^2 + 3*x - 5 + x^2 + x";
+        String polynomialKey = "3*x^2 + 4*x - 5";
         String x = "2";
         int expected = 15;
 
-        when(evaluationRepository.findByRequestPolynomialAndX(polynomialString, x))
-                .thenReturn(Optional.of(new EvaluationEntity(null, x, expected)));
+        when(polynomialCanonicalizer.canonicalize(polynomialString))
+                .thenReturn(polynomialKey);
+        when(polynomialRepository.findEvaluationByPolynomialKeyAndX(polynomialKey, x))
+                .thenReturn(Optional.of(createPolynomialEvaluationProjection(null, null, null, expected)));
 
         int actual = polynomialProcessor.evaluate(polynomialString, x);
 
@@ -177,6 +693,7 @@ class PolynomialProcessorImplTest {
     @Test
     void testEvaluateCachedCorrectPolynomial() {
         String polynomialString = "2*x^2 + 3*x - 5 + x^2 + x";
+        String polynomialKey = "3*x^2 + 4*x - 5";
         String simplifiedPolynomialString = "3*x^2 + 4*x - 5";
 
         Polynomial simplifiedPolynomial = new PolynomialImpl(List.of(
@@ -185,48 +702,236 @@ class PolynomialProcessorImplTest {
                 new TermImpl(0, -5)
         ));
 
-        PolynomialEntity polynomialEntity = new PolynomialEntity(polynomialString, simplifiedPolynomialString);
-
         String x = "2";
         int parsedX = 2;
         int expected = 15;
 
-        when(evaluationRepository.findByRequestPolynomialAndX(polynomialString, x))
-                .thenReturn(Optional.empty());
+        when(polynomialCanonicalizer.canonicalize(polynomialString))
+                .thenReturn(polynomialKey);
+        when(polynomialRepository.findEvaluationByPolynomialKeyAndX(polynomialKey, x))
+                .thenReturn(Optional.of(createPolynomialEvaluationProjection(simplifiedPolynomialString, SIMPLIFIED_POLYNOMIAL_BINARY, null, null)));
         when(polynomialParser.parseX(x))
                 .thenReturn(parsedX);
-        when(polynomialParser.parsePolynomial(simplifiedPolynomialString))
+        when(polynomialEvaluator.evaluate(simplifiedPolynomial, parsedX))
+                .thenReturn(expected);
+        when(polynomialCodec.decode(SIMPLIFIED_POLYNOMIAL_BINARY))
                 .thenReturn(simplifiedPolynomial);
-        when(polynomialRepository.findByPolynomialRequest(polynomialString))
-                .thenReturn(Optional.of(polynomialEntity));
 
         int actual = polynomialProcessor.evaluate(polynomialString, x);
 
         verify(polynomialMapper, times(0))
                 .mapPolynomialToString(any());
-        verify(evaluationRepository, times(1))
-                .save(new EvaluationEntity(polynomialEntity, x, expected));
+        verify(polynomialWriter, times(1))
+                .writeEvaluation(polynomialKey, x, expected);
+        verify(polynomialWriter, times(0))
+                .writePolynomial(any());
 
         assertEquals(expected, actual);
     }
 
+    @Test
+    void testStreamEvaluateBatchShouldEvaluateNextChunkWhenItIsReached() {
+        String polynomialString = "x";
+        Polynomial polynomial = new PolynomialImpl(List.of(new TermImpl(1, 1)));
+        List<String> xs = IntStream.rangeClosed(0, PolynomialProcessorImpl.BATCH_CHUNK_SIZE)
+                .mapToObj(String::valueOf)
+                .toList();
+
+        when(polynomialCanonicalizer.canonicalize(polynomialString))
+                .thenReturn(polynomialString);
+        when(polynomialCostModel.choosePath(polynomialString))
+                .thenReturn(CachePath.COMPUTE);
+        when(polynomialParser.parsePolynomial(polynomialString))
+                .thenReturn(polynomial);
+        when(polynomialParser.parseX(any()))
+                .thenAnswer(invocation -> Integer.parseInt(invocation.getArgument(0)));
+        when(polynomialEvaluator.evaluate(any(Polynomial.class), any(int[].class)))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+
+        PrimitiveIterator.OfInt actual = polynomialProcessor.streamEvaluateBatch(polynomialString, xs);
+
+        verify(polynomialEvaluator, times(1))
+                .evaluate(any(Polynomial.class), any(int[].class));
+        for (int i = 0; i < PolynomialProcessorImpl.BATCH_CHUNK_SIZE; i++) {
+            assertEquals(i, actual.nextInt());
+        }
+        verify(polynomialEvaluator, times(1))
+                .evaluate(any(Polynomial.class), any(int[].class));
+        assertEquals(PolynomialProcessorImpl.BATCH_CHUNK_SIZE, actual.nextInt());
+        assertFalse(actual.hasNext());
+        verify(polynomialEvaluator, times(2))
+                .evaluate(any(Polynomial.class), any(int[].class));
+        verify(polynomialWriter, times(0))
+                .writeEvaluation(anyString(), any(), anyInt());
+    }
+
+    @Test
+    void testEvaluateBatch() {
+        String polynomialString = "2*x^2 + 3*x - 5 + x^2 + x";
+        String polynomialKey = "3*x^2 + 4*x - 5";
+        Polynomial polynomial = new PolynomialImpl(List.of(
+                new TermImpl(2, 2),
+                new TermImpl(1, 3),
+                new TermImpl(0, -5),
+                new TermImpl(2, 1),
+                new TermImpl(1, 1)
+        ));
+        String simplifiedPolynomialString = "3*x^2 + 4*x - 5";
+        Polynomial simplifiedPolynomial = new PolynomialImpl(List.of(
+                new TermImpl(2, 3),
+                new TermImpl(1, 4),
+                new TermImpl(0, -5)
+        ));
+        List<String> xs = List.of("1", "2", "3", "1");
+        PolynomialEntity polynomialEntity = new PolynomialEntity(polynomialKey, polynomialString, simplifiedPolynomialString, SIMPLIFIED_POLYNOMIAL_BINARY);
+
+        when(polynomialCanonicalizer.canonicalize(polynomialString))
+                .thenReturn(polynomialKey);
+        when(polynomialCache.findEvaluation(polynomialKey, "1"))
+                .thenReturn(Optional.of(2));
+        when(evaluationRepository.findAllByPolynomialKeyAndXIn(polynomialKey, Set.of("2", "3")))
+                .thenReturn(List.of(new EvaluationEntity(polynomialEntity, "2", 15)));
+        when(polynomialRepository.findByPolynomialKey(polynomialKey))
+                .thenReturn(Optional.empty());
+        when(polynomialParser.parseX("3"))
+                .thenReturn(3);
+        when(polynomialParser.parsePolynomial(polynomialString))
+                .thenReturn(polynomial);
+        when(polynomialMapper.mapPolynomialToString(simplifiedPolynomial))
+                .thenReturn(simplifiedPolynomialString);
+        when(polynomialCodec.encode(simplifiedPolynomial))
+                .thenReturn(SIMPLIFIED_POLYNOMIAL_BINARY);
+        when(polynomialEvaluator.evaluate(simplifiedPolynomial, new int[]{3}))
+                .thenReturn(new int[]{34});
+
+        int[] actual = polynomialProcessor.evaluateBatch(polynomialString, xs);
+
+        verify(polynomialWriter, times(1))
+                .writePolynomial(polynomialEntity);
+        verify(polynomialWriter, times(1))
+                .writeEvaluation(polynomialEntity, "3", 34);
+        verify(polynomialCache, times(1))
+                .putEvaluation(polynomialKey, "3", 34);
+        verify(polynomialParser, times(0))
+                .parseX("2");
+
+        assertArrayEquals(new int[]{2, 15, 34, 2}, actual);
+    }
+
+    @Test
+    void testEvaluateBatchOfCheapPolynomialShouldSkipDatabase() {
+        String polynomialString = "x + x";
+        String polynomialKey = "2*x";
+        Polynomial polynomial = new PolynomialImpl(List.of(
+                new TermImpl(1, 1),
+                new TermImpl(1, 1)
+        ));
+        String simplifiedPolynomialString = "2*x";
+        Polynomial simplifiedPolynomial = new PolynomialImpl(List.of(
+                new TermImpl(1, 2)
+        ));
+
+        when(polynomialCanonicalizer.canonicalize(polynomialString))
+                .thenReturn(polynomialKey);
+        when(polynomialCostModel.choosePath(polynomialString))
+                .thenReturn(CachePath.COMPUTE);
+        when(polynomialParser.parseX("1"))
+                .thenReturn(1);
+        when(polynomialParser.parseX("2"))
+                .thenReturn(2);
+        when(polynomialParser.parsePolynomial(polynomialString))
+                .thenReturn(polynomial);
+        when(polynomialMapper.mapPolynomialToString(simplifiedPolynomial))
+                .thenReturn(simplifiedPolynomialString);
+        when(polynomialCodec.encode(simplifiedPolynomial))
+                .thenReturn(SIMPLIFIED_POLYNOMIAL_BINARY);
+        when(polynomialEvaluator.evaluate(simplifiedPolynomial, new int[]{1, 2}))
+                .thenReturn(new int[]{2, 4});
+
+        int[] actual = polynomialProcessor.evaluateBatch(polynomialString, List.of("1", "2"));
+
+        verifyNoInteractions(evaluationRepository, polynomialRepository, polynomialWriter);
+        verify(polynomialCache, times(1))
+                .putEvaluation(polynomialKey, "2", 4);
+
+        assertArrayEquals(new int[]{2, 4}, actual);
+    }
+
+    @Test
+    void testEvaluateRangeCachedCorrectPolynomial() {
+        String polynomialString = "2*x^2 + 3*x - 5 + x^2 + x";
+        String polynomialKey = "3*x^2 + 4*x - 5";
+        String simplifiedPolynomialString = "3*x^2 + 4*x - 5";
+        Polynomial simplifiedPolynomial = new PolynomialImpl(List.of(
+                new TermImpl(2, 3),
+                new TermImpl(1, 4),
+                new TermImpl(0, -5)
+        ));
+        PolynomialEntity polynomialEntity = new PolynomialEntity(polynomialKey, polynomialString, simplifiedPolynomialString, SIMPLIFIED_POLYNOMIAL_BINARY);
+        PrimitiveIterator.OfInt expectedResults = IntStream.of(2, 34).iterator();
+
+        when(polynomialParser.parseX("1"))
+                .thenReturn(1);
+        when(polynomialParser.parseX("3"))
+                .thenReturn(3);
+        when(polynomialParser.parseX("2"))
+                .thenReturn(2);
+        when(polynomialCanonicalizer.canonicalize(polynomialString))
+                .thenReturn(polynomialKey);
+        when(polynomialRepository.findByPolynomialKey(polynomialKey))
+                .thenReturn(Optional.of(polynomialEntity));
+        when(polynomialCodec.decode(SIMPLIFIED_POLYNOMIAL_BINARY))
+                .thenReturn(simplifiedPolynomial);
+        when(polynomialEvaluator.evaluateRange(simplifiedPolynomial, 1, 3, 2))
+                .thenReturn(expectedResults);
+
+        RangeEvaluation actual = polynomialProcessor.evaluateRange(polynomialString, "1", "3", "2");
+
+        verify(polynomialParser, times(0))
+                .parsePolynomial(any());
+        verify(polynomialWriter, times(0))
+                .writePolynomial(any());
+        verify(polynomialWriter, times(0))
+                .writeEvaluation(anyString(), any(), anyInt());
+        verify(polynomialWriter, times(0))
+                .writeEvaluation(any(PolynomialEntity.class), any(), anyInt());
+        verify(polynomialCache, times(1))
+                .putPolynomial(polynomialKey, new CachedPolynomial(simplifiedPolynomialString, simplifiedPolynomial));
+
+        assertEquals(new RangeEvaluation(1, 3, 2, expectedResults), actual);
+    }
+
+    @Test
+    void testEvaluateRangeWithIncorrectRangeShouldThrowPolynomialBaseException() {
+        when(polynomialParser.parseX("5"))
+                .thenReturn(5);
+        when(polynomialParser.parseX("1"))
+                .thenReturn(1);
+
+        PolynomialBaseException actual = assertThrows(
+                PolynomialBaseException.class,
+                () -> polynomialProcessor.evaluateRange("x", "5", "1", "1")
+        );
+
+        verifyNoInteractions(polynomialCanonicalizer, polynomialRepository, polynomialEvaluator);
+        assertEquals(ErrorCode.INVALID_RANGE.getCode(), actual.getErrorCode());
+        assertArrayEquals(new Object[]{"5", "1", "1"}, actual.getParameters());
+    }
+
     @Test
     void testEvaluateCachedIncorrectPolynomialShouldThrowPolynomialBaseException() {
         String polynomialString = "2.0 * x";
+        String polynomialKey = "2.0*x";
         String errorCode = "1";
 
         String x = "2";
 
-        PolynomialEntity polynomialEntity = new PolynomialEntity();
-        polynomialEntity.setPolynomialRequest(polynomialString);
-        polynomialEntity.setErrorCode(errorCode);
-
         PolynomialBaseException expected = new PolynomialBaseException(ErrorCode.UNSUPPORTED_POLYNOMIAL_TYPE);
 
-        when(evaluationRepository.findByRequestPolynomialAndX(polynomialString, x))
-                .thenReturn(Optional.empty());
-        when(polynomialRepository.findByPolynomialRequest(polynomialString))
-                .thenReturn(Optional.of(polynomialEntity));
+        when(polynomialCanonicalizer.canonicalize(polynomialString))
+                .thenReturn(polynomialKey);
+        when(polynomialRepository.findEvaluationByPolynomialKeyAndX(polynomialKey, x))
+                .thenReturn(Optional.of(createPolynomialEvaluationProjection(null, null, errorCode, null)));
 
         PolynomialBaseException actual = assertThrows(
                 PolynomialBaseException.class,
@@ -240,8 +945,48 @@ class PolynomialProcessorImplTest {
         verify(polynomialMapper, times(0))
                 .mapPolynomialToString(any());
 
+        verify(polynomialCache, times(1))
+                .putErrorCode(polynomialKey, errorCode);
+
         assertEquals(expected.getMessage(), actual.getMessage());
         assertEquals(1, actual.getErrorCode());
         assertNull(actual.getParameters());
     }
+
+    private PolynomialEvaluationProjection createPolynomialEvaluationProjection(String simplifiedPolynomial, byte[] simplifiedPolynomialBinary,
+                                                                               String errorCode, Integer evaluationResult) {
+        return new PolynomialEvaluationProjection() {
+            @Override
+            public String getSimplifiedPolynomial() {
+                return simplifiedPolynomial;
+            }
+
+            @Override
+            public byte[] getSimplifiedPolynomialBinary() {
+                return simplifiedPolynomialBinary;
+            }
+
+            @Override
+            public String getErrorCode() {
+                return errorCode;
+            }
+
+            @Override
+            public Integer getEvaluationResult() {
+                return evaluationResult;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private void mockSequentialComputation() {
+        when(polynomialComputationExecutor.mapInParallel(anyList(), any()))
+                .thenAnswer(invocation -> {
+                    List<Object> items = invocation.getArgument(0);
+                    Function<Object, Object> mapper = invocation.getArgument(1);
+                    return items.stream()
+                            .map(mapper)
+                            .toList();
+                });
+    }
 }
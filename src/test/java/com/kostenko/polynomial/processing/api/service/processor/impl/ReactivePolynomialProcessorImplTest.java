@@ -0,0 +1,478 @@
+package com.kostenko.polynomial.processing.api.service.processor.impl;
+
+import com.kostenko.polynomial.processing.api.exception.ErrorCode;
+import com.kostenko.polynomial.processing.api.exception.PolynomialBaseException;
+import com.kostenko.polynomial.processing.api.exception.parser.impl.PolynomialParserPolynomialRelatedException;
+import com.kostenko.polynomial.processing.api.model.Polynomial;
+import com.kostenko.polynomial.processing.api.model.impl.PolynomialImpl;
+import com.kostenko.polynomial.processing.api.model.impl.TermImpl;
+import com.kostenko.polynomial.processing.api.repository.reactive.ReactiveEvaluationRepository;
+import com.kostenko.polynomial.processing.api.repository.reactive.ReactivePolynomialRepository;
+import com.kostenko.polynomial.processing.api.repository.reactive.entity.PolynomialRecord;
+import com.kostenko.polynomial.processing.api.repository.reactive.projection.PolynomialEvaluationRecord;
+import com.kostenko.polynomial.processing.api.service.cache.CachedPolynomial;
+import com.kostenko.polynomial.processing.api.service.cache.PolynomialCache;
+import com.kostenko.polynomial.processing.api.service.canonicalizer.PolynomialCanonicalizer;
+import com.kostenko.polynomial.processing.api.service.codec.PolynomialCodec;
+import com.kostenko.polynomial.processing.api.service.cost.CachePath;
+import com.kostenko.polynomial.processing.api.service.cost.PolynomialCostModel;
+import com.kostenko.polynomial.processing.api.service.evaluator.PolynomialEvaluator;
+import com.kostenko.polynomial.processing.api.service.executor.PolynomialComputationExecutor;
+import com.kostenko.polynomial.processing.api.service.mapper.PolynomialMapper;
+import com.kostenko.polynomial.processing.api.service.metrics.PolynomialMetrics;
+import com.kostenko.polynomial.processing.api.service.metrics.impl.PolynomialMetricsImpl;
+import com.kostenko.polynomial.processing.api.service.parser.PolynomialParser;
+import com.kostenko.polynomial.processing.api.service.processor.SimplificationResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactivePolynomialProcessorImplTest {
+    private static final byte[] SIMPLIFIED_POLYNOMIAL_BINARY = {1, 3, 4, 6, 1, 8, 9};
+
+    @Mock
+    private PolynomialParser polynomialParser;
+    @Mock
+    private PolynomialMapper polynomialMapper;
+    @Mock
+    private PolynomialCodec polynomialCodec;
+    @Mock
+    private PolynomialCanonicalizer polynomialCanonicalizer;
+    @Mock
+    private PolynomialEvaluator polynomialEvaluator;
+    @Mock
+    private PolynomialComputationExecutor polynomialComputationExecutor;
+    @Mock
+    private PolynomialCostModel polynomialCostModel;
+
+    @Mock
+    private ReactivePolynomialRepository polynomialRepository;
+    @Mock
+    private ReactiveEvaluationRepository evaluationRepository;
+
+    @Mock
+    private PolynomialCache polynomialCache;
+
+    private final ExecutorService computationExecutor = Executors.newSingleThreadExecutor();
+    private final PolynomialMetrics polynomialMetrics = new PolynomialMetricsImpl(new SimpleMeterRegistry());
+
+    private ReactivePolynomialProcessorImpl polynomialProcessor;
+
+    @BeforeEach
+    void createProcessor() {
+        when(polynomialComputationExecutor.executor())
+                .thenReturn(computationExecutor);
+        lenient().when(polynomialCostModel.choosePath(any()))
+                .thenReturn(CachePath.LOOKUP);
+        polynomialProcessor = new ReactivePolynomialProcessorImpl(
+                polynomialParser,
+                polynomialMapper,
+                polynomialCodec,
+                polynomialCanonicalizer,
+                polynomialEvaluator,
+                polynomialComputationExecutor,
+                polynomialMetrics,
+                polynomialCostModel,
+                polynomialRepository,
+                evaluationRepository,
+                polynomialCache
+        );
+    }
+
+    @AfterEach
+    void shutdownComputationExecutor() {
+        computationExecutor.shutdownNow();
+    }
+
+    @Test
+    void testSimplify() {
+        String polynomialString = "2*x^2 + 3*x - 5 + x^2 + x";
+        String polynomialKey = "3*x^2 + 4*x - 5";
+        Polynomial polynomial = new PolynomialImpl(List.of(
+                new TermImpl(2, 2),
+                new TermImpl(1, 3),
+                new TermImpl(0, -5),
+                new TermImpl(2, 1),
+                new TermImpl(1, 1)
+        ));
+        String simplifiedPolynomialString = "3*x^2 + 4*x - 5";
+        Polynomial simplifiedPolynomial = new PolynomialImpl(List.of(
+                new TermImpl(2, 3),
+                new TermImpl(1, 4),
+                new TermImpl(0, -5)
+        ));
+
+        when(polynomialCanonicalizer.canonicalize(polynomialString))
+                .thenReturn(polynomialKey);
+        when(polynomialRepository.findByPolynomialKey(polynomialKey))
+                .thenReturn(Mono.empty());
+        when(polynomialParser.parsePolynomial(polynomialString))
+                .thenReturn(polynomial);
+        when(polynomialMapper.mapPolynomialToString(simplifiedPolynomial))
+                .thenReturn(simplifiedPolynomialString);
+        when(polynomialCodec.encode(simplifiedPolynomial))
+                .thenReturn(SIMPLIFIED_POLYNOMIAL_BINARY);
+        when(polynomialRepository.insertIfAbsent(polynomialKey, polynomialString, simplifiedPolynomialString, SIMPLIFIED_POLYNOMIAL_BINARY, null))
+                .thenReturn(Mono.just(1));
+
+        StepVerifier.create(polynomialProcessor.simplify(polynomialString))
+                .expectNext(simplifiedPolynomialString)
+                .verifyComplete();
+
+        verify(polynomialCache, times(1))
+                .putPolynomial(polynomialKey, new CachedPolynomial(simplifiedPolynomialString, simplifiedPolynomial));
+        verify(polynomialRepository, times(1))
+                .insertIfAbsent(polynomialKey, polynomialString, simplifiedPolynomialString, SIMPLIFIED_POLYNOMIAL_BINARY, null);
+    }
+
+    @Test
+    void testSimplifyCheapPolynomialSkipsDatabase() {
+        String polynomialString = "x + x";
+        String polynomialKey = "2*x";
+        Polynomial polynomial = new PolynomialImpl(List.of(
+                new TermImpl(1, 1),
+                new TermImpl(1, 1)
+        ));
+        Polynomial simplifiedPolynomial = new PolynomialImpl(List.of(
+                new TermImpl(1, 2)
+        ));
+
+        when(polynomialCanonicalizer.canonicalize(polynomialString))
+                .thenReturn(polynomialKey);
+        when(polynomialCostModel.choosePath(polynomialString))
+                .thenReturn(CachePath.COMPUTE);
+        when(polynomialParser.parsePolynomial(polynomialString))
+                .thenReturn(polynomial);
+        when(polynomialMapper.mapPolynomialToString(simplifiedPolynomial))
+                .thenReturn(polynomialKey);
+        when(polynomialCodec.encode(simplifiedPolynomial))
+                .thenReturn(SIMPLIFIED_POLYNOMIAL_BINARY);
+
+        StepVerifier.create(polynomialProcessor.simplify(polynomialString))
+                .expectNext(polynomialKey)
+                .verifyComplete();
+
+        verify(polynomialCache, times(1))
+                .putPolynomial(polynomialKey, new CachedPolynomial(polynomialKey, simplifiedPolynomial));
+        verifyNoInteractions(polynomialRepository, evaluationRepository);
+    }
+
+    @Test
+    void testSimplifyMemoryCachedCorrectPolynomial() {
+        String polynomialString = "2*x^2 + 3*x - 5 + x^2 + x";
+        String polynomialKey = "3*x^2 + 4*x - 5";
+        String simplifiedPolynomialString = "3*x^2 + 4*x - 5";
+        Polynomial simplifiedPolynomial = new PolynomialImpl(List.of(
+                new TermImpl(2, 3),
+                new TermImpl(1, 4),
+                new TermImpl(0, -5)
+        ));
+
+        when(polynomialCanonicalizer.canonicalize(polynomialString))
+                .thenReturn(polynomialKey);
+        when(polynomialCache.findPolynomial(polynomialKey))
+                .thenReturn(Optional.of(new CachedPolynomial(simplifiedPolynomialString, simplifiedPolynomial)));
+
+        StepVerifier.create(polynomialProcessor.simplify(polynomialString))
+                .expectNext(simplifiedPolynomialString)
+                .verifyComplete();
+
+        verify(polynomialRepository, times(0))
+                .findByPolynomialKey(any());
+        verify(polynomialParser, times(0))
+                .parsePolynomial(any());
+    }
+
+    @Test
+    void testSimplifyCachedCorrectPolynomial() {
+        String polynomialString = "2*x^2 + 3*x - 5 + x^2 + x";
+        String polynomialKey = "3*x^2 + 4*x - 5";
+        String simplifiedPolynomialString = "3*x^2 + 4*x - 5";
+        Polynomial simplifiedPolynomial = new PolynomialImpl(List.of(
+                new TermImpl(2, 3),
+                new TermImpl(1, 4),
+                new TermImpl(0, -5)
+        ));
+
+        when(polynomialCanonicalizer.canonicalize(polynomialString))
+                .thenReturn(polynomialKey);
+        when(polynomialRepository.findByPolynomialKey(polynomialKey))
+                .thenReturn(Mono.just(new PolynomialRecord(1L, polynomialKey, null, polynomialString,
+                        simplifiedPolynomialString, SIMPLIFIED_POLYNOMIAL_BINARY, null)));
+        when(polynomialCodec.decode(SIMPLIFIED_POLYNOMIAL_BINARY))
+                .thenReturn(simplifiedPolynomial);
+
+        StepVerifier.create(polynomialProcessor.simplify(polynomialString))
+                .expectNext(simplifiedPolynomialString)
+                .verifyComplete();
+
+        verify(polynomialParser, times(0))
+                .parsePolynomial(any());
+        verify(polynomialRepository, times(0))
+                .insertIfAbsent(any(), any(), any(), any(), any());
+        verify(polynomialCache, times(1))
+                .putPolynomial(polynomialKey, new CachedPolynomial(simplifiedPolynomialString, simplifiedPolynomial));
+    }
+
+    @Test
+    void testSimplifyCachedIncorrectPolynomialShouldThrowPolynomialBaseException() {
+        String polynomialString = "x^2*2";
+        String polynomialKey = "x^2*2";
+        String term = "+x^2*2";
+        String errorCode = "5 +x^2*2";
+
+        when(polynomialCanonicalizer.canonicalize(polynomialString))
+                .thenReturn(polynomialKey);
+        when(polynomialRepository.findByPolynomialKey(polynomialKey))
+                .thenReturn(Mono.just(new PolynomialRecord(1L, polynomialKey, null, polynomialString, null, null, errorCode)));
+
+        StepVerifier.create(polynomialProcessor.simplify(polynomialString))
+                .expectErrorSatisfies(actual -> {
+                    PolynomialBaseException exception = assertInstanceOf(PolynomialBaseException.class, actual);
+                    assertEquals(5, exception.getErrorCode());
+                    assertArrayEquals(new Object[]{term}, exception.getParameters());
+                })
+                .verify();
+
+        verify(polynomialCache, times(1))
+                .putErrorCode(polynomialKey, errorCode);
+    }
+
+    @Test
+    void testSimplifyIncorrectPolynomialShouldSaveErrorCode() {
+        String polynomialString = "x^2*2";
+        String polynomialKey = "x^2*2";
+        String term = "+x^2*2";
+        String errorCode = "5 +x^2*2";
+
+        PolynomialParserPolynomialRelatedException exception =
+                new PolynomialParserPolynomialRelatedException(ErrorCode.IMPOSSIBLE_TO_PARSE_DEGREE, term);
+        exception.setPolynomialString(polynomialString);
+
+        when(polynomialCanonicalizer.canonicalize(polynomialString))
+                .thenReturn(polynomialKey);
+        when(polynomialRepository.findByPolynomialKey(polynomialKey))
+                .thenReturn(Mono.empty());
+        when(polynomialParser.parsePolynomial(polynomialString))
+                .thenThrow(exception);
+        when(polynomialRepository.insertIfAbsent(polynomialKey, polynomialString, null, null, errorCode))
+                .thenReturn(Mono.just(1));
+
+        StepVerifier.create(polynomialProcessor.simplify(polynomialString))
+                .expectErrorMatches(actual -> actual == exception)
+                .verify();
+
+        verify(polynomialCache, times(1))
+                .putErrorCode(polynomialKey, errorCode);
+        verify(polynomialRepository, times(1))
+                .insertIfAbsent(polynomialKey, polynomialString, null, null, errorCode);
+    }
+
+    @Test
+    void testSimplifyBatch() {
+        String correctPolynomialString = "x + x";
+        String correctPolynomialKey = "2*x";
+        String incorrectPolynomialString = "2*2";
+        String incorrectPolynomialKey = "2*2";
+        String incorrectPolynomialErrorCode = "3 +2*2";
+        String simplifiedPolynomialString = "2*x";
+        Polynomial simplifiedPolynomial = new PolynomialImpl(List.of(new TermImpl(1, 2)));
+
+        when(polynomialCanonicalizer.canonicalize(correctPolynomialString))
+                .thenReturn(correctPolynomialKey);
+        when(polynomialCanonicalizer.canonicalize(incorrectPolynomialString))
+                .thenReturn(incorrectPolynomialKey);
+        when(polynomialCache.findPolynomial(correctPolynomialKey))
+                .thenReturn(Optional.of(new CachedPolynomial(simplifiedPolynomialString, simplifiedPolynomial)));
+        when(polynomialCache.findErrorCode(incorrectPolynomialKey))
+                .thenReturn(Optional.of(incorrectPolynomialErrorCode));
+
+        StepVerifier.create(polynomialProcessor.simplifyBatch(List.of(incorrectPolynomialString, correctPolynomialString)))
+                .assertNext(result -> {
+                    assertNull(result.simplifiedPolynomial());
+                    assertEquals(3, result.errorCode());
+                })
+                .expectNext(SimplificationResult.simplified(simplifiedPolynomialString))
+                .verifyComplete();
+    }
+
+    @Test
+    void testEvaluation() {
+        String polynomialString = "2*x^2 + 3*x - 5 + x^2 + x";
+        String polynomialKey = "3*x^2 + 4*x - 5";
+        Polynomial polynomial = new PolynomialImpl(List.of(
+                new TermImpl(2, 2),
+                new TermImpl(1, 3),
+                new TermImpl(0, -5),
+                new TermImpl(2, 1),
+                new TermImpl(1, 1)
+        ));
+        String simplifiedPolynomialString = "3*x^2 + 4*x - 5";
+        Polynomial simplifiedPolynomial = new PolynomialImpl(List.of(
+                new TermImpl(2, 3),
+                new TermImpl(1, 4),
+                new TermImpl(0, -5)
+        ));
+        String x = "2";
+
+        when(polynomialCanonicalizer.canonicalize(polynomialString))
+                .thenReturn(polynomialKey);
+        when(polynomialRepository.findEvaluationByPolynomialKeyAndX(polynomialKey, x))
+                .thenReturn(Mono.empty());
+        when(polynomialParser.parseX(x))
+                .thenReturn(2);
+        when(polynomialParser.parsePolynomial(polynomialString))
+                .thenReturn(polynomial);
+        when(polynomialMapper.mapPolynomialToString(simplifiedPolynomial))
+                .thenReturn(simplifiedPolynomialString);
+        when(polynomialCodec.encode(simplifiedPolynomial))
+                .thenReturn(SIMPLIFIED_POLYNOMIAL_BINARY);
+        when(polynomialEvaluator.evaluate(simplifiedPolynomial, 2))
+                .thenReturn(15);
+        when(evaluationRepository.insertIfAbsentWithPolynomial(polynomialKey, polynomialString, simplifiedPolynomialString,
+                SIMPLIFIED_POLYNOMIAL_BINARY, x, 15))
+                .thenReturn(Mono.just(1L));
+
+        StepVerifier.create(polynomialProcessor.evaluate(polynomialString, x))
+                .expectNext(15)
+                .verifyComplete();
+
+        verify(polynomialCache, times(1))
+                .putEvaluation(polynomialKey, x, 15);
+        verify(polynomialRepository, times(0))
+                .insertIfAbsent(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testEvaluateMemoryCachedCorrectPolynomialAndX() {
+        String polynomialString = "2*x^2 + 3*x - 5 + x^2 + x";
+        String polynomialKey = "3*x^2 + 4*x - 5";
+        String x = "2";
+
+        when(polynomialCanonicalizer.canonicalize(polynomialString))
+                .thenReturn(polynomialKey);
+        when(polynomialCache.findEvaluation(polynomialKey, x))
+                .thenReturn(Optional.of(15));
+
+        StepVerifier.create(polynomialProcessor.evaluate(polynomialString, x))
+                .expectNext(15)
+                .verifyComplete();
+
+        verify(polynomialRepository, times(0))
+                .findEvaluationByPolynomialKeyAndX(any(), any());
+        verify(polynomialParser, times(0))
+                .parseX(any());
+    }
+
+    @Test
+    void testEvaluateCachedCorrectPolynomial() {
+        String polynomialString = "2*x^2 + 3*x - 5 + x^2 + x";
+        String polynomialKey = "3*x^2 + 4*x - 5";
+        String simplifiedPolynomialString = "3*x^2 + 4*x - 5";
+        Polynomial simplifiedPolynomial = new PolynomialImpl(List.of(
+                new TermImpl(2, 3),
+                new TermImpl(1, 4),
+                new TermImpl(0, -5)
+        ));
+        String x = "2";
+
+        when(polynomialCanonicalizer.canonicalize(polynomialString))
+                .thenReturn(polynomialKey);
+        when(polynomialRepository.findEvaluationByPolynomialKeyAndX(polynomialKey, x))
+                .thenReturn(Mono.just(new PolynomialEvaluationRecord(simplifiedPolynomialString, SIMPLIFIED_POLYNOMIAL_BINARY, null, null)));
+        when(polynomialCodec.decode(SIMPLIFIED_POLYNOMIAL_BINARY))
+                .thenReturn(simplifiedPolynomial);
+        when(polynomialParser.parseX(x))
+                .thenReturn(2);
+        when(polynomialEvaluator.evaluate(simplifiedPolynomial, 2))
+                .thenReturn(15);
+        when(evaluationRepository.insertIfAbsent(polynomialKey, x, 15))
+                .thenReturn(Mono.just(1));
+
+        StepVerifier.create(polynomialProcessor.evaluate(polynomialString, x))
+                .expectNext(15)
+                .verifyComplete();
+
+        verify(polynomialParser, times(0))
+                .parsePolynomial(any());
+        verify(evaluationRepository, times(1))
+                .insertIfAbsent(polynomialKey, x, 15);
+    }
+
+    @Test
+    void testEvaluateMemoryCachedPolynomialShouldSaveEvaluationTogetherWithPolynomial() {
+        String polynomialString = "2*x^2 + 3*x - 5 + x^2 + x";
+        String polynomialKey = "3*x^2 + 4*x - 5";
+        String simplifiedPolynomialString = "3*x^2 + 4*x - 5";
+        Polynomial simplifiedPolynomial = new PolynomialImpl(List.of(
+                new TermImpl(2, 3),
+                new TermImpl(1, 4),
+                new TermImpl(0, -5)
+        ));
+        String x = "2";
+
+        when(polynomialCanonicalizer.canonicalize(polynomialString))
+                .thenReturn(polynomialKey);
+        when(polynomialCache.findPolynomial(polynomialKey))
+                .thenReturn(Optional.of(new CachedPolynomial(simplifiedPolynomialString, simplifiedPolynomial)));
+        when(polynomialCodec.encode(simplifiedPolynomial))
+                .thenReturn(SIMPLIFIED_POLYNOMIAL_BINARY);
+        when(polynomialParser.parseX(x))
+                .thenReturn(2);
+        when(polynomialEvaluator.evaluate(simplifiedPolynomial, 2))
+                .thenReturn(15);
+        when(evaluationRepository.insertIfAbsentWithPolynomial(polynomialKey, polynomialString, simplifiedPolynomialString,
+                SIMPLIFIED_POLYNOMIAL_BINARY, x, 15))
+                .thenReturn(Mono.just(1L));
+
+        StepVerifier.create(polynomialProcessor.evaluate(polynomialString, x))
+                .expectNext(15)
+                .verifyComplete();
+
+        verify(polynomialRepository, times(0))
+                .findEvaluationByPolynomialKeyAndX(any(), any());
+        verify(evaluationRepository, times(0))
+                .insertIfAbsent(any(), any(), anyInt());
+    }
+
+    @Test
+    void testEvaluateCachedIncorrectPolynomialShouldThrowPolynomialBaseException() {
+        String polynomialString = "2.0 * x";
+        String polynomialKey = "2.0*x";
+        String errorCode = "1";
+        String x = "2";
+
+        when(polynomialCanonicalizer.canonicalize(polynomialString))
+                .thenReturn(polynomialKey);
+        when(polynomialRepository.findEvaluationByPolynomialKeyAndX(polynomialKey, x))
+                .thenReturn(Mono.just(new PolynomialEvaluationRecord(null, null, errorCode, null)));
+
+        StepVerifier.create(polynomialProcessor.evaluate(polynomialString, x))
+                .expectErrorSatisfies(actual -> {
+                    PolynomialBaseException exception = assertInstanceOf(PolynomialBaseException.class, actual);
+                    assertEquals(1, exception.getErrorCode());
+                    assertNull(exception.getParameters());
+                })
+                .verify();
+
+        verify(polynomialParser, times(0))
+                .parseX(any());
+        verify(polynomialCache, times(1))
+                .putErrorCode(polynomialKey, errorCode);
+    }
+}
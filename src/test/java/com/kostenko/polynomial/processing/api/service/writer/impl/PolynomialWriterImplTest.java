@@ -0,0 +1,241 @@
+package com.kostenko.polynomial.processing.api.service.writer.impl;
+
+import com.kostenko.polynomial.processing.api.config.PolynomialWriteBehindProperties;
+import com.kostenko.polynomial.processing.api.repository.PolynomialBatchRepository;
+import com.kostenko.polynomial.processing.api.repository.entity.EvaluationEntity;
+import com.kostenko.polynomial.processing.api.repository.entity.PolynomialEntity;
+import com.kostenko.polynomial.processing.api.service.filter.PolynomialKeyFilter;
+import com.kostenko.polynomial.processing.api.service.writer.WriteBehindOverflowStrategy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PolynomialWriterImplTest {
+    private static final String POLYNOMIAL_KEY = "3*x^2 + 4*x - 5";
+
+    @Mock
+    private PolynomialBatchRepository polynomialBatchRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private PolynomialKeyFilter polynomialKeyFilter;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PolynomialWriterImpl polynomialWriter;
+
+    @AfterEach
+    void shutdown() {
+        polynomialWriter.shutdown();
+    }
+
+    @Test
+    void flushShouldWritePolynomialsAndEvaluationsAsOneStatementPerTable() {
+        polynomialWriter = createWriter(100, WriteBehindOverflowStrategy.BLOCK);
+        PolynomialEntity polynomialEntity = createPolynomialEntity();
+
+        when(polynomialBatchRepository.insertPolynomialsIfAbsent(any()))
+                .thenReturn(1);
+        when(polynomialBatchRepository.insertEvaluationsIfAbsent(any()))
+                .thenReturn(2);
+
+        polynomialWriter.writePolynomial(polynomialEntity);
+        polynomialWriter.writePolynomial(polynomialEntity);
+        polynomialWriter.writeEvaluation(POLYNOMIAL_KEY, "2", 15);
+        polynomialWriter.writeEvaluation(POLYNOMIAL_KEY, "2", 15);
+        polynomialWriter.writeEvaluation(POLYNOMIAL_KEY, "3", 34);
+        polynomialWriter.flush();
+
+        verify(polynomialBatchRepository, times(1))
+                .insertPolynomialsIfAbsent(argThat(polynomialEntities -> List.copyOf(polynomialEntities).equals(List.of(polynomialEntity))));
+        verify(polynomialBatchRepository, times(1))
+                .insertEvaluationsIfAbsent(argThat(evaluationEntities -> evaluationEntities.stream()
+                        .map(evaluationEntity -> evaluationEntity.getPolynomialEntity().getPolynomialKey() + " " +
+                                evaluationEntity.getEvaluationRequest() + " " + evaluationEntity.getEvaluationResult())
+                        .toList()
+                        .equals(List.of(POLYNOMIAL_KEY + " 2 15", POLYNOMIAL_KEY + " 3 34"))));
+        assertEquals(3, meterRegistry.get("polynomial.write.behind.written").counter().count());
+        verify(polynomialKeyFilter, times(1))
+                .put(POLYNOMIAL_KEY);
+    }
+
+    @Test
+    void flushShouldWriteMissingPolynomialTogetherWithEvaluationCarryingIt() {
+        polynomialWriter = createWriter(100, WriteBehindOverflowStrategy.BLOCK);
+        PolynomialEntity polynomialEntity = createPolynomialEntity();
+
+        polynomialWriter.writeEvaluation(polynomialEntity, "2", 15);
+        polynomialWriter.writeEvaluation(polynomialEntity, "3", 34);
+        polynomialWriter.flush();
+
+        verify(polynomialBatchRepository, times(1))
+                .insertPolynomialsIfAbsent(argThat(polynomialEntities -> List.copyOf(polynomialEntities).equals(List.of(polynomialEntity))));
+        verify(polynomialBatchRepository, times(1))
+                .insertEvaluationsIfAbsent(List.of(
+                        new EvaluationEntity(polynomialEntity, "2", 15),
+                        new EvaluationEntity(polynomialEntity, "3", 34)
+                ));
+        verify(polynomialKeyFilter, times(1))
+                .put(POLYNOMIAL_KEY);
+    }
+
+    @Test
+    void flushShouldNotCountAlreadyExistingEntitiesAsWritten() {
+        polynomialWriter = createWriter(100, WriteBehindOverflowStrategy.BLOCK);
+
+        when(polynomialBatchRepository.insertEvaluationsIfAbsent(any()))
+                .thenReturn(0);
+
+        polynomialWriter.writeEvaluation(POLYNOMIAL_KEY, "2", 15);
+        polynomialWriter.flush();
+
+        verify(polynomialBatchRepository, times(1))
+                .insertEvaluationsIfAbsent(any());
+        verifyNoInteractions(polynomialKeyFilter);
+        assertEquals(0, meterRegistry.get("polynomial.write.behind.written").counter().count());
+    }
+
+    @Test
+    void failedBatchShouldBeWrittenEntryByEntry() {
+        polynomialWriter = createWriter(100, WriteBehindOverflowStrategy.BLOCK);
+        PolynomialEntity polynomialEntity = createPolynomialEntity();
+
+        when(polynomialBatchRepository.insertEvaluationsIfAbsent(any()))
+                .thenThrow(new DataIntegrityViolationException("evaluation_result"))
+                .thenAnswer(invocation -> invocation.<Collection<?>>getArgument(0).size());
+
+        polynomialWriter.writePolynomial(polynomialEntity);
+        polynomialWriter.writeEvaluation(POLYNOMIAL_KEY, "2", 15);
+        polynomialWriter.writeEvaluation(POLYNOMIAL_KEY, "3", 34);
+        polynomialWriter.flush();
+
+        verify(polynomialBatchRepository, times(4))
+                .insertEvaluationsIfAbsent(any());
+        assertEquals(2, meterRegistry.get("polynomial.write.behind.written").counter().count());
+    }
+
+    @Test
+    void writeToFullQueueWithDropStrategyShouldDropWrite() throws InterruptedException {
+        polynomialWriter = createWriter(1, WriteBehindOverflowStrategy.DROP);
+        CountDownLatch release = blockFirstWrite();
+
+        polynomialWriter.writeEvaluation(POLYNOMIAL_KEY, "2", 15);
+        polynomialWriter.writeEvaluation(POLYNOMIAL_KEY, "3", 34);
+        release.countDown();
+        polynomialWriter.flush();
+
+        assertEquals(1, meterRegistry.get("polynomial.write.behind.dropped").counter().count());
+        verify(polynomialBatchRepository, times(2))
+                .insertEvaluationsIfAbsent(any());
+    }
+
+    @Test
+    void writeToFullQueueWithInlineStrategyShouldWriteOnCallerThread() throws InterruptedException {
+        polynomialWriter = createWriter(1, WriteBehindOverflowStrategy.INLINE);
+        CountDownLatch release = blockFirstWrite();
+
+        polynomialWriter.writeEvaluation(POLYNOMIAL_KEY, "2", 15);
+        polynomialWriter.writeEvaluation(POLYNOMIAL_KEY, "3", 34);
+
+        verify(polynomialBatchRepository, times(2))
+                .insertEvaluationsIfAbsent(any());
+
+        release.countDown();
+        polynomialWriter.flush();
+
+        assertEquals(0, meterRegistry.get("polynomial.write.behind.dropped").counter().count());
+        verify(polynomialBatchRepository, times(3))
+                .insertEvaluationsIfAbsent(any());
+    }
+
+    @Test
+    void writerShouldRunOnVirtualThreadWhenVirtualThreadsAreEnabled() {
+        polynomialWriter = new PolynomialWriterImpl(
+                new PolynomialWriteBehindProperties(100, 100, Duration.ofMillis(10), WriteBehindOverflowStrategy.BLOCK),
+                polynomialBatchRepository,
+                transactionManager,
+                polynomialKeyFilter,
+                meterRegistry,
+                new MockEnvironment().withProperty("spring.threads.virtual.enabled", "true")
+        );
+        AtomicBoolean writtenOnVirtualThread = new AtomicBoolean();
+        when(polynomialBatchRepository.insertEvaluationsIfAbsent(any())).thenAnswer(invocation -> {
+            writtenOnVirtualThread.set(Thread.currentThread().isVirtual());
+            return 1;
+        });
+
+        polynomialWriter.writeEvaluation(POLYNOMIAL_KEY, "2", 15);
+        polynomialWriter.flush();
+
+        assertTrue(writtenOnVirtualThread.get());
+    }
+
+    @Test
+    void shutdownShouldFlushQueuedWrites() {
+        polynomialWriter = new PolynomialWriterImpl(
+                new PolynomialWriteBehindProperties(100, 100, Duration.ofMinutes(1), WriteBehindOverflowStrategy.BLOCK),
+                polynomialBatchRepository,
+                transactionManager,
+                polynomialKeyFilter,
+                meterRegistry,
+                new MockEnvironment()
+        );
+        PolynomialEntity polynomialEntity = createPolynomialEntity();
+
+        polynomialWriter.writePolynomial(polynomialEntity);
+        polynomialWriter.shutdown();
+
+        verify(polynomialBatchRepository, times(1))
+                .insertPolynomialsIfAbsent(argThat(polynomialEntities -> List.copyOf(polynomialEntities).equals(List.of(polynomialEntity))));
+    }
+
+    private PolynomialWriterImpl createWriter(int queueCapacity, WriteBehindOverflowStrategy overflowStrategy) {
+        return new PolynomialWriterImpl(
+                new PolynomialWriteBehindProperties(queueCapacity, 100, Duration.ofMillis(10), overflowStrategy),
+                polynomialBatchRepository,
+                transactionManager,
+                polynomialKeyFilter,
+                meterRegistry,
+                new MockEnvironment()
+        );
+    }
+
+    private CountDownLatch blockFirstWrite() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean first = new AtomicBoolean(true);
+        when(polynomialBatchRepository.insertEvaluationsIfAbsent(any())).thenAnswer(invocation -> {
+            if (first.getAndSet(false)) {
+                started.countDown();
+                release.await();
+            }
+            return 1;
+        });
+
+        polynomialWriter.writeEvaluation(POLYNOMIAL_KEY, "1", 2);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        return release;
+    }
+
+    private PolynomialEntity createPolynomialEntity() {
+        return new PolynomialEntity(POLYNOMIAL_KEY, "2*x^2 + 3*x - 5 + x^2 + x", "3*x^2 + 4*x - 5", new byte[]{1, 3, 4, 6, 1, 8, 9});
+    }
+}